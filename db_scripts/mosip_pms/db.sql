@@ -11,3 +11,5 @@ DROP SCHEMA IF EXISTS pms CASCADE;
 CREATE SCHEMA pms;
 ALTER SCHEMA pms OWNER TO postgres;
 ALTER DATABASE mosip_pms SET search_path TO pms,pg_catalog,public;
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
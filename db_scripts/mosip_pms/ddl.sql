@@ -23,4 +23,8 @@
 \ir ddl/pms-secure_biometric_interface_h.sql
 \ir ddl/pms-tspid_seq.sql
 \ir ddl/pms-oidc_client.sql
+\ir ddl/pms-websub_event_outbox.sql
+\ir ddl/pms-websub_topic_lease.sql
+\ir ddl/pms-apikey_expiry_notification.sql
+\ir ddl/pms-scheduled_job_lease.sql
 \ir ddl/pms-fk.sql
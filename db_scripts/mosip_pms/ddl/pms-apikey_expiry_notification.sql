@@ -0,0 +1,35 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_pms
+-- Table Name 	: pms.apikey_expiry_notification
+-- Purpose    	: API Key Expiry Notification : Ledger of the expiry notices sent for the partner api keys, one per key and threshold.
+--           
+-- Create By   	: MOSIP
+-- Created Date	: Oct-2026
+-- 
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+-- ------------------------------------------------------------------------------------------
+
+-- object: pms.apikey_expiry_notification | type: TABLE --
+-- DROP TABLE IF EXISTS pms.apikey_expiry_notification CASCADE;
+CREATE TABLE pms.apikey_expiry_notification(
+	policy_api_key character varying(128) NOT NULL,
+	threshold_days integer NOT NULL,
+	valid_to_datetime timestamp NOT NULL,
+	sent_dtimes timestamp NOT NULL,
+	CONSTRAINT pk_akexn_key_days PRIMARY KEY (policy_api_key,threshold_days)
+
+);
+-- ddl-end --
+CREATE INDEX IF NOT EXISTS idx_akexn_valid_to ON pms.apikey_expiry_notification USING btree (valid_to_datetime);
+-- ddl-end --
+COMMENT ON TABLE pms.apikey_expiry_notification IS 'API Key Expiry Notification : Ledger of the expiry notices sent for the partner api keys, one per key and threshold.';
+-- ddl-end --
+COMMENT ON COLUMN pms.apikey_expiry_notification.policy_api_key IS 'Policy API Key: API key the notice was sent for';
+-- ddl-end --
+COMMENT ON COLUMN pms.apikey_expiry_notification.threshold_days IS 'Threshold Days: Number of days before expiry the notice was sent for';
+-- ddl-end --
+COMMENT ON COLUMN pms.apikey_expiry_notification.valid_to_datetime IS 'Valid To Datetime: Expiry of the api key when the notice was sent, a renewed key is notified again';
+-- ddl-end --
+COMMENT ON COLUMN pms.apikey_expiry_notification.sent_dtimes IS 'Sent DateTimestamp: Date and Timestamp when the notice was sent';
+-- ddl-end --
@@ -32,13 +32,17 @@ CREATE TABLE pms.auth_policy(
 	cr_dtimes timestamp NOT NULL,
 	upd_by character varying(256),
 	upd_dtimes timestamp,
-	is_deleted boolean DEFAULT FALSE,
+	is_deleted boolean NOT NULL DEFAULT FALSE,
 	del_dtimes timestamp,
 	CONSTRAINT pk_apol PRIMARY KEY (id),
 	CONSTRAINT uk_apol UNIQUE (policy_group_id,name)
 
 );
 -- ddl-end --
+CREATE INDEX IF NOT EXISTS idx_apol_name ON pms.auth_policy USING btree (name);
+-- ddl-end --
+CREATE INDEX IF NOT EXISTS idx_apol_name_trgm ON pms.auth_policy USING gin (lower(name) public.gin_trgm_ops);
+-- ddl-end --
 COMMENT ON TABLE pms.auth_policy IS 'Authentication Policy: The authentication policy is defined in this table. An authentication policy can be of single or a group of authentication types supported by the auth services of MOSIP application. ';
 -- ddl-end --
 COMMENT ON COLUMN pms.auth_policy.id IS 'ID: A unique identity ';
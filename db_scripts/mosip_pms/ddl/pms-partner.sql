@@ -15,13 +15,16 @@ CREATE TABLE pms.partner(
     cr_dtimes timestamp NOT NULL,
     upd_by character varying(256),
     upd_dtimes timestamp,
-    is_deleted boolean DEFAULT FALSE,
+    is_deleted boolean NOT NULL DEFAULT FALSE,
     del_dtimes timestamp,
     lang_code character varying(36),
 	logo_url character varying(256),
 	addl_info character varying,
     CONSTRAINT pk_part PRIMARY KEY (id)
 );
+CREATE INDEX IF NOT EXISTS idx_part_email_id ON pms.partner USING btree (email_id);
+CREATE INDEX IF NOT EXISTS idx_part_name ON pms.partner USING btree (name);
+CREATE INDEX IF NOT EXISTS idx_part_name_trgm ON pms.partner USING gin (lower(name) public.gin_trgm_ops);
 
 COMMENT ON TABLE pms.partner IS 'Partner: Registered external partners use the authentication services provided by MOSIP. The auth services are channeled through MISPs. This table stores the master list of partners who can self register themselves and use auth services.';
 COMMENT ON COLUMN pms.partner.id IS 'Partner ID : Unique ID generated / assigned for partner';
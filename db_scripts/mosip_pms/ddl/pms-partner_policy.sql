@@ -9,12 +9,14 @@ CREATE TABLE pms.partner_policy(
     cr_dtimes timestamp NOT NULL,
     upd_by character varying(256),
     upd_dtimes timestamp,
-    is_deleted boolean DEFAULT FALSE,
+    is_deleted boolean NOT NULL DEFAULT FALSE,
     del_dtimes timestamp,
     label character varying(36) NOT NULL,
     CONSTRAINT pk_ppol PRIMARY KEY (policy_api_key),
     CONSTRAINT uk_ppol UNIQUE (part_id,policy_id,valid_from_datetime)
 );
+CREATE INDEX IF NOT EXISTS idx_ppol_policy_id_active ON pms.partner_policy USING btree (policy_id) WHERE is_deleted = false AND is_active = true;
+CREATE INDEX IF NOT EXISTS idx_ppol_valid_to_active ON pms.partner_policy USING btree (valid_to_datetime) WHERE is_deleted = false AND is_active = true;
 
 COMMENT ON TABLE pms.partner_policy IS 'Partner Policy: Authentication policies assigned to a partner once the policy creation request is approved. An Policy API Key is generated and provided to the partner that will be used as part of auth requests.';
 COMMENT ON COLUMN pms.partner_policy.policy_api_key IS 'Policy API Key: ';
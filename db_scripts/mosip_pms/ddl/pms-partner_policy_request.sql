@@ -25,12 +25,14 @@ CREATE TABLE pms.partner_policy_request(
 	cr_dtimes timestamp NOT NULL,
 	upd_by character varying(256),
 	upd_dtimes timestamp,
-	is_deleted boolean,
+	is_deleted boolean NOT NULL DEFAULT FALSE,
 	del_dtimes timestamp,
 	CONSTRAINT pk_papr PRIMARY KEY (id)
 
 );
 -- ddl-end --
+CREATE INDEX IF NOT EXISTS idx_papr_part_policy_status ON pms.partner_policy_request USING btree (part_id, policy_id, status_code);
+-- ddl-end --
 COMMENT ON TABLE pms.partner_policy_request IS 'Partner Policy Request: Partner can self register themselves to use the auth services provided by MOSIP. The registeration requests are stored and processed through here. Once the request is approved and processed a partner is created.';
 -- ddl-end --
 COMMENT ON COLUMN pms.partner_policy_request.id IS 'Partner Policy Request ID : Unique ID generated / assigned to track the policy creation request for a partner.';
@@ -0,0 +1,30 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_pms
+-- Table Name 	: pms.scheduled_job_lease
+-- Purpose    	: Scheduled Job Lease : Lease of the scheduled jobs run by only one instance at a time.
+--           
+-- Create By   	: MOSIP
+-- Created Date	: Oct-2026
+-- 
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+-- ------------------------------------------------------------------------------------------
+
+-- object: pms.scheduled_job_lease | type: TABLE --
+-- DROP TABLE IF EXISTS pms.scheduled_job_lease CASCADE;
+CREATE TABLE pms.scheduled_job_lease(
+	job_name character varying(64) NOT NULL,
+	locked_by character varying(36),
+	locked_until timestamp,
+	CONSTRAINT pk_sjl_job_name PRIMARY KEY (job_name)
+
+);
+-- ddl-end --
+COMMENT ON TABLE pms.scheduled_job_lease IS 'Scheduled Job Lease : Lease of the scheduled jobs run by only one instance at a time.';
+-- ddl-end --
+COMMENT ON COLUMN pms.scheduled_job_lease.job_name IS 'Job Name: Name of the scheduled job';
+-- ddl-end --
+COMMENT ON COLUMN pms.scheduled_job_lease.locked_by IS 'Locked By: Instance running the job';
+-- ddl-end --
+COMMENT ON COLUMN pms.scheduled_job_lease.locked_until IS 'Locked Until: Date and Timestamp when the lease expires unless extended';
+-- ddl-end --
@@ -0,0 +1,50 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_pms
+-- Table Name 	: pms.websub_event_outbox
+-- Purpose    	: WebSub Event Outbox : Events written along with the partner / policy changes, published to the websub hub by the outbox dispatcher.
+--           
+-- Create By   	: MOSIP
+-- Created Date	: Oct-2026
+-- 
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+-- ------------------------------------------------------------------------------------------
+
+-- object: pms.websub_event_outbox | type: TABLE --
+-- DROP TABLE IF EXISTS pms.websub_event_outbox CASCADE;
+CREATE TABLE pms.websub_event_outbox(
+	id character varying(36) NOT NULL,
+	topic character varying(128) NOT NULL,
+	payload character varying NOT NULL,
+	status character varying(36) NOT NULL,
+	attempt_count integer NOT NULL DEFAULT 0,
+	next_attempt_dtimes timestamp NOT NULL,
+	last_error character varying(512),
+	cr_dtimes timestamp NOT NULL,
+	upd_dtimes timestamp,
+	CONSTRAINT pk_wseo_id PRIMARY KEY (id)
+
+);
+-- ddl-end --
+CREATE INDEX IF NOT EXISTS idx_wseo_status_topic ON pms.websub_event_outbox USING btree (status, topic, cr_dtimes);
+-- ddl-end --
+COMMENT ON TABLE pms.websub_event_outbox IS 'WebSub Event Outbox : Events written along with the partner / policy changes, published to the websub hub by the outbox dispatcher.';
+-- ddl-end --
+COMMENT ON COLUMN pms.websub_event_outbox.id IS 'ID: Event id sent to the hub';
+-- ddl-end --
+COMMENT ON COLUMN pms.websub_event_outbox.topic IS 'Topic: WebSub topic the event is published to';
+-- ddl-end --
+COMMENT ON COLUMN pms.websub_event_outbox.payload IS 'Payload: Event model in json format';
+-- ddl-end --
+COMMENT ON COLUMN pms.websub_event_outbox.status IS 'Status: PENDING until published, FAILED once all attempts are used up, holding back the later events of the topic. Published events are removed.';
+-- ddl-end --
+COMMENT ON COLUMN pms.websub_event_outbox.attempt_count IS 'Attempt Count: Number of failed attempts to publish the event';
+-- ddl-end --
+COMMENT ON COLUMN pms.websub_event_outbox.next_attempt_dtimes IS 'Next Attempt DateTimestamp: Date and Timestamp before which the event is not published again';
+-- ddl-end --
+COMMENT ON COLUMN pms.websub_event_outbox.last_error IS 'Last Error: Error of the last failed attempt';
+-- ddl-end --
+COMMENT ON COLUMN pms.websub_event_outbox.cr_dtimes IS 'Created DateTimestamp : Date and Timestamp when the record is created/inserted';
+-- ddl-end --
+COMMENT ON COLUMN pms.websub_event_outbox.upd_dtimes IS 'Updated DateTimestamp : Date and Timestamp when any of the fields in the record is updated with new values.';
+-- ddl-end --
@@ -0,0 +1,30 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_pms
+-- Table Name 	: pms.websub_topic_lease
+-- Purpose    	: WebSub Topic Lease : Lease of a websub topic, held by the one outbox dispatcher publishing its events.
+--           
+-- Create By   	: MOSIP
+-- Created Date	: Oct-2026
+-- 
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+-- ------------------------------------------------------------------------------------------
+
+-- object: pms.websub_topic_lease | type: TABLE --
+-- DROP TABLE IF EXISTS pms.websub_topic_lease CASCADE;
+CREATE TABLE pms.websub_topic_lease(
+	topic character varying(128) NOT NULL,
+	locked_by character varying(36),
+	locked_until timestamp,
+	CONSTRAINT pk_wstl_topic PRIMARY KEY (topic)
+
+);
+-- ddl-end --
+COMMENT ON TABLE pms.websub_topic_lease IS 'WebSub Topic Lease : Lease of a websub topic, held by the one outbox dispatcher publishing its events.';
+-- ddl-end --
+COMMENT ON COLUMN pms.websub_topic_lease.topic IS 'Topic: WebSub topic the events are published to';
+-- ddl-end --
+COMMENT ON COLUMN pms.websub_topic_lease.locked_by IS 'Locked By: Instance of the dispatcher publishing the events of the topic';
+-- ddl-end --
+COMMENT ON COLUMN pms.websub_topic_lease.locked_until IS 'Locked Until: Date and Timestamp when the lease expires';
+-- ddl-end --
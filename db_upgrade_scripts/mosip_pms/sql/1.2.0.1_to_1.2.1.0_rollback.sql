@@ -8,4 +8,24 @@ ALTER TABLE pms.partner_h DROP COLUMN addl_info;
 
 UPDATE pms.auth_policy
 SET policy_file_id='{"dataSharePolicies":{"typeOfShare":"direct","validForInMinutes":"30","transactionsAllowed":"2","encryptionType":"Partner Based","shareDomain":"datashare.datashare","source":"ID Repository"},"shareableAttributes":[{"attributeName":"fullName","source":[{"attribute":"fullName"}],"encrypted":true},{"attributeName":"dateOfBirth","source":[{"attribute":"dateOfBirth"}],"encrypted":false,"format":"YYYY"},{"attributeName":"gender","source":[{"attribute":"gender"}],"encrypted":false},{"attributeName":"phone","source":[{"attribute":"phone"}],"encrypted":false},{"attributeName":"email","source":[{"attribute":"email"}],"encrypted":false},{"attributeName":"addressLine1","source":[{"attribute":"addressLine1"}],"encrypted":false},{"attributeName":"addressLine2","source":[{"attribute":"addressLine2"}],"encrypted":false},{"attributeName":"addressLine3","source":[{"attribute":"addressLine3"}],"encrypted":false},{"attributeName":"region","source":[{"attribute":"region"}],"encrypted":false},{"attributeName":"province","source":[{"attribute":"province"}],"encrypted":false},{"attributeName":"city","source":[{"attribute":"city"}],"encrypted":false},{"attributeName":"UIN","source":[{"attribute":"UIN"}],"encrypted":false},{"attributeName":"PCN","source":[{"attribute":"VID","filter":[{"type":"PERPETUAL"}]}],"encrypted":false,"format":"RETRIEVE"},{"attributeName":"postalCode","source":[{"attribute":"postalCode"}],"encrypted":false},{"attributeName":"bestTwoFingers","group":"CBEFF","source":[{"attribute":"individualBiometrics","filter":[{"type":"Finger"}]}],"encrypted":false,"format":"bestTwoFingers"},{"attributeName":"Signature","source":[{"attribute":"proofOfAddress"}],"encrypted":false},{"attributeName":"biometrics","group":"CBEFF","source":[{"attribute":"individualBiometrics","filter":[{"type":"Face"},{"type":"Finger","subType":["Left Thumb","Right Thumb"]}]}],"encrypted":false,"format":"extraction"}]}'
-WHERE id='mpolicy-default-PDFCard';
\ No newline at end of file
+WHERE id='mpolicy-default-PDFCard';
+
+DROP INDEX IF EXISTS pms.idx_part_email_id;
+DROP INDEX IF EXISTS pms.idx_part_name;
+DROP INDEX IF EXISTS pms.idx_part_name_trgm;
+DROP INDEX IF EXISTS pms.idx_apol_name;
+DROP INDEX IF EXISTS pms.idx_apol_name_trgm;
+DROP INDEX IF EXISTS pms.idx_ppol_policy_id_active;
+DROP INDEX IF EXISTS pms.idx_ppol_valid_to_active;
+DROP INDEX IF EXISTS pms.idx_papr_part_policy_status;
+
+ALTER TABLE pms.partner ALTER COLUMN is_deleted DROP NOT NULL;
+ALTER TABLE pms.auth_policy ALTER COLUMN is_deleted DROP NOT NULL;
+ALTER TABLE pms.partner_policy ALTER COLUMN is_deleted DROP NOT NULL;
+ALTER TABLE pms.partner_policy_request ALTER COLUMN is_deleted DROP NOT NULL;
+ALTER TABLE pms.partner_policy_request ALTER COLUMN is_deleted DROP DEFAULT;
+
+DROP TABLE IF EXISTS pms.websub_event_outbox;
+DROP TABLE IF EXISTS pms.websub_topic_lease;
+DROP TABLE IF EXISTS pms.apikey_expiry_notification;
+DROP TABLE IF EXISTS pms.scheduled_job_lease;
@@ -8,4 +8,75 @@ ALTER TABLE pms.partner_h ADD COLUMN addl_info character varying;
 
 UPDATE pms.auth_policy
 SET  policy_file_id='{"dataSharePolicies":{"typeOfShare":"Data Share","validForInMinutes":"30","transactionsAllowed":"2","encryptionType":"Partner Based","shareDomain":"datashare.datashare","source":"ID Repository"},"shareableAttributes":[{"attributeName":"fullName","source":[{"attribute":"fullName","filter":[{"language":"eng"}]}],"encrypted":false},{"attributeName":"dateOfBirth","source":[{"attribute":"dateOfBirth"}],"encrypted":false},{"attributeName":"dob","source":[{"attribute":"dateOfBirth"}],"encrypted":false},{"attributeName":"gender","source":[{"attribute":"gender","filter":[{"language":"eng"}]}],"encrypted":false},{"attributeName":"phone","source":[{"attribute":"phone"}],"encrypted":false},{"attributeName":"email","source":[{"attribute":"email"}],"encrypted":false},{"attributeName":"addressLine1","source":[{"attribute":"addressLine1","filter":[{"language":"eng"}]}],"encrypted":false},{"attributeName":"addressLine2","source":[{"attribute":"addressLine2","filter":[{"language":"eng"}]}],"encrypted":false},{"attributeName":"addressLine3","source":[{"attribute":"addressLine3","filter":[{"language":"eng"}]}],"encrypted":false},{"attributeName":"region","source":[{"attribute":"region","filter":[{"language":"eng"}]}],"encrypted":false},{"attributeName":"province","source":[{"attribute":"province","filter":[{"language":"eng"}]}],"encrypted":false},{"attributeName":"city","source":[{"attribute":"city","filter":[{"language":"eng"}]}],"encrypted":false},{"attributeName":"UIN","source":[{"attribute":"UIN"}],"encrypted":false},{"attributeName":"postalCode","source":[{"attribute":"postalCode"}],"encrypted":false},{"attributeName":"biometrics","group":"CBEFF","source":[{"attribute":"individualBiometrics","filter":[{"type":"Face"},{"type":"Finger","subType":["Left Thumb","Right Thumb"]}]}],"encrypted":true,"format":"extraction"}]}'
-WHERE id='mpolicy-default-PDFCard';
\ No newline at end of file
+WHERE id='mpolicy-default-PDFCard';
+
+CREATE TABLE IF NOT EXISTS pms.websub_event_outbox(
+	id character varying(36) NOT NULL,
+	topic character varying(128) NOT NULL,
+	payload character varying NOT NULL,
+	status character varying(36) NOT NULL,
+	attempt_count integer NOT NULL DEFAULT 0,
+	next_attempt_dtimes timestamp NOT NULL,
+	last_error character varying(512),
+	cr_dtimes timestamp NOT NULL,
+	upd_dtimes timestamp,
+	CONSTRAINT pk_wseo_id PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS idx_wseo_status_topic ON pms.websub_event_outbox USING btree (status, topic, cr_dtimes);
+GRANT SELECT, INSERT, UPDATE, DELETE ON pms.websub_event_outbox TO pmsuser;
+
+CREATE TABLE IF NOT EXISTS pms.websub_topic_lease(
+	topic character varying(128) NOT NULL,
+	locked_by character varying(36),
+	locked_until timestamp,
+	CONSTRAINT pk_wstl_topic PRIMARY KEY (topic)
+);
+GRANT SELECT, INSERT, UPDATE, DELETE ON pms.websub_topic_lease TO pmsuser;
+
+UPDATE pms.partner SET is_deleted = false WHERE is_deleted IS NULL;
+ALTER TABLE pms.partner ALTER COLUMN is_deleted SET DEFAULT FALSE;
+ALTER TABLE pms.partner ALTER COLUMN is_deleted SET NOT NULL;
+
+UPDATE pms.auth_policy SET is_deleted = false WHERE is_deleted IS NULL;
+ALTER TABLE pms.auth_policy ALTER COLUMN is_deleted SET DEFAULT FALSE;
+ALTER TABLE pms.auth_policy ALTER COLUMN is_deleted SET NOT NULL;
+
+UPDATE pms.partner_policy SET is_deleted = false WHERE is_deleted IS NULL;
+ALTER TABLE pms.partner_policy ALTER COLUMN is_deleted SET DEFAULT FALSE;
+ALTER TABLE pms.partner_policy ALTER COLUMN is_deleted SET NOT NULL;
+
+UPDATE pms.partner_policy_request SET is_deleted = false WHERE is_deleted IS NULL;
+ALTER TABLE pms.partner_policy_request ALTER COLUMN is_deleted SET DEFAULT FALSE;
+ALTER TABLE pms.partner_policy_request ALTER COLUMN is_deleted SET NOT NULL;
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+CREATE INDEX IF NOT EXISTS idx_part_email_id ON pms.partner USING btree (email_id);
+CREATE INDEX IF NOT EXISTS idx_part_name ON pms.partner USING btree (name);
+CREATE INDEX IF NOT EXISTS idx_part_name_trgm ON pms.partner USING gin (lower(name) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_apol_name ON pms.auth_policy USING btree (name);
+CREATE INDEX IF NOT EXISTS idx_apol_name_trgm ON pms.auth_policy USING gin (lower(name) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_ppol_policy_id_active ON pms.partner_policy USING btree (policy_id) WHERE is_deleted = false AND is_active = true;
+CREATE INDEX IF NOT EXISTS idx_ppol_valid_to_active ON pms.partner_policy USING btree (valid_to_datetime) WHERE is_deleted = false AND is_active = true;
+
+CREATE INDEX IF NOT EXISTS idx_papr_part_policy_status ON pms.partner_policy_request USING btree (part_id, policy_id, status_code);
+
+CREATE TABLE IF NOT EXISTS pms.apikey_expiry_notification(
+	policy_api_key character varying(128) NOT NULL,
+	threshold_days integer NOT NULL,
+	valid_to_datetime timestamp NOT NULL,
+	sent_dtimes timestamp NOT NULL,
+	CONSTRAINT pk_akexn_key_days PRIMARY KEY (policy_api_key,threshold_days)
+);
+CREATE INDEX IF NOT EXISTS idx_akexn_valid_to ON pms.apikey_expiry_notification USING btree (valid_to_datetime);
+GRANT SELECT, INSERT, UPDATE, DELETE ON pms.apikey_expiry_notification TO pmsuser;
+
+CREATE TABLE IF NOT EXISTS pms.scheduled_job_lease(
+	job_name character varying(64) NOT NULL,
+	locked_by character varying(36),
+	locked_until timestamp,
+	CONSTRAINT pk_sjl_job_name PRIMARY KEY (job_name)
+);
+GRANT SELECT, INSERT, UPDATE, DELETE ON pms.scheduled_job_lease TO pmsuser;
@@ -0,0 +1,64 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_pms
+-- Purpose    : Checks that the lookups done by the PMS repositories are served by an index once
+--              the 1.2.1.0 upgrade is applied. Sequential scans are disabled for the check so the
+--              result does not depend on the amount of data; the script fails on the first query
+--              still planned as a sequential scan.
+--
+-- Usage      : psql --dbname=mosip_pms -v ON_ERROR_STOP=1 -f 1.2.1.0_verify_indexes.sql
+-- -------------------------------------------------------------------------------------------------
+
+\c mosip_pms
+
+SET search_path TO pms,pg_catalog,public;
+SET enable_seqscan = off;
+
+DO $$
+DECLARE
+	query text;
+	plan text;
+	queries text[] := ARRAY[
+		-- PartnerPolicyRepository
+		$q$select * from partner_policy pp where pp.part_id='p' AND pp.policy_id='p' AND pp.is_deleted = false AND pp.is_active=true$q$,
+		$q$select * from partner_policy pp where pp.part_id='p' AND pp.is_deleted = false AND pp.is_active=true$q$,
+		$q$select * from partner_policy ppr where ppr.part_id='p' AND ppr.policy_id='p' AND ppr.policy_api_key='k'$q$,
+		$q$select * from partner_policy ppr where ppr.part_id='p' AND ppr.policy_api_key='k'$q$,
+		$q$select * from partner_policy ppr where ppr.policy_api_key='k'$q$,
+		$q$select * from partner_policy ppr where ppr.part_id='p'$q$,
+		$q$select * from partner_policy pp where pp.policy_api_key='k' AND pp.is_deleted = false AND pp.is_active=true$q$,
+		$q$select * from partner_policy pp where pp.valid_to_datetime < now() AND pp.valid_to_datetime > now() - interval '1 day' AND pp.is_deleted = false AND pp.is_active=true$q$,
+		$q$select * from partner_policy pp where pp.policy_id='p' AND pp.is_deleted = false AND pp.is_active=true$q$,
+		$q$select * from partner_policy pp where pp.part_id='p' AND pp.policy_id='p' AND pp.label='l'$q$,
+		-- AuthPolicyRepository
+		$q$select * from auth_policy ap where ap.policy_group_id='g' and ap.name = 'n'$q$,
+		$q$select * from auth_policy ap where ap.policy_group_id='g' and ap.id = 'p'$q$,
+		$q$select * from auth_policy ap where ap.policy_group_id='g'$q$,
+		$q$select * from auth_policy ap where ap.name='n'$q$,
+		$q$select * from auth_policy ap where ap.id IN ('p1','p2') and ap.is_deleted = false and ap.is_active = true$q$,
+		$q$select * from auth_policy ap where ap.policy_group_id='g' and ap.is_deleted = false and ap.is_active = true$q$,
+		$q$select * from auth_policy ap where ap.name='n' and ap.is_deleted = false and ap.is_active = true$q$,
+		$q$select * from auth_policy ap where lower(ap.name) like lower(concat('%', concat('name', '%')))$q$,
+		-- PartnerPolicyRequestRepository
+		$q$select * from partner_policy_request ppr where ppr.part_id='p'$q$,
+		$q$select * from partner_policy_request ppr where ppr.part_id='p' and ppr.policy_id='p'$q$,
+		$q$select * from partner_policy_request ppr where ppr.part_id='p' and ppr.id='r'$q$,
+		$q$select * from partner_policy_request ppr where ppr.part_id='p' and ppr.policy_id='p' and ppr.status_code='s'$q$,
+		-- PartnerServiceRepository
+		$q$select * from partner ppr where ppr.name='n'$q$,
+		$q$select * from partner ppr where ppr.id='p' and ppr.is_deleted = false and ppr.is_active = true$q$,
+		$q$select * from partner ppr where ppr.email_id='e'$q$,
+		$q$select * from partner ppr where ppr.id IN ('p1','p2') and ppr.is_deleted = false and ppr.is_active = true$q$,
+		$q$select p.id from partner p where lower(p.name) like lower(concat('%', concat('name', '%')))$q$
+	];
+BEGIN
+	FOREACH query IN ARRAY queries LOOP
+		EXECUTE 'EXPLAIN ' || query INTO plan;
+		IF plan LIKE 'Seq Scan%' THEN
+			RAISE EXCEPTION 'No index used by query: %', query;
+		END IF;
+		RAISE NOTICE '% : %', plan, query;
+	END LOOP;
+END
+$$;
+
+RESET enable_seqscan;
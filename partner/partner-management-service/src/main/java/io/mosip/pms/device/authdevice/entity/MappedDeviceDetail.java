@@ -0,0 +1,96 @@
+package io.mosip.pms.device.authdevice.entity;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import io.mosip.pms.common.entity.DeviceDetailSBIPK;
+import lombok.Data;
+
+/**
+ * Read only join of the device_detail_sbi mappings with their device detail and
+ * sbi, so that the mapped device details are searched and paged with one query.
+ * 
+ * Holds the mapping columns under the names of
+ * {@link io.mosip.pms.common.entity.DeviceDetailSBI}, plus the device detail
+ * and sbi columns of the search response.
+ */
+@Data
+@Entity
+@Immutable
+@Subselect("select dds.device_detail_id, dds.sbi_id, dds.dprovider_id, dds.partner_org_name, "
+		+ "dds.partner_org_name as provider_name, dds.is_active, dds.is_deleted, dds.cr_by, dds.cr_dtimes, "
+		+ "dds.del_dtimes, dds.upd_by, dds.upd_dtimes, dd.make, dd.model, dd.dtype_code, dd.dstype_code, "
+		+ "sbi.sw_binary_hash, sbi.sw_version from device_detail_sbi dds "
+		+ "join device_detail dd on dd.id = dds.device_detail_id "
+		+ "join secure_biometric_interface sbi on sbi.id = dds.sbi_id")
+@Synchronize({ "device_detail_sbi", "device_detail", "secure_biometric_interface" })
+@IdClass(DeviceDetailSBIPK.class)
+public class MappedDeviceDetail implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	@Id
+	@Column(name = "device_detail_id")
+	private String deviceDetailId;
+
+	@Id
+	@Column(name = "sbi_id")
+	private String sbiId;
+
+	@Column(name = "dprovider_id")
+	private String providerId;
+
+	@Column(name = "partner_org_name")
+	private String partnerName;
+
+	@Column(name = "provider_name")
+	private String providerName;
+
+	@Column(name = "make")
+	private String make;
+
+	@Column(name = "model")
+	private String model;
+
+	@Column(name = "dtype_code")
+	private String deviceTypeCode;
+
+	@Column(name = "dstype_code")
+	private String deviceSubTypeCode;
+
+	@Column(name = "sw_binary_hash")
+	private byte[] swBinaryHash;
+
+	@Column(name = "sw_version")
+	private String swVersion;
+
+	@Column(name = "is_active")
+	private Boolean isActive;
+
+	@Column(name = "is_deleted")
+	private Boolean isDeleted;
+
+	@Column(name = "cr_by")
+	private String crBy;
+
+	@Column(name = "cr_dtimes")
+	private Timestamp crDtimes;
+
+	@Column(name = "del_dtimes")
+	private Timestamp delDtimes;
+
+	@Column(name = "upd_by")
+	private String updBy;
+
+	@Column(name = "upd_dtimes")
+	private Timestamp updDtimes;
+}
@@ -27,6 +27,7 @@ import io.mosip.pms.common.helper.SearchHelper;
 import io.mosip.pms.common.repository.PartnerServiceRepository;
 import io.mosip.pms.common.util.MapperUtils;
 import io.mosip.pms.common.util.PageUtils;
+import io.mosip.pms.common.util.ReferenceDataCache;
 import io.mosip.pms.common.validator.FilterColumnValidator;
 import io.mosip.pms.device.authdevice.entity.DeviceDetail;
 import io.mosip.pms.device.authdevice.entity.RegistrationDeviceSubType;
@@ -51,7 +52,9 @@ import io.mosip.pms.device.util.DeviceUtil;
 @Service
 @Transactional
 public class DeviceDetailServiceImpl implements DeviceDetailService {
-	
+
+	private static final String DEVICE_SUB_TYPES = "deviceSubTypes";
+
 	@Autowired
 	FilterColumnValidator filterColumnValidator;
 
@@ -77,15 +80,17 @@ public class DeviceDetailServiceImpl implements DeviceDetailService {
 	@Autowired
 	private PageUtils pageUtils;
 
+	@Autowired
+	private ReferenceDataCache referenceDataCache;
+
 	@Override
 	public IdDto createDeviceDetails(DeviceDetailDto deviceDetailDto) {
 		DeviceDetail entity = new DeviceDetail();
 		DeviceDetail deviceDetail = null;
 		IdDto dto = new IdDto();
 
-		RegistrationDeviceSubType registrationDeviceSubType = registrationDeviceSubTypeRepository
-				.findByCodeAndTypeCodeAndIsDeletedFalseorIsDeletedIsNullAndIsActiveTrue(
-						deviceDetailDto.getDeviceSubTypeCode(), deviceDetailDto.getDeviceTypeCode());
+		RegistrationDeviceSubType registrationDeviceSubType = getRegistrationDeviceSubType(
+				deviceDetailDto.getDeviceSubTypeCode(), deviceDetailDto.getDeviceTypeCode());
 		if (registrationDeviceSubType == null) {
 			auditUtil.auditRequest(
 					String.format(DeviceConstant.FAILURE_CREATE, DeviceDetail.class.getCanonicalName()),
@@ -145,11 +150,17 @@ public class DeviceDetailServiceImpl implements DeviceDetailService {
 		deviceDetail.setCrDtimes(LocalDateTime.now(ZoneId.of("UTC")));
 		deviceDetail.setDeviceProviderId(deviceDetailDto.getDeviceProviderId());
 		deviceDetail.setMake(deviceDetailDto.getMake());
-		deviceDetail.setModel(deviceDetailDto.getModel());		
+		deviceDetail.setModel(deviceDetailDto.getModel());
 		return deviceDetail;
 
 	}
 
+	private RegistrationDeviceSubType getRegistrationDeviceSubType(String deviceSubTypeCode, String deviceTypeCode) {
+		return referenceDataCache.get(DEVICE_SUB_TYPES, deviceTypeCode + ":" + deviceSubTypeCode,
+				() -> registrationDeviceSubTypeRepository.findByCodeAndTypeCodeAndIsDeletedFalseorIsDeletedIsNullAndIsActiveTrue(
+						deviceSubTypeCode, deviceTypeCode));
+	}
+
 	@Override
 	public IdDto updateDeviceDetails(DeviceDetailUpdateDto deviceDetailDto) {
 		DeviceDetail entity = new DeviceDetail();
@@ -167,9 +178,8 @@ public class DeviceDetailServiceImpl implements DeviceDetailService {
 			throw new RequestException(DeviceDetailExceptionsConstant.DEVICE_DETAIL_NOT_FOUND.getErrorCode(), String
 					.format(DeviceDetailExceptionsConstant.DEVICE_DETAIL_NOT_FOUND.getErrorMessage(), dto.getId()));
 		}
-		RegistrationDeviceSubType registrationDeviceSubType = registrationDeviceSubTypeRepository
-				.findByCodeAndTypeCodeAndIsDeletedFalseorIsDeletedIsNullAndIsActiveTrue(
-						deviceDetailDto.getDeviceSubTypeCode(), deviceDetailDto.getDeviceTypeCode());
+		RegistrationDeviceSubType registrationDeviceSubType = getRegistrationDeviceSubType(
+				deviceDetailDto.getDeviceSubTypeCode(), deviceDetailDto.getDeviceTypeCode());
 		if (registrationDeviceSubType == null) {
 			auditUtil.auditRequest(
 					String.format(DeviceConstant.FAILURE_UPDATE, DeviceDetail.class.getCanonicalName()),
@@ -272,10 +282,10 @@ public class DeviceDetailServiceImpl implements DeviceDetailService {
 				return new PageResponseDto<>();
 			}
 		}
-		Page<E> page = searchHelper.search(entity, dto, "deviceProviderId");
+		Page<E> page = searchHelper.searchPaged(entity, dto, "deviceProviderId");
 		if (page.getContent() != null && !page.getContent().isEmpty()) {
 			deviceDetails = MapperUtils.mapAll(page.getContent(), DeviceDetailSearchResponseDto.class);
-			pageDto = pageUtils.sortPage(deviceDetails, dto.getSort(), dto.getPagination(), page.getTotalElements());
+			pageDto = pageUtils.pageResponse(page, deviceDetails);
 		}
 		return pageDto;
 	}
@@ -284,10 +294,10 @@ public class DeviceDetailServiceImpl implements DeviceDetailService {
 	public <E> PageResponseDto<RegistrationSubTypeDto> searchDeviceType(Class<E> entity, DeviceSearchDto dto) {
 		List<RegistrationSubTypeDto> deviceSubTypes = new ArrayList<>();
 		PageResponseDto<RegistrationSubTypeDto> pageDto = new PageResponseDto<>();
-		Page<E> page = searchHelper.search(entity, dto, null);
+		Page<E> page = searchHelper.searchPaged(entity, dto, null);
 		if (page.getContent() != null && !page.getContent().isEmpty()) {
 			deviceSubTypes = MapperUtils.mapAll(page.getContent(), RegistrationSubTypeDto.class);
-			pageDto = pageUtils.sortPage(deviceSubTypes, dto.getSort(), dto.getPagination(),page.getTotalElements());
+			pageDto = pageUtils.pageResponse(page, deviceSubTypes);
 		}
 		return pageDto;
 	}
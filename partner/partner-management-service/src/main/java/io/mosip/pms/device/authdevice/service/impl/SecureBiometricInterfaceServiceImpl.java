@@ -6,9 +6,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -23,7 +21,6 @@ import io.mosip.pms.common.dto.FilterData;
 import io.mosip.pms.common.dto.FilterDto;
 import io.mosip.pms.common.dto.FilterValueDto;
 import io.mosip.pms.common.dto.PageResponseDto;
-import io.mosip.pms.common.dto.SearchFilter;
 import io.mosip.pms.common.entity.DeviceDetailSBI;
 import io.mosip.pms.common.entity.DeviceDetailSBIPK;
 import io.mosip.pms.common.entity.Partner;
@@ -35,6 +32,7 @@ import io.mosip.pms.common.repository.PartnerServiceRepository;
 import io.mosip.pms.common.util.PageUtils;
 import io.mosip.pms.common.validator.FilterColumnValidator;
 import io.mosip.pms.device.authdevice.entity.DeviceDetail;
+import io.mosip.pms.device.authdevice.entity.MappedDeviceDetail;
 import io.mosip.pms.device.authdevice.entity.SecureBiometricInterface;
 import io.mosip.pms.device.authdevice.entity.SecureBiometricInterfaceHistory;
 import io.mosip.pms.device.authdevice.repository.DeviceDetailRepository;
@@ -311,10 +309,10 @@ public class SecureBiometricInterfaceServiceImpl implements SecureBiometricInter
 			DeviceSearchDto dto) {
 		List<SbiSearchResponseDto> sbis = new ArrayList<>();
 		PageResponseDto<SbiSearchResponseDto> pageDto = new PageResponseDto<>();		
-		Page<SecureBiometricInterface> page = searchHelper.search(SecureBiometricInterface.class, dto, "providerId");
+		Page<SecureBiometricInterface> page = searchHelper.searchPaged(SecureBiometricInterface.class, dto, "providerId");
 		if (page.getContent() != null && !page.getContent().isEmpty()) {
 			 sbis=mapSbiResponse(page.getContent());
-			 pageDto = pageUtils.sortPage(sbis, dto.getSort(), dto.getPagination(),page.getTotalElements());
+			 pageDto = pageUtils.pageResponse(page, sbis);
 		}
 		return pageDto;
 	}	
@@ -497,50 +495,13 @@ public class SecureBiometricInterfaceServiceImpl implements SecureBiometricInter
 	@Override
 	public <E> PageResponseDto<MappedDeviceDetailsReponse> searchMappedDeviceDetails(Class<E> entity, DeviceSearchDto dto) {		
 		PageResponseDto<MappedDeviceDetailsReponse> pageDto = new PageResponseDto<>();	
-		List<MappedDeviceDetailsReponse> mappedRecords = new ArrayList<>();
-		Optional<SearchFilter> deviceDetailSearchFilter = dto.getFilters().stream()
-				.filter(cn -> cn.getColumnName().equalsIgnoreCase("deviceDetailId")).findFirst();		
-		dto.getFilters().removeIf(f->f.getColumnName().equalsIgnoreCase("deviceDetailId"));		
-		Page<DeviceDetailSBI> page = searchHelper.search(DeviceDetailSBI.class, dto, "providerId");
+		Page<MappedDeviceDetailsReponse> page = searchHelper.searchProjected(MappedDeviceDetail.class,
+				MappedDeviceDetailsReponse.class, MappedDeviceDetailsReponse.COLUMNS, dto, "providerId");
 		if (page.getContent() != null && !page.getContent().isEmpty()) {
-			if(deviceDetailSearchFilter.isPresent()) {
-				String idValue = deviceDetailSearchFilter.get().getValue();
-				mappedRecords = mapMappedDeviceDetailsResponse(page.getContent().stream().filter(
-						f -> f.getId().getDeviceDetailId().equals(idValue))
-						.collect(Collectors.toList()));
-
-			}else {
-				mappedRecords=mapMappedDeviceDetailsResponse(page.getContent());
-			}
-			 pageDto = pageUtils.sortPage(mappedRecords, dto.getSort(), dto.getPagination(),page.getTotalElements());
+			pageDto = pageUtils.pageResponse(page, page.getContent());
 		}
 		return pageDto;
 	}
-	
-	private List<MappedDeviceDetailsReponse> mapMappedDeviceDetailsResponse(List<DeviceDetailSBI> mappedDeviceDetails) {
-		List<MappedDeviceDetailsReponse> response = new ArrayList<>();
-		List<DeviceDetail> allDeviceDetails = deviceDetailRepository.findAll();
-		List<SecureBiometricInterface> allSBIs = sbiRepository.findAll();
-		mappedDeviceDetails.forEach(sbi->{
-			MappedDeviceDetailsReponse output = new MappedDeviceDetailsReponse();
-			DeviceDetail deviceDetail = allDeviceDetails.stream().filter(f->f.getId().equals(sbi.getId().getDeviceDetailId())).findFirst().get();
-			SecureBiometricInterface secureBioInterface = allSBIs.stream().filter(f->f.getId().equals(sbi.getId().getSbiId())).findFirst().get();
-			output.setCrBy(sbi.getCrBy());
-			output.setCrDtimes(sbi.getCrDtimes());			
-			output.setDeviceDetailId(sbi.getId().getDeviceDetailId());
-			output.setDeviceSubTypeCode(deviceDetail.getDeviceSubTypeCode());
-			output.setDeviceTypeCode(deviceDetail.getDeviceTypeCode());
-			output.setMake(deviceDetail.getMake());
-			output.setModel(deviceDetail.getModel());
-			output.setProviderId(sbi.getProviderId());
-			output.setProviderName(sbi.getPartnerName());
-			output.setSbiId(sbi.getId().getSbiId());
-			output.setSwBinaryHash(secureBioInterface.getSwBinaryHash());
-			output.setSwVersion(secureBioInterface.getSwVersion());			
-			response.add(output);
-		});
-		return response;
-	}
 
 	@Override
 	public FilterResponseCodeDto filterValues(FilterValueDto filterValueDto) {
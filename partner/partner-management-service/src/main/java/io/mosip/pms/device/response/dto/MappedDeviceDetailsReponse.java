@@ -1,11 +1,23 @@
 package io.mosip.pms.device.response.dto;
 
 import java.sql.Timestamp;
+import java.util.List;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+/**
+ * Selected from the mapped device detail {@link #COLUMNS}, through the all
+ * arguments constructor, see SearchHelper#searchProjected.
+ */
 @Data
+@AllArgsConstructor
+@NoArgsConstructor
 public class MappedDeviceDetailsReponse {		
+
+	public static final List<String> COLUMNS = List.of("deviceDetailId", "sbiId", "providerId", "providerName", "make",
+			"model", "deviceTypeCode", "deviceSubTypeCode", "swBinaryHash", "swVersion", "crBy", "crDtimes");
 	
 	private String deviceDetailId;	
 	
@@ -0,0 +1,279 @@
+package io.mosip.pms.device.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.pms.common.util.PMSLogger;
+import io.mosip.pms.device.util.dto.AuditRequestDto;
+
+/**
+ * Bounded in memory queue of audit events, drained by a single worker thread
+ * which ships the events to the audit manager in batches.
+ *
+ * When the queue is full the configured {@link BackpressurePolicy} decides what
+ * happens to the new event. Events spilled to disk are shipped again by the
+ * worker once every flush interval, whether or not the queue is busy,
+ * including the ones left over by a previous run. On shutdown the worker gets
+ * a bounded time to ship what is queued.
+ *
+ */
+public class AuditEventQueue {
+
+	private static final Logger logger = PMSLogger.getLogger(AuditEventQueue.class);
+
+	private static final String SPILL_FILE_NAME = "audit-events.log";
+
+	public enum BackpressurePolicy {
+		/** Caller waits for free space up to the block timeout, then the event is dropped. */
+		BLOCK,
+		/** Oldest queued event is dropped to make room for the new one. */
+		DROP_OLDEST,
+		/** New event is appended to a local file and shipped later. */
+		SPILL_TO_DISK
+	}
+
+	private final BlockingQueue<AuditRequestDto> queue;
+
+	private final Consumer<AuditRequestDto> shipper;
+
+	private final ObjectMapper objectMapper;
+
+	private final BackpressurePolicy policy;
+
+	private final int batchSize;
+
+	private final long flushInterval;
+
+	private final long blockTimeout;
+
+	private final Path spillFile;
+
+	private final Object spillLock = new Object();
+
+	private final Thread worker;
+
+	private volatile boolean running = true;
+
+	private final DistributionSummary batchSizeSummary;
+
+	private final Timer shipLatency;
+
+	private final Counter droppedEvents;
+
+	private final Counter spilledEvents;
+
+	private final Counter failedEvents;
+
+	public AuditEventQueue(Consumer<AuditRequestDto> shipper, ObjectMapper objectMapper, BackpressurePolicy policy,
+			int capacity, int batchSize, long flushInterval, long blockTimeout, Path spillDirectory,
+			MeterRegistry meterRegistry) {
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.shipper = shipper;
+		this.objectMapper = objectMapper;
+		this.policy = policy;
+		this.batchSize = batchSize;
+		this.flushInterval = flushInterval;
+		this.blockTimeout = blockTimeout;
+		this.spillFile = spillDirectory.resolve(SPILL_FILE_NAME);
+
+		MeterRegistry registry = meterRegistry == null ? new SimpleMeterRegistry() : meterRegistry;
+		Gauge.builder("pms.audit.queue.depth", queue, BlockingQueue::size).register(registry);
+		batchSizeSummary = DistributionSummary.builder("pms.audit.batch.size").register(registry);
+		shipLatency = Timer.builder("pms.audit.ship.latency").register(registry);
+		droppedEvents = Counter.builder("pms.audit.events.dropped").register(registry);
+		spilledEvents = Counter.builder("pms.audit.events.spilled").register(registry);
+		failedEvents = Counter.builder("pms.audit.events.failed").register(registry);
+
+		worker = new Thread(this::drain, "pms-audit-worker");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * Queues the event for shipping. Once the queue is shut down the event is
+	 * shipped on the calling thread.
+	 *
+	 * @param event
+	 */
+	public void submit(AuditRequestDto event) {
+		if (!running) {
+			ship(Collections.singletonList(event));
+			return;
+		}
+		switch (policy) {
+		case DROP_OLDEST:
+			while (!queue.offer(event)) {
+				AuditRequestDto oldest = queue.poll();
+				if (oldest != null) {
+					drop(oldest);
+				}
+			}
+			break;
+		case SPILL_TO_DISK:
+			if (!queue.offer(event)) {
+				spill(Collections.singletonList(event));
+			}
+			break;
+		default:
+			try {
+				if (!queue.offer(event, blockTimeout, TimeUnit.MILLISECONDS)) {
+					drop(event);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				drop(event);
+			}
+		}
+	}
+
+	/**
+	 * Stops accepting events into the queue and waits up to the given time for
+	 * the queued events to be shipped. Events still queued after that are spilled
+	 * to disk, or logged as lost when spilling is not enabled.
+	 *
+	 * @param timeout
+	 */
+	public void shutdown(long timeout) {
+		running = false;
+		try {
+			worker.join(timeout);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		List<AuditRequestDto> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		if (remaining.isEmpty()) {
+			return;
+		}
+		if (!worker.isAlive()) {
+			ship(remaining);
+		} else if (policy == BackpressurePolicy.SPILL_TO_DISK) {
+			spill(remaining);
+		} else {
+			logger.warn("Audit queue shut down with " + remaining.size() + " events not shipped");
+			droppedEvents.increment(remaining.size());
+		}
+	}
+
+	private void drain() {
+		List<AuditRequestDto> batch = new ArrayList<>(batchSize);
+		long nextReplay = System.currentTimeMillis();
+		while (running || !queue.isEmpty()) {
+			try {
+				// a busy queue must not hold back the spilled events
+				if (System.currentTimeMillis() >= nextReplay) {
+					replaySpilled();
+					nextReplay = System.currentTimeMillis() + flushInterval;
+				}
+				AuditRequestDto first = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				ship(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				logger.error("Error occurred while shipping audit events", e);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void ship(List<AuditRequestDto> batch) {
+		long start = System.nanoTime();
+		for (AuditRequestDto event : batch) {
+			try {
+				shipper.accept(event);
+			} catch (RuntimeException e) {
+				failedEvents.increment();
+				logger.error("Could not ship audit event " + event.getEventId() + " " + event.getEventName(), e);
+			}
+		}
+		shipLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		batchSizeSummary.record(batch.size());
+	}
+
+	private void drop(AuditRequestDto event) {
+		droppedEvents.increment();
+		logger.warn("Audit queue is full, dropped audit event " + event.getEventId() + " " + event.getEventName());
+	}
+
+	private void spill(List<AuditRequestDto> events) {
+		synchronized (spillLock) {
+			try {
+				Files.createDirectories(spillFile.getParent());
+				try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+						StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+					for (AuditRequestDto event : events) {
+						writer.write(objectMapper.writeValueAsString(event));
+						writer.newLine();
+					}
+				}
+				spilledEvents.increment(events.size());
+			} catch (IOException e) {
+				droppedEvents.increment(events.size());
+				logger.error("Could not spill " + events.size() + " audit events to " + spillFile, e);
+			}
+		}
+	}
+
+	/**
+	 * Ships the events spilled to disk. The file is removed before shipping, a
+	 * failure while shipping is handled the same way as for the queued events.
+	 */
+	private void replaySpilled() {
+		List<String> lines;
+		synchronized (spillLock) {
+			if (!Files.exists(spillFile)) {
+				return;
+			}
+			try {
+				lines = Files.readAllLines(spillFile, StandardCharsets.UTF_8);
+				Files.delete(spillFile);
+			} catch (IOException e) {
+				logger.error("Could not read spilled audit events from " + spillFile, e);
+				return;
+			}
+		}
+		List<AuditRequestDto> batch = new ArrayList<>(batchSize);
+		for (String line : lines) {
+			try {
+				batch.add(objectMapper.readValue(line, AuditRequestDto.class));
+			} catch (IOException e) {
+				failedEvents.increment();
+				logger.error("Could not read spilled audit event " + line, e);
+			}
+			if (batch.size() == batchSize) {
+				ship(batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			ship(batch);
+		}
+	}
+}
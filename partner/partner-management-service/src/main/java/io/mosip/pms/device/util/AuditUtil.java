@@ -3,12 +3,14 @@ package io.mosip.pms.device.util;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import io.mosip.pms.oidc.client.contant.ClientServiceAuditEnum;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +32,7 @@ import org.springframework.web.client.RestTemplate;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.mosip.kernel.core.authmanager.exception.AuthNException;
 import io.mosip.kernel.core.authmanager.exception.AuthZException;
 import io.mosip.kernel.core.exception.ExceptionUtils;
@@ -79,6 +82,32 @@ public class AuditUtil {
 	@Autowired
 	@Qualifier("selfTokenRestTemplate")
 	private RestTemplate restTemplate;
+
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	@Value("${mosip.pms.audit.queue.capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${mosip.pms.audit.queue.batch-size:50}")
+	private int batchSize;
+
+	@Value("${mosip.pms.audit.queue.flush-interval:1000}")
+	private long flushInterval;
+
+	@Value("${mosip.pms.audit.queue.backpressure-policy:SPILL_TO_DISK}")
+	private AuditEventQueue.BackpressurePolicy backpressurePolicy;
+
+	@Value("${mosip.pms.audit.queue.block-timeout:5000}")
+	private long blockTimeout;
+
+	@Value("${mosip.pms.audit.queue.spill-directory:${java.io.tmpdir}/pms-audit}")
+	private String spillDirectory;
+
+	@Value("${mosip.pms.audit.queue.shutdown-timeout:10000}")
+	private long shutdownTimeout;
+
+	private AuditEventQueue auditEventQueue;
 	
 	/**
 	 * Audit request.
@@ -93,7 +122,16 @@ public class AuditUtil {
 			Integer eventCount = Integer.getInteger(System.getProperty("seqGen"));
 			eventCounter = new AtomicInteger(eventCount);
 		}
+		auditEventQueue = new AuditEventQueue(this::sendToAuditManager, objectMapper, backpressurePolicy,
+				queueCapacity, batchSize, flushInterval, blockTimeout, Paths.get(spillDirectory), meterRegistry);
+	}
 
+	/**
+	 * Ships the queued audit events before the service goes down.
+	 */
+	@PreDestroy
+	public void destroy() {
+		auditEventQueue.shutdown(shutdownTimeout);
 	}
 
 	public void auditRequest(String eventName, String eventType, String description) {
@@ -274,13 +312,21 @@ public class AuditUtil {
 	}
 
 	/**
-	 * For Auditing Login Services
+	 * Queues the audit event, the call to the audit manager is made by the
+	 * audit worker.
 	 * 
 	 * @param auditRequestDto
-	 * @param token
-	 * @return
 	 */
 	public void callAuditManager(AuditRequestDto auditRequestDto) {
+		auditEventQueue.submit(auditRequestDto);
+	}
+
+	/**
+	 * For Auditing Login Services
+	 * 
+	 * @param auditRequestDto
+	 */
+	private void sendToAuditManager(AuditRequestDto auditRequestDto) {
 
 		RequestWrapper<AuditRequestDto> auditReuestWrapper = new RequestWrapper<>();
 		auditReuestWrapper.setRequest(auditRequestDto);
@@ -1,6 +1,6 @@
 package io.mosip.pms.device.util;
 
-import java.security.SecureRandom;
+import io.mosip.pms.common.util.IdGenerator;
 
 public class DeviceUtil {
 
@@ -9,7 +9,6 @@ public class DeviceUtil {
 	 * @return
 	 */
 	public static String generateId(){
-		SecureRandom random = new SecureRandom();
-		return random.nextInt((100000)) + "";
+		return IdGenerator.timeOrdered().generateId();
 	}
 }
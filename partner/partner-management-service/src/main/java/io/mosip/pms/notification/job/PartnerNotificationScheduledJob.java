@@ -1,29 +1,66 @@
 package io.mosip.pms.notification.job;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.pms.common.constant.EventType;
+import io.mosip.pms.common.entity.ApiKeyExpiryNotification;
+import io.mosip.pms.common.entity.ApiKeyExpiryNotificationPK;
 import io.mosip.pms.common.entity.AuthPolicy;
 import io.mosip.pms.common.entity.PartnerPolicy;
+import io.mosip.pms.common.entity.ScheduledJobLease;
+import io.mosip.pms.common.repository.ApiKeyExpiryNotificationRepository;
 import io.mosip.pms.common.repository.AuthPolicyRepository;
 import io.mosip.pms.common.repository.PartnerPolicyRepository;
+import io.mosip.pms.common.repository.ScheduledJobLeaseRepository;
 import io.mosip.pms.common.response.dto.NotificationDto;
 import io.mosip.pms.common.service.NotificatonService;
 import io.mosip.pms.common.util.PMSLogger;
 import io.mosip.pms.partner.constant.PartnerConstants;
 
+/**
+ * Notifies the partners of their api keys coming close to expiry.
+ *
+ * Each of the configured thresholds, in days before expiry, gets one notice per
+ * key: a run notifies the keys expiring after the next smaller threshold and
+ * within the threshold, that have no notice of the threshold in the
+ * apikey_expiry_notification ledger for their current expiry date. Keys are
+ * read in chunks ordered by api key, each chunk starting after the last key of
+ * the previous one.
+ *
+ * The job is leased to one instance at a time, the lease being extended after
+ * every chunk, so a run on another instance finds the job leased and skips.
+ *
+ */
 @Component
 public class PartnerNotificationScheduledJob {
 
+	private static final String JOB_NAME = "apikey-expiry-notification";
+
 	private Logger log = PMSLogger.getLogger(PartnerNotificationScheduledJob.class);
 
 	@Autowired
@@ -35,39 +72,157 @@ public class PartnerNotificationScheduledJob {
 	@Autowired
 	NotificatonService notificationService;
 
+	@Autowired
+	ApiKeyExpiryNotificationRepository expiryNotificationRepo;
+
+	@Autowired
+	ScheduledJobLeaseRepository jobLeaseRepo;
+
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
 	@Value("${notifications.sent.before.days:3}")
-	private int notificationsSentBeforeDays;
+	private List<Integer> notificationsSentBeforeDays;
+
+	@Value("${pms.notifications-schedule.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${pms.notifications-schedule.lease:1800000}")
+	private long lease;
+
+	private final String owner = UUID.randomUUID().toString();
+
+	@PostConstruct
+	public void init() {
+		if (meterRegistry == null) {
+			meterRegistry = new SimpleMeterRegistry();
+		}
+	}
 
 	@Scheduled(initialDelayString = "#{60 * 60 * 1000 * ${pms.notifications-schedule.init-delay}}", fixedRateString = "#{60 * 60 * 1000 * ${pms.notifications-schedule.fixed-rate}}")
 	public void getAllAPIKeys() {
-		List<NotificationDto> notificationsDto = new ArrayList<>();
-		List<PartnerPolicy> partnerMappedPolices = partnerPolicyRepo.findAPIKeysLessThanGivenDate(
-				LocalDateTime.now().plusDays(notificationsSentBeforeDays), LocalDateTime.now());
-		log.info("TotalNoOfRecords " + partnerMappedPolices.size() + "with date less than "
-				+ LocalDateTime.now().plusDays(notificationsSentBeforeDays));
-		if (partnerMappedPolices.size() > 0) {
-			List<AuthPolicy> policies = getPolicies(partnerMappedPolices);
-			for (PartnerPolicy partnerPolicy : partnerMappedPolices) {
-				AuthPolicy policy = policies.stream().filter(p -> p.getId().equals(partnerPolicy.getPolicyId()))
-						.findFirst().orElse(null);
-				notificationsDto.add(prepareNotificationDto(partnerPolicy, policy));
+		if (!claimLease()) {
+			log.info("Skipping the api key expiry notifications, the job is leased to another instance.");
+			return;
+		}
+		long start = System.nanoTime();
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			int previousThreshold = 0;
+			for (int threshold : new TreeSet<>(notificationsSentBeforeDays)) {
+				if (!notifyExpiringKeys(threshold, now.plusDays(previousThreshold), now.plusDays(threshold))) {
+					return;
+				}
+				previousThreshold = threshold;
 			}
+			expiryNotificationRepo.deleteExpired(Timestamp.valueOf(now));
+		} catch (RuntimeException e) {
+			log.error("Error occured while sending the APIKEY_EXPIRED notifications.", e.getLocalizedMessage(),
+					e.getMessage());
+		} finally {
+			jobLeaseRepo.release(JOB_NAME, owner);
+			Timer.builder("pms.notifications.apikey-expiry.run").register(meterRegistry)
+					.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 		}
+	}
 
-		if (notificationsDto.size() > 0) {
-			
-			try {
-				notificationService.sendNotications(EventType.APIKEY_EXPIRED, notificationsDto);
-			} catch (Exception e) {
-				log.error("Error occured while sending the APIKEY_EXPIRED notifications.", e.getLocalizedMessage(),
-						e.getMessage());
+	/**
+	 * Notifies, chunk by chunk, the keys expiring in the window which were not
+	 * notified for the threshold yet.
+	 *
+	 * @return false if the lease was lost and the run has to stop
+	 */
+	private boolean notifyExpiringKeys(int threshold, LocalDateTime from, LocalDateTime to) {
+		String lastApiKey = "";
+		long scanned = 0;
+		long notified = 0;
+		while (true) {
+			List<PartnerPolicy> partnerMappedPolices = partnerPolicyRepo.findAPIKeysToNotify(Timestamp.valueOf(to),
+					Timestamp.valueOf(from), lastApiKey, threshold, PageRequest.of(0, chunkSize));
+			if (partnerMappedPolices.isEmpty()) {
+				log.info("Notified " + notified + " of " + scanned + " api keys expiring before " + to);
+				return true;
+			}
+			lastApiKey = partnerMappedPolices.get(partnerMappedPolices.size() - 1).getPolicyApiKey();
+			scanned += partnerMappedPolices.size();
+			counter("pms.notifications.apikey-expiry.scanned", threshold).increment(partnerMappedPolices.size());
+			notified += notify(threshold, partnerMappedPolices);
+			log.info("Notified " + notified + " of " + scanned + " api keys scanned so far expiring before " + to);
+			if (!claimLease()) {
+				log.warn("Stopping the api key expiry notifications, the lease of the job was lost.");
+				return false;
 			}
-			log.info("Notifications sent successfully.",LocalDateTime.now());
 		}
 	}
 
 	/**
-	 * 
+	 * Sends the notices of the chunk and records the ones sent in the ledger.
+	 *
+	 * @return number of keys notified
+	 */
+	private int notify(int threshold, List<PartnerPolicy> partnerMappedPolices) {
+		Map<String, AuthPolicy> policies = getPolicies(partnerMappedPolices);
+		List<NotificationDto> notificationsDto = new ArrayList<>(partnerMappedPolices.size());
+		for (PartnerPolicy partnerPolicy : partnerMappedPolices) {
+			notificationsDto.add(prepareNotificationDto(partnerPolicy, policies.get(partnerPolicy.getPolicyId())));
+		}
+		Set<String> failedApiKeys = new HashSet<>();
+		for (NotificationDto failed : notificationService.dispatch(EventType.APIKEY_EXPIRED, notificationsDto)) {
+			failedApiKeys.add(failed.getApiKey());
+		}
+		Timestamp sentDtimes = Timestamp.valueOf(LocalDateTime.now());
+		List<ApiKeyExpiryNotification> sentNotifications = new ArrayList<>();
+		for (PartnerPolicy partnerPolicy : partnerMappedPolices) {
+			if (!failedApiKeys.contains(partnerPolicy.getPolicyApiKey())) {
+				ApiKeyExpiryNotification sentNotification = new ApiKeyExpiryNotification();
+				sentNotification.setId(new ApiKeyExpiryNotificationPK(partnerPolicy.getPolicyApiKey(), threshold));
+				sentNotification.setValidToDatetime(partnerPolicy.getValidToDatetime());
+				sentNotification.setSentDtimes(sentDtimes);
+				sentNotifications.add(sentNotification);
+			}
+		}
+		expiryNotificationRepo.saveAll(sentNotifications);
+		counter("pms.notifications.apikey-expiry.notified", threshold).increment(sentNotifications.size());
+		counter("pms.notifications.apikey-expiry.failed", threshold).increment(failedApiKeys.size());
+		if (!failedApiKeys.isEmpty()) {
+			log.error("Could not send " + failedApiKeys.size() + " APIKEY_EXPIRED notifications, retrying on the next run.");
+		}
+		return sentNotifications.size();
+	}
+
+	/**
+	 * Takes the lease of the job, or extends it when already held.
+	 *
+	 * @return false if another instance holds the lease
+	 */
+	private boolean claimLease() {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime until = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(lease));
+		if (jobLeaseRepo.claim(JOB_NAME, owner, now, until) > 0) {
+			return true;
+		}
+		if (jobLeaseRepo.existsById(JOB_NAME)) {
+			return false;
+		}
+		ScheduledJobLease jobLease = new ScheduledJobLease();
+		jobLease.setJobName(JOB_NAME);
+		jobLease.setLockedBy(owner);
+		jobLease.setLockedUntil(until);
+		try {
+			jobLeaseRepo.saveAndFlush(jobLease);
+			return true;
+		} catch (DataIntegrityViolationException e) {
+			// created by another instance at the same time
+			return false;
+		}
+	}
+
+	private Counter counter(String name, int threshold) {
+		return Counter.builder(name).tag("threshold", String.valueOf(threshold)).register(meterRegistry);
+	}
+
+	/**
+	 *
 	 * @param partnerPolicy
 	 * @param policy
 	 * @return
@@ -88,12 +243,14 @@ public class PartnerNotificationScheduledJob {
 	}
 
 	/**
-	 * 
+	 *
 	 * @param partnerPolicies
-	 * @return
+	 * @return the policies of the api keys by id
 	 */
-	private List<AuthPolicy> getPolicies(List<PartnerPolicy> partnerPolicies) {
+	private Map<String, AuthPolicy> getPolicies(List<PartnerPolicy> partnerPolicies) {
 		return policyRepo
-				.findByPolicyIds(partnerPolicies.stream().map(PartnerPolicy::getPolicyId).collect(Collectors.toList()));
+				.findByPolicyIds(partnerPolicies.stream().map(PartnerPolicy::getPolicyId).distinct()
+						.collect(Collectors.toList()))
+				.stream().collect(Collectors.toMap(AuthPolicy::getId, Function.identity(), (first, second) -> first));
 	}
-}
\ No newline at end of file
+}
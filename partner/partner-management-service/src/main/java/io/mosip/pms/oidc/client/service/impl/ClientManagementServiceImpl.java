@@ -42,6 +42,8 @@ import io.mosip.pms.common.repository.PartnerRepository;
 import io.mosip.pms.common.util.AuthenticationContextRefUtil;
 import io.mosip.pms.common.util.MapperUtils;
 import io.mosip.pms.common.util.PMSLogger;
+import io.mosip.pms.common.util.PartnerCertificateCache;
+import io.mosip.pms.common.util.PolicyObjectCache;
 import io.mosip.pms.common.util.RestUtil;
 import io.mosip.pms.common.util.UserDetailUtil;
 import io.mosip.pms.oidc.client.dto.ClientDetailCreateRequest;
@@ -63,7 +65,6 @@ import org.jose4j.jwk.RsaJsonWebKey;
 import org.jose4j.lang.JoseException;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
 import javax.validation.constraints.NotNull;
@@ -109,6 +110,12 @@ public class ClientManagementServiceImpl implements ClientManagementService {
 
 	@Autowired
 	private WebSubPublisher webSubPublisher;
+
+	@Autowired
+	private PolicyObjectCache policyObjectCache;
+
+	@Autowired
+	private PartnerCertificateCache partnerCertificateCache;
 	
 	@Autowired
 	private AuthenticationContextRefUtil authenticationContextClassRefUtil;
@@ -187,7 +194,7 @@ public class ClientManagementServiceImpl implements ClientManagementService {
 		clientDetail.setLogoUri(createRequest.getLogoUri());
 		clientDetail.setRedirectUris(String.join(",", createRequest.getRedirectUris()));
 		Set<String> claims =  authenticationContextClassRefUtil.getPolicySupportedClaims(getReqAttributeFromPolicyJson(
-				getPolicyObject(policyFromDb.get().getPolicyFileId()), ALLOWED_KYC_ATTRIBUTES, ATTRIBUTE_NAME, null));
+				getPolicyObject(policyFromDb.get()), ALLOWED_KYC_ATTRIBUTES, ATTRIBUTE_NAME, null));
 		if (claims.isEmpty()) {
 			LOGGER.error(
 					"createOIDCClient::Partner has no User Claims");
@@ -197,7 +204,7 @@ public class ClientManagementServiceImpl implements ClientManagementService {
 		}
 		clientDetail.setClaims(String.join(",",claims));
 		Set<String> acrValues = authenticationContextClassRefUtil.getAuthFactors(getReqAttributeFromPolicyJson(
-				getPolicyObject(policyFromDb.get().getPolicyFileId()), ALLOWED_AUTH_TYPES, AUTH_TYPE, MANDATORY));
+				getPolicyObject(policyFromDb.get()), ALLOWED_AUTH_TYPES, AUTH_TYPE, MANDATORY));
 		if (acrValues.isEmpty()) {
 			LOGGER.error(
 					"createOIDCClient::Partner has no User Claims");
@@ -212,7 +219,7 @@ public class ClientManagementServiceImpl implements ClientManagementService {
 		clientDetail.setCreatedDateTime(LocalDateTime.now(ZoneId.of("UTC")));
 		clientDetail.setCreatedBy(getLoggedInUserId());
 		callIdpService(clientDetail, environment.getProperty("mosip.pms.esignet.oidc-client-create-url"), true);
-		publishClientData(policyMappingReqFromDb.get(0).getPartner(), policyFromDb.get(), clientDetail);
+		publishClientData(partner.get(), policyFromDb.get(), clientDetail);
 		clientDetailRepository.save(clientDetail);
 		var response = new ClientDetailResponse();
 		response.setClientId(clientDetail.getId());
@@ -349,12 +356,16 @@ public class ClientManagementServiceImpl implements ClientManagementService {
 	 */
 	private void publishClientData(Partner partnerData, AuthPolicy policyData, ClientDetail clientData) {
 		notify(MapperUtils.mapDataToPublishDto(partnerData, getPartnerCertificate(partnerData.getCertificateAlias())),
-				MapperUtils.mapPolicyToPublishDto(policyData, getPolicyObject(policyData.getPolicyFileId())),
+				MapperUtils.mapPolicyToPublishDto(policyData, getPolicyObject(policyData)),
 				MapperUtils.mapClientDataToPublishDto(clientData), EventType.OIDC_CLIENT_CREATED);
 	}
 
-	@SuppressWarnings("unchecked")
 	private String getPartnerCertificate(String certificateAlias) {
+		return partnerCertificateCache.getCertificate(certificateAlias, this::downloadPartnerCertificate);
+	}
+
+	@SuppressWarnings("unchecked")
+	private String downloadPartnerCertificate(String certificateAlias) {
 		Map<String, String> pathsegments = new HashMap<>();
 		pathsegments.put("partnerCertId", certificateAlias);
 		Map<String, Object> getApiResponse = restUtil
@@ -436,10 +447,9 @@ public class ClientManagementServiceImpl implements ClientManagementService {
 	 * @param policy
 	 * @return
 	 */
-	private JSONObject getPolicyObject(String policy) {
-		JSONParser parser = new JSONParser();
+	private JSONObject getPolicyObject(AuthPolicy authPolicy) {
 		try {
-			return ((JSONObject) parser.parse(policy));
+			return policyObjectCache.getPolicyObject(authPolicy);
 		} catch (ParseException e) {
 			return null;
 		}
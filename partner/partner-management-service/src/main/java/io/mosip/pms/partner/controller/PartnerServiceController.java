@@ -423,6 +423,18 @@ public class PartnerServiceController {
 		return responseWrapper;
 	}
 	
+	@ResponseFilter
+	@PostMapping("/apikey/search/cursor")
+	@PreAuthorize("hasAnyRole(@authorizedRoles.getPostpartnersapikeysearch())")
+	@Operation(summary = "Service to search api key by cursor", description = "Service to search api key page by page using the cursor returned with the previous page")
+	public ResponseWrapper<PageResponseDto<PartnerPolicySearchResponseDto>> searchApikeyByCursor(
+			@RequestBody @Valid RequestWrapper<SearchDto> request) {
+		ResponseWrapper<PageResponseDto<PartnerPolicySearchResponseDto>> responseWrapper = new ResponseWrapper<>();
+		auditUtil.setAuditRequestDto(PartnerServiceAuditEnum.SEARCH_PARTNER_APIKEY_REQUEST);
+		responseWrapper.setResponse(partnerService.searchPartnerApiKeysByCursor(request.getRequest()));
+		return responseWrapper;
+	}
+	
 	@PreAuthorize("hasAnyRole(@authorizedRoles.getPutpartnerspolicygroup())")
 	@RequestMapping(value = "/{partnerId}/policygroup/{policygroupName}", method = RequestMethod.PUT)
 	public ResponseEntity<ResponseWrapper<String>> updatePolicyGroup(
@@ -13,7 +13,6 @@ import java.util.Optional;
 import javax.transaction.Transactional;
 
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -51,6 +50,8 @@ import io.mosip.pms.common.response.dto.NotificationDto;
 import io.mosip.pms.common.service.NotificatonService;
 import io.mosip.pms.common.util.MapperUtils;
 import io.mosip.pms.common.util.PMSLogger;
+import io.mosip.pms.common.util.PartnerCertificateCache;
+import io.mosip.pms.common.util.PolicyObjectCache;
 import io.mosip.pms.common.util.RestUtil;
 import io.mosip.pms.common.util.UserDetailUtil;
 import io.mosip.pms.device.util.AuditUtil;
@@ -106,6 +107,12 @@ public class PartnerManagementServiceImpl implements PartnerManagerService {
 
 	@Autowired
 	private WebSubPublisher webSubPublisher;
+
+	@Autowired
+	private PolicyObjectCache policyObjectCache;
+
+	@Autowired
+	private PartnerCertificateCache partnerCertificateCache;
 	
 	@Autowired
 	private NotificatonService notificationService;
@@ -414,11 +421,10 @@ public class PartnerManagementServiceImpl implements PartnerManagerService {
 		return partnerPolicyRequestFromDb.get();
 	}
 
-	private JSONObject getPolicyObject(String policy) {
-		JSONParser parser = new JSONParser();
+	private JSONObject getPolicyObject(AuthPolicy authPolicy) {
 		String error = null;
 		try {
-			return ((JSONObject) parser.parse(policy));
+			return policyObjectCache.getPolicyObject(authPolicy);
 		} catch (ParseException e) {
 			error = e.getMessage();
 		}
@@ -428,8 +434,12 @@ public class PartnerManagementServiceImpl implements PartnerManagerService {
 	}
 
 
-	@SuppressWarnings("unchecked")
 	private String getPartnerCertificate(String certificateAlias) {
+		return partnerCertificateCache.getCertificate(certificateAlias, this::downloadPartnerCertificate);
+	}
+
+	@SuppressWarnings("unchecked")
+	private String downloadPartnerCertificate(String certificateAlias) {
 		Map<String, String> pathsegments = new HashMap<>();
 		pathsegments.put("partnerCertId", certificateAlias);
 		Map<String, Object> getApiResponse = restUtil
@@ -630,7 +640,7 @@ public class PartnerManagementServiceImpl implements PartnerManagerService {
 		partnerPolicyRepository.save(partnerPolicy);		
 		notify(MapperUtils.mapDataToPublishDto(approvedMappedPolicy.get(0).getPartner(),
 				getPartnerCertificate(approvedMappedPolicy.get(0).getPartner().getCertificateAlias())),
-				MapperUtils.mapPolicyToPublishDto(validPolicy, getPolicyObject(validPolicy.getPolicyFileId())),
+				MapperUtils.mapPolicyToPublishDto(validPolicy, getPolicyObject(validPolicy)),
 				MapperUtils.mapKeyDataToPublishDto(partnerPolicy), EventType.APIKEY_APPROVED);
 		response.setApiKey(partnerPolicy.getPolicyApiKey());
 		response.setLabel(partnerPolicy.getLabel());
@@ -9,7 +9,6 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -43,6 +42,7 @@ import io.mosip.pms.common.repository.PartnerPolicyRequestRepository;
 import io.mosip.pms.common.repository.PartnerServiceRepository;
 import io.mosip.pms.common.util.MapperUtils;
 import io.mosip.pms.common.util.PageUtils;
+import io.mosip.pms.common.util.PolicyObjectCache;
 import io.mosip.pms.common.util.UserDetailUtil;
 import io.mosip.pms.common.validator.FilterColumnValidator;
 import io.mosip.pms.device.response.dto.ColumnCodeValue;
@@ -73,6 +73,9 @@ public class InfraProviderServiceImpl implements InfraServiceProviderService {
 	@Autowired
 	private WebSubPublisher webSubPublisher;
 
+	@Autowired
+	private PolicyObjectCache policyObjectCache;
+
 	@Autowired
 	private Environment environment;
 
@@ -151,7 +154,7 @@ public class InfraProviderServiceImpl implements InfraServiceProviderService {
 		response.setProviderId(mispId);
 		if(mispPolicyFromDb.isPresent()) {
 			notify(MapperUtils.mapDataToPublishDto(newLicenseKey), MapperUtils.mapPolicyToPublishDto(mispPolicyFromDb.get(),
-					getPolicyObject(mispPolicyFromDb.get().getPolicyFileId())), EventType.MISP_LICENSE_GENERATED);
+					getPolicyObject(mispPolicyFromDb.get())), EventType.MISP_LICENSE_GENERATED);
 		}
 		else {
 			notify(MapperUtils.mapDataToPublishDto(newLicenseKey), null, EventType.MISP_LICENSE_GENERATED);
@@ -165,11 +168,10 @@ public class InfraProviderServiceImpl implements InfraServiceProviderService {
 	 * @param policy
 	 * @return
 	 */
-	private JSONObject getPolicyObject(String policy) {
-		JSONParser parser = new JSONParser();
+	private JSONObject getPolicyObject(AuthPolicy authPolicy) {
 		String error = null;
 		try {
-			return ((JSONObject) parser.parse(policy));
+			return policyObjectCache.getPolicyObject(authPolicy);
 		} catch (ParseException e) {
 			error = e.getMessage();
 		}
@@ -296,7 +298,7 @@ public class InfraProviderServiceImpl implements InfraServiceProviderService {
 
 			if(mispPolicyFromDb.isPresent()) {
 				notify(MapperUtils.mapDataToPublishDto(newLicenseKey), MapperUtils.mapPolicyToPublishDto(mispPolicyFromDb.get(),
-						getPolicyObject(mispPolicyFromDb.get().getPolicyFileId())), EventType.MISP_LICENSE_UPDATED);
+						getPolicyObject(mispPolicyFromDb.get())), EventType.MISP_LICENSE_UPDATED);
 			}
 			else {
 				notify(MapperUtils.mapDataToPublishDto(newLicenseKey), EventType.MISP_LICENSE_UPDATED);
@@ -380,10 +382,9 @@ public class InfraProviderServiceImpl implements InfraServiceProviderService {
 	@Override
 	public PageResponseDto<MISPLicenseEntity> search(SearchDto dto) {
 		PageResponseDto<MISPLicenseEntity> pageDto = new PageResponseDto<>();
-		Page<MISPLicenseEntity> page = searchHelper.search(MISPLicenseEntity.class, dto, "mispId");
+		Page<MISPLicenseEntity> page = searchHelper.searchPaged(MISPLicenseEntity.class, dto, "mispId");
 		if (page.getContent() != null && !page.getContent().isEmpty()) {
-			pageDto = pageUtils.sortPage(page.getContent(), dto.getSort(), dto.getPagination(),
-					page.getTotalElements());
+			pageDto = pageUtils.pageResponse(page, page.getContent());
 		}
 		return pageDto;
 	}
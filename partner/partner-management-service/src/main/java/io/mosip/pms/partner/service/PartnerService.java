@@ -180,6 +180,13 @@ public interface PartnerService {
 	 */
 	public PageResponseDto<PartnerPolicySearchResponseDto> searchPartnerApiKeys(SearchDto dto);
 	
+	/**
+	 * Searches the api keys page by page using the cursor of the previous page
+	 * @param dto
+	 * @return
+	 */
+	public PageResponseDto<PartnerPolicySearchResponseDto> searchPartnerApiKeysByCursor(SearchDto dto);
+	
 	/**
 	 * 
 	 * @param dto
@@ -20,7 +20,6 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -51,6 +50,7 @@ import io.mosip.pms.common.dto.PartnerPolicySearchResponseDto;
 import io.mosip.pms.common.dto.PolicyRequestSearchResponseDto;
 import io.mosip.pms.common.dto.SearchDto;
 import io.mosip.pms.common.dto.SearchFilter;
+import io.mosip.pms.common.dto.SearchSort;
 import io.mosip.pms.common.dto.Type;
 import io.mosip.pms.common.entity.AuthPolicy;
 import io.mosip.pms.common.entity.BiometricExtractorProvider;
@@ -76,14 +76,15 @@ import io.mosip.pms.common.repository.PartnerPolicyCredentialTypeRepository;
 import io.mosip.pms.common.repository.PartnerPolicyRepository;
 import io.mosip.pms.common.repository.PartnerPolicyRequestRepository;
 import io.mosip.pms.common.repository.PartnerServiceRepository;
-import io.mosip.pms.common.repository.PartnerTypeRepository;
-import io.mosip.pms.common.repository.PolicyGroupRepository;
 import io.mosip.pms.common.request.dto.RequestWrapper;
 import io.mosip.pms.common.response.dto.NotificationDto;
 import io.mosip.pms.common.service.NotificatonService;
 import io.mosip.pms.common.util.MapperUtils;
 import io.mosip.pms.common.util.PMSLogger;
 import io.mosip.pms.common.util.PageUtils;
+import io.mosip.pms.common.util.PartnerCertificateCache;
+import io.mosip.pms.common.util.PolicyObjectCache;
+import io.mosip.pms.common.util.ReferenceDataCache;
 import io.mosip.pms.common.util.RestUtil;
 import io.mosip.pms.common.util.UserDetailUtil;
 import io.mosip.pms.common.validator.FilterColumnValidator;
@@ -138,14 +139,16 @@ public class PartnerServiceImpl implements PartnerService {
 
 	private final static String LINE_SEPARATOR = "\n";
 
-	@Autowired
-	PartnerServiceRepository partnerRepository;
+	private static final String PARTNER_ID_COLUMN = "partner.id";
 
-	@Autowired
-	PartnerTypeRepository partnerTypeRepository;
+	private static final Map<String, String> API_KEY_SEARCH_COLUMNS = Map.of("partnerId", PARTNER_ID_COLUMN,
+			"partnerName", "partner.name");
+
+	private static final Map<String, String> API_KEY_REQUEST_SEARCH_COLUMNS = Map.of("apikeyRequestId", "id",
+			"partnerId", PARTNER_ID_COLUMN, "partnerName", "partner.name");
 
 	@Autowired
-	PolicyGroupRepository policyGroupRepository;
+	PartnerServiceRepository partnerRepository;
 
 	@Autowired
 	PartnerHRepository partnerHRepository;
@@ -186,6 +189,15 @@ public class PartnerServiceImpl implements PartnerService {
 	@Autowired
 	private WebSubPublisher webSubPublisher;
 
+	@Autowired
+	private PolicyObjectCache policyObjectCache;
+
+	@Autowired
+	private PartnerCertificateCache partnerCertificateCache;
+
+	@Autowired
+	private ReferenceDataCache referenceDataCache;
+
 	@Autowired
 	private ObjectMapper mapper;
 
@@ -218,12 +230,6 @@ public class PartnerServiceImpl implements PartnerService {
 
 	@Value("${pms.certs.datashare.subscriberId}")
 	private String subscriberId;
-	
-	@Value("${mosip.mandatory-languages}")
-	private String mandatoryLanguges;
-
-	@Value("${mosip.optional-languages}")
-	private String optionalLanguges;
 
 	@Autowired
 	AuditUtil auditUtil;
@@ -365,7 +371,7 @@ public class PartnerServiceImpl implements PartnerService {
 	}
 
 	private PolicyGroup validateAndGetPolicyGroupByName(String policyGroupName) {
-		PolicyGroup policyGroupFromDb = policyGroupRepository.findByName(policyGroupName);
+		PolicyGroup policyGroupFromDb = referenceDataCache.getPolicyGroupByName(policyGroupName);
 		if (policyGroupFromDb == null) {
 			LOGGER.error(policyGroupName + " : Policy Group is not available");
 			auditUtil.setAuditRequestDto(PartnerServiceAuditEnum.REGISTER_PARTNER_FAILURE, policyGroupName, "policyGroupName");
@@ -382,9 +388,7 @@ public class PartnerServiceImpl implements PartnerService {
 	}
 
 	private PartnerType validateAndGetPartnerType(String partnerType) {
-		List<PartnerType> partnerTypesFromDb = getAllPartnerTypes();
-		Optional<PartnerType> validPartnerType = partnerTypesFromDb.stream()
-				.filter(pt -> pt.getCode().equalsIgnoreCase(partnerType)).findFirst();
+		Optional<PartnerType> validPartnerType = referenceDataCache.getPartnerType(partnerType);
 		if (validPartnerType.isEmpty()) {
 			LOGGER.error(partnerType + " : partnerType is not available.");
 			auditUtil.setAuditRequestDto(PartnerServiceAuditEnum.REGISTER_PARTNER_FAILURE, partnerType, "partnerType");
@@ -483,7 +487,7 @@ public class PartnerServiceImpl implements PartnerService {
 	}
 
 	private PolicyGroup validateAndGetPolicyGroupById(String policyGroupId) {
-		Optional<PolicyGroup> policyGroupFromDb = policyGroupRepository.findById(policyGroupId);
+		Optional<PolicyGroup> policyGroupFromDb = referenceDataCache.getPolicyGroupById(policyGroupId);
 		if (policyGroupFromDb.isEmpty()) {
 			LOGGER.error("Policy group is not available with id {} ", policyGroupId);
 			throw new PartnerServiceException(ErrorCode.POLICY_GROUP_DOES_NOT_EXIST.getErrorCode(),
@@ -715,6 +719,8 @@ public class PartnerServiceImpl implements PartnerService {
 		}
 		uploadOtherDomainCertificate(signedPartnerCert, partnerCertRequesteDto.getPartnerId());
 		Partner updateObject = partner;
+		partnerCertificateCache.evict(updateObject.getCertificateAlias());
+		partnerCertificateCache.put(responseObject.getCertificateId(), signedPartnerCert);
 		updateObject.setUpdBy(getLoggedInUserId());
 		updateObject.setUpdDtimes(Timestamp.valueOf(LocalDateTime.now()));
 		updateObject.setCertificateAlias(responseObject.getCertificateId());
@@ -928,10 +934,10 @@ public class PartnerServiceImpl implements PartnerService {
 			filters.add(partnerTypeSearch);
 			dto.setFilters(filters);
 		}
-		Page<Partner> page = partnerSearchHelper.search(Partner.class, dto, "id");
+		Page<Partner> page = partnerSearchHelper.searchPaged(Partner.class, dto, "id");
 		if (page.getContent() != null && !page.getContent().isEmpty()) {
 			partners = MapperUtils.mapAll(page.getContent(), PartnerSearchResponseDto.class);
-			pageDto = pageUtils.sortPage(partners, dto.getSort(), dto.getPagination(), page.getTotalElements());
+			pageDto = pageUtils.pageResponse(page, partners);
 		}
 		auditUtil.setAuditRequestDto(PartnerServiceAuditEnum.SEARCH_PARTNER_SUCCESS);
 		return pageDto;
@@ -941,10 +947,10 @@ public class PartnerServiceImpl implements PartnerService {
 	public PageResponseDto<PartnerType> searchPartnerType(SearchDto dto) {
 		List<PartnerType> partnerTypes = new ArrayList<>();
 		PageResponseDto<PartnerType> pageDto = new PageResponseDto<>();
-		Page<PartnerType> page = partnerSearchHelper.search(PartnerType.class, dto, null);
+		Page<PartnerType> page = partnerSearchHelper.searchPaged(PartnerType.class, dto, null);
 		if (page.getContent() != null && !page.getContent().isEmpty()) {
 			partnerTypes = MapperUtils.mapAll(page.getContent(), PartnerType.class);
-			pageDto = pageUtils.sortPage(partnerTypes, dto.getSort(), dto.getPagination(), page.getTotalElements());
+			pageDto = pageUtils.pageResponse(page, partnerTypes);
 		}
 		auditUtil.setAuditRequestDto(PartnerServiceAuditEnum.SEARCH_PARTNER_TYPE_SUCCESS);
 		return pageDto;
@@ -1031,7 +1037,7 @@ public class PartnerServiceImpl implements PartnerService {
 		response.setUp_by(authPolicy.getUpdBy());
 		response.setUpd_dtimes(authPolicy.getUpdDtimes());
 		response.setVersion(authPolicy.getVersion());
-		response.setPolicies(getPolicyObject(authPolicy.getPolicyFileId()));
+		response.setPolicies(getPolicyObject(authPolicy));
 		return response;
 	}
 
@@ -1052,11 +1058,10 @@ public class PartnerServiceImpl implements PartnerService {
 	 * @param policyFileId
 	 * @return
 	 */
-	private JSONObject getPolicyObject(String policyFileId) {
-		JSONParser parser = new JSONParser();
+	private JSONObject getPolicyObject(AuthPolicy authPolicy) {
 		String error = null;
 		try {
-			return ((JSONObject) parser.parse(policyFileId));
+			return policyObjectCache.getPolicyObject(authPolicy);
 		} catch (ParseException e) {
 			error = e.getMessage();
 		}
@@ -1116,24 +1121,23 @@ public class PartnerServiceImpl implements PartnerService {
 
 	@Override
 	public PageResponseDto<PartnerPolicySearchResponseDto> searchPartnerApiKeys(SearchDto dto) {
+		return searchPartnerApiKeys(dto, false);
+	}
+
+	@Override
+	public PageResponseDto<PartnerPolicySearchResponseDto> searchPartnerApiKeysByCursor(SearchDto dto) {
+		return searchPartnerApiKeys(dto, true);
+	}
+
+	/**
+	 * 
+	 * @param dto
+	 * @param byCursor true to fetch the page after the cursor instead of the page offset
+	 * @return
+	 */
+	private PageResponseDto<PartnerPolicySearchResponseDto> searchPartnerApiKeys(SearchDto dto, boolean byCursor) {
 		List<PartnerPolicySearchResponseDto> partnerMappedPolicies = new ArrayList<>();
 		PageResponseDto<PartnerPolicySearchResponseDto> pageDto = new PageResponseDto<>();
-		Optional<SearchFilter> partnerNameSearchFilter = Optional.empty();
-		Optional<SearchFilter> partnerIdSearchFilter = Optional.empty();
-		partnerNameSearchFilter = dto.getFilters().stream()
-				.filter(cn -> cn.getColumnName().equalsIgnoreCase("partnerName")).findFirst();;
-		dto.getFilters().removeIf(f->f.getColumnName().equalsIgnoreCase("partnerName"));
-		
-		partnerIdSearchFilter = dto.getFilters().stream()
-				.filter(cn -> cn.getColumnName().equalsIgnoreCase("partnerId")).findFirst();
-		if(partnerIdSearchFilter.isPresent()) {
-			Optional<Partner> loggedInPartner = partnerRepository.findById(partnerIdSearchFilter.get().getValue());
-			if (loggedInPartner.isPresent()) {
-				partnerIdSearchFilter.get().setValue(loggedInPartner.get().getId());
-			}
-			dto.getFilters().removeIf(f -> f.getColumnName().equalsIgnoreCase("partnerId"));
-		}
-		
 		Optional<SearchFilter> policyNameFilter = dto.getFilters().stream()
 				.filter(cn -> cn.getColumnName().equalsIgnoreCase("policyName")).findFirst();;
 		if (policyNameFilter.isPresent()) {
@@ -1145,38 +1149,24 @@ public class PartnerServiceImpl implements PartnerService {
 			dto.getFilters().add(policyIdSearchFilter);
 			dto.getFilters().removeIf(f -> f.getColumnName().equalsIgnoreCase("policyName"));
 		}
-
-		if(partnerSearchHelper.isLoggedInUserFilterRequired()) {
-			Optional<Partner> loggedInPartner = partnerRepository.findById(getLoggedInUserId());
-			if(loggedInPartner.isPresent()) {	
-				SearchFilter loggedInUserSearchFilter = new SearchFilter();
-				loggedInUserSearchFilter.setValue(loggedInPartner.get().getId());
-				partnerIdSearchFilter = Optional.of(loggedInUserSearchFilter);
-			}
+		SearchHelper.mapColumns(dto, API_KEY_SEARCH_COLUMNS);
+		Page<PartnerPolicy> page = null;
+		PageResponseDto<PartnerPolicy> cursorPage = null;
+		List<PartnerPolicy> content;
+		if (byCursor) {
+			cursorPage = partnerSearchHelper.searchByCursor(PartnerPolicy.class, dto, PARTNER_ID_COLUMN);
+			content = cursorPage.getData();
+		} else {
+			page = partnerSearchHelper.searchPaged(PartnerPolicy.class, dto, PARTNER_ID_COLUMN);
+			content = page.getContent();
 		}
-		Page<PartnerPolicy> page = partnerSearchHelper.search(PartnerPolicy.class, dto, null);
-		if (page.getContent() != null && !page.getContent().isEmpty()) {
-			if(partnerNameSearchFilter.isPresent() && partnerIdSearchFilter.isPresent()) {
-				String nameValue = partnerNameSearchFilter.get().getValue();
-				String idValue = partnerIdSearchFilter.get().getValue();
-				partnerMappedPolicies = mapPartnerPolicies(page.getContent().stream().filter(
-						f -> f.getPartner().getName().equals(nameValue) && f.getPartner().getId().equals(idValue))
-						.collect(Collectors.toList()));
-			}
-			else if (partnerNameSearchFilter.isPresent()) {
-				String value = partnerNameSearchFilter.get().getValue();
-				partnerMappedPolicies = mapPartnerPolicies(page.getContent().stream()
-						.filter(f -> f.getPartner().getName().equals(value)).collect(Collectors.toList()));
-			} else if(partnerIdSearchFilter.isPresent()){
-				String value = partnerIdSearchFilter.get().getValue();
-				partnerMappedPolicies = mapPartnerPolicies(page.getContent().stream()
-						.filter(f -> f.getPartner().getId().equals(value)).collect(Collectors.toList()));				
-			}
-			else{
-				partnerMappedPolicies = mapPartnerPolicies(page.getContent());
-			}
-			pageDto = pageUtils.sortPage(partnerMappedPolicies, dto.getSort(), dto.getPagination(),
-					page.getTotalElements());
+		if (content != null && !content.isEmpty()) {
+			partnerMappedPolicies = mapPartnerPolicies(content);
+		}
+		if (byCursor) {
+			pageDto = pageUtils.cursorPageResponse(cursorPage, partnerMappedPolicies);
+		} else {
+			pageDto = pageUtils.pageResponse(page, partnerMappedPolicies);
 		}
 		auditUtil.setAuditRequestDto(PartnerServiceAuditEnum.SEARCH_PARTNER_APIKEY_REQUEST_SUCCESS);
 		return pageDto;
@@ -1214,20 +1204,6 @@ public class PartnerServiceImpl implements PartnerService {
 	public PageResponseDto<PolicyRequestSearchResponseDto> searchPartnerApiKeyRequests(SearchDto dto) {
 		List<PolicyRequestSearchResponseDto> partnerPolicyRequests = new ArrayList<>();
 		PageResponseDto<PolicyRequestSearchResponseDto> pageDto = new PageResponseDto<>();
-		Optional<SearchFilter> partnerNameSearchFilter = Optional.empty();
-		Optional<SearchFilter> partnerIdSearchFilter = Optional.empty();
-		partnerNameSearchFilter = dto.getFilters().stream()
-				.filter(cn -> cn.getColumnName().equalsIgnoreCase("partnerName")).findFirst();
-		dto.getFilters().removeIf(f->f.getColumnName().equalsIgnoreCase("partnerName"));
-		
-		Optional<SearchFilter> apikeyRequestIdFilter = dto.getFilters().stream()
-				.filter(cn -> cn.getColumnName().equalsIgnoreCase("apikeyRequestId")).findFirst();
-		if (apikeyRequestIdFilter.isPresent()) {
-			apikeyRequestIdFilter.get().setColumnName("id");
-			dto.getFilters().add(apikeyRequestIdFilter.get());
-			dto.getFilters().removeIf(f -> f.getColumnName().equalsIgnoreCase("apikeyRequestId"));
-		}
-		
 		Optional<SearchFilter> policyNameFilter = dto.getFilters().stream()
 				.filter(cn -> cn.getColumnName().equalsIgnoreCase("policyName")).findFirst();
 		if (policyNameFilter.isPresent()) {
@@ -1245,45 +1221,23 @@ public class PartnerServiceImpl implements PartnerService {
 			}
 			dto.getFilters().removeIf(f -> f.getColumnName().equalsIgnoreCase("policyName"));
 		}
-			
-		partnerIdSearchFilter = dto.getFilters().stream()
-				.filter(cn -> cn.getColumnName().equalsIgnoreCase("partnerId")).findFirst();
-		dto.getFilters().removeIf(f->f.getColumnName().equalsIgnoreCase("partnerId"));
-		
-		if(partnerSearchHelper.isLoggedInUserFilterRequired()) {
-			Optional<Partner> loggedInPartner = partnerRepository.findById(getLoggedInUserId());
-			if(loggedInPartner.isPresent()) {				
-				SearchFilter loggedInUserSearchFilter = new SearchFilter();
-				loggedInUserSearchFilter.setValue(loggedInPartner.get().getId());
-				partnerIdSearchFilter = Optional.of(loggedInUserSearchFilter);
-			}
-		}
-		Page<PartnerPolicyRequest> page = partnerSearchHelper.search(PartnerPolicyRequest.class, dto,
-				null);
+		// the policy name is not a column of the request, so requests sorted by it are
+		// all fetched and sorted in memory
+		List<SearchSort> sort = dto.getSort();
+		boolean isSortedByPolicyName = sort != null
+				&& sort.stream().anyMatch(s -> "policyName".equalsIgnoreCase(s.getSortField()));
+		if (isSortedByPolicyName) {
+			dto.setSort(new ArrayList<>());
+		}
+		SearchHelper.mapColumns(dto, API_KEY_REQUEST_SEARCH_COLUMNS);
+		Page<PartnerPolicyRequest> page = isSortedByPolicyName
+				? partnerSearchHelper.search(PartnerPolicyRequest.class, dto, PARTNER_ID_COLUMN)
+				: partnerSearchHelper.searchPaged(PartnerPolicyRequest.class, dto, PARTNER_ID_COLUMN);
 		if (page.getContent() != null && !page.getContent().isEmpty()) {
-			if(partnerNameSearchFilter.isPresent() && partnerIdSearchFilter.isPresent()) {
-				String nameValue = partnerNameSearchFilter.get().getValue();
-				String idValue = partnerIdSearchFilter.get().getValue();
-				partnerPolicyRequests = mapPolicyRequests(page.getContent().stream()
-						.filter(f -> f.getPartner().getName().contains(nameValue) &&
-								f.getPartner().getId().equals(idValue))
-						.collect(Collectors.toList()));				
-			}else if (partnerNameSearchFilter.isPresent()) {
-				String value = partnerNameSearchFilter.get().getValue();
-				partnerPolicyRequests = mapPolicyRequests(page.getContent().stream()
-						.filter(f -> f.getPartner().getName().toLowerCase().contains(value.toLowerCase()))
-						.collect(Collectors.toList()));
-			}else if(partnerIdSearchFilter.isPresent()){
-				String value = partnerIdSearchFilter.get().getValue();
-				partnerPolicyRequests = mapPolicyRequests(page.getContent().stream()
-						.filter(f -> f.getPartner().getId().equals(value))
-						.collect(Collectors.toList()));				
-			}
-			else{
-				partnerPolicyRequests = mapPolicyRequests(page.getContent());
-			}
-			pageDto = pageUtils.sortPage(partnerPolicyRequests, dto.getSort(), dto.getPagination(),
-					page.getTotalElements());
+			partnerPolicyRequests = mapPolicyRequests(page.getContent());
+			pageDto = isSortedByPolicyName
+					? pageUtils.sortPage(partnerPolicyRequests, sort, dto.getPagination(), page.getTotalElements())
+					: pageUtils.pageResponse(page, partnerPolicyRequests);
 		}
 		auditUtil.setAuditRequestDto(PartnerServiceAuditEnum.SEARCH_PARTNER_APIKEY_SUCCESS);
 		return pageDto;
@@ -1488,15 +1442,10 @@ public class PartnerServiceImpl implements PartnerService {
 					ErrorCode.INVALID_EMAIL_ID_EXCEPTION.getErrorMessage());
 		}
 		response.setEmailExists(!validatePartnerByEmail(emailId));
-		List<PartnerType> partnerTypesFromDb = getAllPartnerTypes();
-		response.setPolicyRequiredPartnerTypes(partnerTypesFromDb.stream().filter(pt -> pt.getIsPolicyRequired())
+		response.setPolicyRequiredPartnerTypes(referenceDataCache.getPartnerTypes().stream().filter(pt -> pt.getIsPolicyRequired())
 				.map(p -> p.getCode().toUpperCase()).collect(Collectors.toList()));
 		return response;
 	}
-	
-	private List<PartnerType> getAllPartnerTypes(){
-		return partnerTypeRepository.findAll();
-	}
 
 	@Override
 	public PartnerPolicyMappingResponseDto requestForPolicyMapping(PartnerPolicyMappingRequest partnerAPIKeyRequest, String partnerId) {
@@ -1557,7 +1506,7 @@ public class PartnerServiceImpl implements PartnerService {
 	 * @return
 	 */
 	public List<String> getSystemSupportedLanguageCodes() {		
-		return List.of((mandatoryLanguges + "," + optionalLanguges).split(","));
+		return referenceDataCache.getSupportedLanguageCodes();
 	}
 	
 	/**
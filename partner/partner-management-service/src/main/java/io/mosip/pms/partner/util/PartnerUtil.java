@@ -1,6 +1,6 @@
 package io.mosip.pms.partner.util;
 
-import java.security.SecureRandom;
+import io.mosip.pms.common.util.IdGenerator;
 
 /**
  * @author sanjeev.shrivastava
@@ -14,7 +14,7 @@ public class PartnerUtil {
 	 */
 	
 	public static String createPartnerId(){
-		return getSecureRandomId(1000000);
+		return IdGenerator.timeOrdered().generateId();
 	}
 	
 	/**
@@ -22,7 +22,7 @@ public class PartnerUtil {
 	 * @return
 	 */
 	public static String createPartnerApiKey() {
-		return getSecureRandomId(1000000);
+		return IdGenerator.apiKey().generateId();
 	}
 	
 	/**
@@ -30,7 +30,7 @@ public class PartnerUtil {
 	 * @return
 	 */
 	public static String generateId(){
-		return getSecureRandomId(1000000);
+		return IdGenerator.timeOrdered().generateId();
 	}
 	
 	/**
@@ -38,7 +38,7 @@ public class PartnerUtil {
 	 */
 	
 	public static String createAuthPolicyId(){
-		return getSecureRandomId(1000000);
+		return IdGenerator.timeOrdered().generateId();
 	}
 	
 	/**
@@ -46,16 +46,6 @@ public class PartnerUtil {
 	 */
 	
 	public static String createPartnerPolicyRequestId(){	    
-	    return getSecureRandomId(1000000);
-	}
-	
-	/**
-	 * Will generate secure random integer
-	 * @param length
-	 * @return
-	 */
-	private static String getSecureRandomId(int length) {
-		SecureRandom random = new SecureRandom();
-		return random.nextInt(length) + "";
+	    return IdGenerator.timeOrdered().generateId();
 	}
 }
@@ -38,6 +38,7 @@ import io.mosip.pms.common.helper.FilterHelper;
 import io.mosip.pms.common.helper.SearchHelper;
 import io.mosip.pms.common.repository.PartnerServiceRepository;
 import io.mosip.pms.common.util.PageUtils;
+import io.mosip.pms.common.util.ReferenceDataCache;
 import io.mosip.pms.common.validator.FilterColumnValidator;
 import io.mosip.pms.device.authdevice.entity.DeviceDetail;
 import io.mosip.pms.device.authdevice.entity.RegistrationDeviceSubType;
@@ -111,6 +112,7 @@ public class DeviceDetailServiceTest {
 		ReflectionTestUtils.setField(deviceDetaillService, "searchHelper", searchHelper);
 		ReflectionTestUtils.setField(deviceDetaillService, "pageUtils", pageUtils);
 		ReflectionTestUtils.setField(deviceDetaillService, "filterHelper", filterHelper);
+		ReflectionTestUtils.setField(deviceDetaillService, "referenceDataCache", new ReferenceDataCache());
 
 		partner.setId("1234");
 		registrationDeviceSubType.setCode("123");
@@ -194,7 +196,7 @@ public class DeviceDetailServiceTest {
 		objectMapper.writeValueAsString(deviceRequestDto);
 		DeviceDetail device = new DeviceDetail();
 		device.setId("1001");
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(device))).when(searchHelper).search(Mockito.any(),
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(device))).when(searchHelper).searchPaged(Mockito.any(),
 				Mockito.any(), Mockito.any());
 		deviceDetaillService.searchDeviceType(DeviceDetail.class, deviceSearchDto);
 	}
@@ -209,7 +211,7 @@ public class DeviceDetailServiceTest {
 		DeviceDetail device = new DeviceDetail();
 		device.setId("1001");
 		Mockito.when(partnerRepository.findByName("m")).thenReturn(partner);
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(device))).when(searchHelper).search(Mockito.any(),
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(device))).when(searchHelper).searchPaged(Mockito.any(),
 				Mockito.any(),Mockito.anyString());
 		deviceDetaillService.searchDeviceDetails(DeviceDetail.class, deviceSearchDto);
 	}
@@ -224,7 +226,7 @@ public class DeviceDetailServiceTest {
 		DeviceDetail device = new DeviceDetail();
 		device.setId("1001");
 		Mockito.when(partnerRepository.findByNameIgnoreCase("m")).thenReturn(List.of("1234"));
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(device))).when(searchHelper).search(Mockito.any(),
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(device))).when(searchHelper).searchPaged(Mockito.any(),
 				Mockito.any(),Mockito.anyString());
 		deviceDetaillService.searchDeviceDetails(DeviceDetail.class, deviceSearchDto);
 	}
@@ -41,6 +41,7 @@ import io.mosip.pms.common.repository.PartnerServiceRepository;
 import io.mosip.pms.common.util.PageUtils;
 import io.mosip.pms.common.validator.FilterColumnValidator;
 import io.mosip.pms.device.authdevice.entity.DeviceDetail;
+import io.mosip.pms.device.authdevice.entity.MappedDeviceDetail;
 import io.mosip.pms.device.authdevice.entity.SecureBiometricInterface;
 import io.mosip.pms.device.authdevice.entity.SecureBiometricInterfaceHistory;
 import io.mosip.pms.device.authdevice.repository.DeviceDetailRepository;
@@ -55,6 +56,7 @@ import io.mosip.pms.device.request.dto.DeviceSearchDto;
 import io.mosip.pms.device.request.dto.SecureBiometricInterfaceCreateDto;
 import io.mosip.pms.device.request.dto.SecureBiometricInterfaceStatusUpdateDto;
 import io.mosip.pms.device.request.dto.SecureBiometricInterfaceUpdateDto;
+import io.mosip.pms.device.response.dto.MappedDeviceDetailsReponse;
 import io.mosip.pms.device.util.AuditUtil;
 import io.mosip.pms.test.PartnerManagementServiceTest;
 
@@ -218,7 +220,7 @@ public class SBIServiceTest {
 		objectMapper.writeValueAsString(deviceRequestDto);
 		DeviceDetail device = new DeviceDetail();
 		device.setId("1001");
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(secureBiometricInterface))).when(searchHelper).search(Mockito.any(),Mockito.any(), Mockito.any());
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(secureBiometricInterface))).when(searchHelper).searchPaged(Mockito.any(),Mockito.any(), Mockito.any());
 		secureBiometricInterfaceService.searchSecureBiometricInterface(SecureBiometricInterface.class, deviceSearchDto);
 	}
 	
@@ -227,7 +229,7 @@ public class SBIServiceTest {
 		objectMapper.writeValueAsString(deviceRequestDto);
 		DeviceDetail device = new DeviceDetail();
 		device.setId("1001");
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(secureBiometricInterface))).when(searchHelper).search(Mockito.any(),Mockito.any(), Mockito.any());
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(secureBiometricInterface))).when(searchHelper).searchPaged(Mockito.any(),Mockito.any(), Mockito.any());
 		secureBiometricInterfaceService.searchSecureBiometricInterface(SecureBiometricInterface.class, deviceSearchDto);
 	}
 	
@@ -465,22 +467,22 @@ public class SBIServiceTest {
 	public void searchMappedDeviceDetailsTest01() {
 		DeviceSearchDto searchDto = new DeviceSearchDto();
 		SearchFilter filterSearch = new SearchFilter();
-		filterSearch.setValue("Test");
+		filterSearch.setValue("deviceDetailId");
 		filterSearch.setColumnName("deviceDetailId");
-		Partner validPartner = new Partner();
-		validPartner.setId("partner");
-		validPartner.setName("partnerName");
 		List<SearchFilter> searchFilters = new ArrayList<>();
 		searchFilters.add(filterSearch);
 		searchDto.setFilters(searchFilters);
-		DeviceDetailSBI validRecords = new DeviceDetailSBI();
-		DeviceDetailSBIPK key = new DeviceDetailSBIPK();
-		key.setDeviceDetailId("deviceDetailId");
-		key.setSbiId("sbiid");
-		validRecords.setId(key);
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(validRecords))).when(searchHelper).search(Mockito.any(),
-				Mockito.any(),Mockito.anyString());
-		secureBiometricInterfaceService.searchMappedDeviceDetails(DeviceDetailSBI.class, searchDto);				
+		MappedDeviceDetailsReponse mappedDevice = new MappedDeviceDetailsReponse();
+		mappedDevice.setDeviceDetailId("deviceDetailId");
+		mappedDevice.setSbiId("sbiid");
+		List<MappedDeviceDetailsReponse> mappedDevices = Arrays.asList(mappedDevice);
+		Mockito.doReturn(new PageImpl<>(mappedDevices)).when(searchHelper).searchProjected(
+				Mockito.eq(MappedDeviceDetail.class), Mockito.eq(MappedDeviceDetailsReponse.class),
+				Mockito.eq(MappedDeviceDetailsReponse.COLUMNS), Mockito.any(), Mockito.eq("providerId"));
+		secureBiometricInterfaceService.searchMappedDeviceDetails(DeviceDetailSBI.class, searchDto);
+		Mockito.verify(pageUtils).pageResponse(Mockito.any(), Mockito.eq(mappedDevices));
+		Mockito.verify(deviceDetailRepository, Mockito.never()).findAll();
+		Mockito.verify(sbiRepository, Mockito.never()).findAll();
 	}
 	
 	@Test
@@ -489,30 +491,13 @@ public class SBIServiceTest {
 		SearchFilter filterSearch = new SearchFilter();
 		filterSearch.setValue("Test");
 		filterSearch.setColumnName("providerId");
-		Partner validPartner = new Partner();
-		validPartner.setId("partner");
-		validPartner.setName("partnerName");
 		List<SearchFilter> searchFilters = new ArrayList<>();
 		searchFilters.add(filterSearch);
 		searchDto.setFilters(searchFilters);
-		DeviceDetailSBI validRecords = new DeviceDetailSBI();
-		DeviceDetailSBIPK key = new DeviceDetailSBIPK();
-		key.setDeviceDetailId("deviceDetailId");
-		key.setSbiId("sbiid");
-		validRecords.setId(key);
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(validRecords))).when(searchHelper).search(Mockito.any(),
-				Mockito.any(),Mockito.anyString());
-		DeviceDetail deviceDetail = new DeviceDetail();
-		SecureBiometricInterface sbi = new SecureBiometricInterface();
-		deviceDetail.setId("deviceDetailId");
-		deviceDetail.setMake("001");
-		deviceDetail.setModel("001");
-		sbi.setActive(true);
-		sbi.setId("sbiid");
-		sbi.setProviderId("12345");
-		Mockito.when(deviceDetailRepository.findAll()).thenReturn(List.of(deviceDetail));
-		Mockito.when(sbiRepository.findAll()).thenReturn(List.of(sbi));
-		secureBiometricInterfaceService.searchMappedDeviceDetails(DeviceDetailSBI.class, searchDto);				
+		Mockito.doReturn(new PageImpl<>(new ArrayList<>())).when(searchHelper).searchProjected(Mockito.any(),
+				Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyString());
+		assertTrue(secureBiometricInterfaceService.searchMappedDeviceDetails(DeviceDetailSBI.class, searchDto)
+				.getData() == null);
 	}
 	
 	@Test
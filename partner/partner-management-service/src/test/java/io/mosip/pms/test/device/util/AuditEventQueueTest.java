@@ -0,0 +1,90 @@
+package io.mosip.pms.test.device.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.mosip.pms.device.util.AuditEventQueue;
+import io.mosip.pms.device.util.AuditEventQueue.BackpressurePolicy;
+import io.mosip.pms.device.util.dto.AuditRequestDto;
+
+public class AuditEventQueueTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	@Test
+	public void shipsQueuedEventsOnShutdownTest() throws Exception {
+		List<AuditRequestDto> shipped = new CopyOnWriteArrayList<>();
+		AuditEventQueue queue = new AuditEventQueue(shipped::add, objectMapper, BackpressurePolicy.BLOCK, 10, 3, 50,
+				100, Files.createTempDirectory("audit"), null);
+		for (int i = 0; i < 5; i++) {
+			queue.submit(event("PMS-" + i));
+		}
+		queue.shutdown(5000);
+		assertEquals(5, shipped.size());
+	}
+
+	@Test
+	public void spilledEventsAreShippedTest() throws Exception {
+		List<AuditRequestDto> shipped = new CopyOnWriteArrayList<>();
+		Path spillDirectory = Files.createTempDirectory("audit");
+		Object gate = new Object();
+		AuditEventQueue queue = new AuditEventQueue(event -> {
+			synchronized (gate) {
+				shipped.add(event);
+			}
+		}, objectMapper, BackpressurePolicy.SPILL_TO_DISK, 1, 1, 50, 100, spillDirectory, null);
+		synchronized (gate) {
+			for (int i = 0; i < 5; i++) {
+				queue.submit(event("PMS-" + i));
+			}
+		}
+		long deadline = System.currentTimeMillis() + 5000;
+		while (shipped.size() < 5 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		queue.shutdown(5000);
+		assertEquals(5, shipped.size());
+	}
+
+	@Test
+	public void spilledEventsAreShippedWhileTheQueueIsBusyTest() throws Exception {
+		List<String> shipped = new CopyOnWriteArrayList<>();
+		Path spillDirectory = Files.createTempDirectory("audit");
+		AuditEventQueue queue = new AuditEventQueue(event -> {
+			shipped.add(event.getEventId());
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, objectMapper, BackpressurePolicy.SPILL_TO_DISK, 1000, 10, 50, 100, spillDirectory, null);
+		// keeps the worker busy for about two seconds
+		for (int i = 0; i < 400; i++) {
+			queue.submit(event("PMS-" + i));
+		}
+		// left over by a previous run
+		Files.write(spillDirectory.resolve("audit-events.log"),
+				List.of(objectMapper.writeValueAsString(event("SPILLED"))), StandardCharsets.UTF_8);
+		queue.shutdown(10000);
+		assertEquals(401, shipped.size());
+		assertTrue(shipped.indexOf("SPILLED") < shipped.indexOf("PMS-399"));
+	}
+
+	private AuditRequestDto event(String eventId) {
+		AuditRequestDto event = new AuditRequestDto();
+		event.setEventId(eventId);
+		event.setEventName("test");
+		return event;
+	}
+}
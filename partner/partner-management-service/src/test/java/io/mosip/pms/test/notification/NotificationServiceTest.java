@@ -0,0 +1,202 @@
+package io.mosip.pms.test.notification;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.pms.common.constant.EventType;
+import io.mosip.pms.common.exception.ApiAccessibleException;
+import io.mosip.pms.common.response.dto.NotificationDto;
+import io.mosip.pms.common.service.NotificatonService;
+import io.mosip.pms.common.util.NotificationUtil;
+import io.mosip.pms.common.util.TemplateUtil;
+
+public class NotificationServiceTest {
+
+	private NotificatonService notificationService;
+
+	private NotificationUtil notificationUtil;
+
+	private TemplateUtil templateUtil;
+
+	private MeterRegistry meterRegistry;
+
+	@Before
+	public void setUp() throws Exception {
+		notificationUtil = Mockito.mock(NotificationUtil.class);
+		templateUtil = Mockito.mock(TemplateUtil.class);
+		meterRegistry = new SimpleMeterRegistry();
+		notificationService = new NotificatonService();
+		ReflectionTestUtils.setField(notificationService, "notificationUtil", notificationUtil);
+		ReflectionTestUtils.setField(notificationService, "templateUtil", templateUtil);
+		ReflectionTestUtils.setField(notificationService, "restTemplate", Mockito.mock(RestTemplate.class));
+		ReflectionTestUtils.setField(notificationService, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(notificationService, "apikeyStatusSubjectTemplate", "subject");
+		ReflectionTestUtils.setField(notificationService, "apikeyStatusContentTemplate", "body");
+		ReflectionTestUtils.setField(notificationService, "workers", 4);
+		ReflectionTestUtils.setField(notificationService, "queueCapacity", 100);
+		ReflectionTestUtils.setField(notificationService, "maxAttempts", 2);
+		ReflectionTestUtils.setField(notificationService, "initialBackoff", 1L);
+		notificationService.init();
+		Mockito.when(templateUtil.getTemplate(Mockito.anyString(), Mockito.anyString()))
+				.thenAnswer(invocation -> invocation.getArgument(1) + "-" + invocation.getArgument(0));
+		Mockito.when(templateUtil.templateMerge(Mockito.anyString(), Mockito.anyString(), Mockito.anyString(),
+				Mockito.any())).thenAnswer(invocation -> invocation.getArgument(2));
+	}
+
+	@After
+	public void tearDown() {
+		notificationService.stop();
+	}
+
+	@Test
+	public void sendNotificationsByLanguageTest() throws Exception {
+		notificationService.sendNotications(EventType.APIKEY_EXPIRED,
+				List.of(notification("1", "eng"), notification("2", "ara"), notification("3", "eng")));
+		Mockito.verify(notificationUtil, Mockito.timeout(5000).times(2)).emailNotification(Mockito.any(),
+				Mockito.any(), Mockito.eq("subject-eng"), Mockito.eq("body-eng"));
+		Mockito.verify(notificationUtil, Mockito.timeout(5000)).emailNotification(Mockito.any(), Mockito.any(),
+				Mockito.eq("subject-ara"), Mockito.eq("body-ara"));
+		Mockito.verify(templateUtil).getTemplate("eng", "subject");
+		Mockito.verify(templateUtil).getTemplate("ara", "subject");
+		waitForCount("pms.notifications.sent", 3);
+	}
+
+	@Test
+	public void failedNotificationDoesNotStopTheOthersTest() throws Exception {
+		NotificationDto failing = notification("1", "eng");
+		NotificationDto retried = notification("2", "eng");
+		Mockito.when(notificationUtil.emailNotification(Mockito.eq(failing), Mockito.any(), Mockito.any(),
+				Mockito.any())).thenThrow(new ApiAccessibleException("PMS", "failed"));
+		Mockito.when(notificationUtil.emailNotification(Mockito.eq(retried), Mockito.any(), Mockito.any(),
+				Mockito.any())).thenThrow(new ApiAccessibleException("PMS", "failed")).thenReturn(null);
+		List<NotificationDto> notifications = new ArrayList<>();
+		notifications.add(failing);
+		notifications.add(retried);
+		for (int i = 3; i < 10; i++) {
+			notifications.add(notification(String.valueOf(i), "eng"));
+		}
+		notificationService.sendNotications(EventType.APIKEY_EXPIRED, notifications);
+		waitForCount("pms.notifications.failed", 1);
+		waitForCount("pms.notifications.sent", 8);
+		Mockito.verify(notificationUtil, Mockito.times(2)).emailNotification(Mockito.eq(failing), Mockito.any(),
+				Mockito.any(), Mockito.any());
+		assertEquals(2, count("pms.notifications.retries"), 0);
+	}
+
+	@Test
+	public void sendNotificationsDoesNotWaitForTheEmailsTest() throws Exception {
+		CountDownLatch mailServer = new CountDownLatch(1);
+		Mockito.when(notificationUtil.emailNotification(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> {
+					mailServer.await(5, TimeUnit.SECONDS);
+					return null;
+				});
+		notificationService.sendNotications(EventType.APIKEY_EXPIRED, List.of(notification("1", "eng")));
+		assertEquals(0, count("pms.notifications.sent"), 0);
+		mailServer.countDown();
+		waitForCount("pms.notifications.sent", 1);
+	}
+
+	@Test
+	public void dispatchReturnsFailedNotificationsTest() throws Exception {
+		NotificationDto failing = notification("1", "eng");
+		Mockito.when(notificationUtil.emailNotification(Mockito.eq(failing), Mockito.any(), Mockito.any(),
+				Mockito.any())).thenThrow(new ApiAccessibleException("PMS", "failed"));
+		List<NotificationDto> failed = notificationService.dispatch(EventType.APIKEY_EXPIRED,
+				List.of(notification("2", "ara"), failing, notification("3", "eng")));
+		assertEquals(List.of(failing), failed);
+		assertEquals(2, count("pms.notifications.sent"), 0);
+	}
+
+	@Test
+	public void notificationsNotFittingInTheQueueAreCountedAsFailedTest() throws Exception {
+		CountDownLatch mailServer = blockWorker();
+		notificationService.sendNotications(EventType.APIKEY_EXPIRED, List.of(notification("2", "eng")));
+		NotificationDto rejected = notification("3", "eng");
+		notificationService.sendNotications(EventType.APIKEY_EXPIRED, List.of(rejected, notification("4", "ara")));
+		assertEquals(2, count("pms.notifications.failed"), 0);
+		mailServer.countDown();
+		waitForCount("pms.notifications.sent", 2);
+		Mockito.verify(notificationUtil, Mockito.never()).emailNotification(Mockito.eq(rejected), Mockito.any(),
+				Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	public void dispatchReturnsNotificationsNotFittingInTheQueueTest() throws Exception {
+		CountDownLatch mailServer = blockWorker();
+		Thread releaser = new Thread(() -> {
+			try {
+				waitForCount("pms.notifications.failed", 2);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				mailServer.countDown();
+			}
+		});
+		releaser.start();
+		NotificationDto queued = notification("2", "eng");
+		NotificationDto rejected = notification("3", "eng");
+		NotificationDto rejectedToo = notification("4", "eng");
+		List<NotificationDto> failed = notificationService.dispatch(EventType.APIKEY_EXPIRED,
+				List.of(queued, rejected, rejectedToo));
+		releaser.join();
+		assertEquals(List.of(rejected, rejectedToo), failed);
+		assertEquals(2, count("pms.notifications.sent"), 0);
+	}
+
+	/**
+	 * Restarts the service with one worker and room for one more notification in
+	 * the queue, and keeps the worker busy sending a notification until the
+	 * returned mail server is released.
+	 */
+	private CountDownLatch blockWorker() throws Exception {
+		notificationService.stop();
+		ReflectionTestUtils.setField(notificationService, "workers", 1);
+		ReflectionTestUtils.setField(notificationService, "queueCapacity", 1);
+		notificationService.init();
+		CountDownLatch mailServer = new CountDownLatch(1);
+		Mockito.when(notificationUtil.emailNotification(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> {
+					mailServer.await(5, TimeUnit.SECONDS);
+					return null;
+				});
+		notificationService.sendNotications(EventType.APIKEY_EXPIRED, List.of(notification("1", "eng")));
+		Mockito.verify(notificationUtil, Mockito.timeout(5000)).emailNotification(Mockito.any(), Mockito.any(),
+				Mockito.any(), Mockito.any());
+		return mailServer;
+	}
+
+	private void waitForCount(String name, double expected) throws InterruptedException {
+		for (int i = 0; i < 250 && count(name) < expected; i++) {
+			Thread.sleep(20);
+		}
+		assertEquals(expected, count(name), 0);
+	}
+
+	private double count(String name) {
+		Counter counter = meterRegistry.find(name).tag("event", EventType.APIKEY_EXPIRED.toString()).counter();
+		return counter == null ? 0 : counter.count();
+	}
+
+	private NotificationDto notification(String partnerId, String langCode) {
+		NotificationDto notification = new NotificationDto();
+		notification.setPartnerId(partnerId);
+		notification.setEmailId(partnerId + "@mosip.io");
+		notification.setLangCode(langCode);
+		return notification;
+	}
+}
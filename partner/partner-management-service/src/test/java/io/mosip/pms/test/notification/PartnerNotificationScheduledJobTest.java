@@ -0,0 +1,187 @@
+package io.mosip.pms.test.notification;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.pms.common.constant.EventType;
+import io.mosip.pms.common.entity.AuthPolicy;
+import io.mosip.pms.common.entity.Partner;
+import io.mosip.pms.common.entity.PartnerPolicy;
+import io.mosip.pms.common.entity.ScheduledJobLease;
+import io.mosip.pms.common.repository.ApiKeyExpiryNotificationRepository;
+import io.mosip.pms.common.repository.AuthPolicyRepository;
+import io.mosip.pms.common.repository.PartnerPolicyRepository;
+import io.mosip.pms.common.repository.PartnerServiceRepository;
+import io.mosip.pms.common.repository.ScheduledJobLeaseRepository;
+import io.mosip.pms.common.response.dto.NotificationDto;
+import io.mosip.pms.common.service.NotificatonService;
+import io.mosip.pms.notification.job.PartnerNotificationScheduledJob;
+import io.mosip.pms.test.PartnerManagementServiceTest;
+import io.mosip.pms.test.config.TestSecurityConfig;
+
+@SpringBootTest(classes = PartnerManagementServiceTest.class)
+@RunWith(SpringRunner.class)
+@Import(TestSecurityConfig.class)
+public class PartnerNotificationScheduledJobTest {
+
+	private static final int EXPIRING_KEYS = 5;
+
+	@Autowired
+	private PartnerNotificationScheduledJob job;
+
+	@Autowired
+	private PartnerServiceRepository partnerRepository;
+
+	@Autowired
+	private PartnerPolicyRepository partnerPolicyRepository;
+
+	@Autowired
+	private AuthPolicyRepository authPolicyRepository;
+
+	@Autowired
+	private ApiKeyExpiryNotificationRepository expiryNotificationRepository;
+
+	@Autowired
+	private ScheduledJobLeaseRepository jobLeaseRepository;
+
+	@MockBean
+	private NotificatonService notificationService;
+
+	@Before
+	public void setUp() {
+		ReflectionTestUtils.setField(job, "chunkSize", 2);
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		AuthPolicy authPolicy = new AuthPolicy();
+		authPolicy.setId("expiry-policy");
+		authPolicy.setName("expiry policy");
+		authPolicy.setIsActive(true);
+		authPolicy.setIsDeleted(false);
+		authPolicy.setCrBy("test");
+		authPolicy.setCrDtimes(now);
+		authPolicyRepository.save(authPolicy);
+		for (int i = 0; i <= EXPIRING_KEYS; i++) {
+			Partner partner = new Partner();
+			partner.setId("expiry-partner-" + i);
+			partner.setName("partner " + i);
+			partner.setEmailId("partner" + i + "@mosip.io");
+			partner.setLangCode("eng");
+			partner.setIsActive(true);
+			partner.setIsDeleted(false);
+			partner.setCrBy("test");
+			partner.setCrDtimes(now);
+			partnerRepository.save(partner);
+
+			PartnerPolicy partnerPolicy = new PartnerPolicy();
+			partnerPolicy.setPolicyApiKey("expiry-key-" + i);
+			partnerPolicy.setPolicyId("expiry-policy");
+			partnerPolicy.setPartner(partner);
+			partnerPolicy.setIsActive(true);
+			partnerPolicy.setIsDeleted(false);
+			partnerPolicy.setCrBy("test");
+			partnerPolicy.setCrDtimes(now);
+			partnerPolicy.setValidFromDatetime(now);
+			// the last key expires after the threshold
+			partnerPolicy.setValidToDatetime(
+					Timestamp.valueOf(LocalDateTime.now().plusDays(i < EXPIRING_KEYS ? 1 : 10)));
+			partnerPolicyRepository.save(partnerPolicy);
+		}
+	}
+
+	@After
+	public void tearDown() {
+		jobLeaseRepository.deleteAll();
+		expiryNotificationRepository.deleteAll();
+		partnerPolicyRepository.deleteAll();
+		partnerRepository.deleteAll();
+		authPolicyRepository.deleteAll();
+	}
+
+	@Test
+	public void expiringKeysAreNotifiedOnceTest() {
+		job.getAllAPIKeys();
+		List<String> notifiedKeys = notifiedKeys(3);
+		assertEquals(List.of("expiry-key-0", "expiry-key-1", "expiry-key-2", "expiry-key-3", "expiry-key-4"),
+				notifiedKeys);
+		assertEquals(EXPIRING_KEYS, expiryNotificationRepository.count());
+
+		Mockito.clearInvocations(notificationService);
+		job.getAllAPIKeys();
+		Mockito.verify(notificationService, Mockito.never()).dispatch(Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	public void renewedKeyIsNotifiedAgainTest() {
+		job.getAllAPIKeys();
+		PartnerPolicy partnerPolicy = partnerPolicyRepository.findById("expiry-key-0").get();
+		partnerPolicy.setValidToDatetime(Timestamp.valueOf(LocalDateTime.now().plusDays(2)));
+		partnerPolicyRepository.save(partnerPolicy);
+
+		Mockito.clearInvocations(notificationService);
+		job.getAllAPIKeys();
+		assertEquals(List.of("expiry-key-0"), notifiedKeys(1));
+	}
+
+	@Test
+	public void failedNotificationIsSentOnTheNextRunTest() {
+		Mockito.when(notificationService.dispatch(Mockito.eq(EventType.APIKEY_EXPIRED), Mockito.any()))
+				.thenAnswer(invocation -> {
+					List<NotificationDto> notifications = invocation.getArgument(1);
+					return notifications.stream().filter(n -> n.getApiKey().equals("expiry-key-3"))
+							.collect(Collectors.toList());
+				});
+		job.getAllAPIKeys();
+		assertEquals(EXPIRING_KEYS - 1, expiryNotificationRepository.count());
+
+		Mockito.reset(notificationService);
+		job.getAllAPIKeys();
+		assertEquals(List.of("expiry-key-3"), notifiedKeys(1));
+		assertEquals(EXPIRING_KEYS, expiryNotificationRepository.count());
+	}
+
+	@Test
+	public void jobLeasedToAnotherInstanceIsSkippedTest() {
+		ScheduledJobLease jobLease = new ScheduledJobLease();
+		jobLease.setJobName("apikey-expiry-notification");
+		jobLease.setLockedBy("another-instance");
+		jobLease.setLockedUntil(LocalDateTime.now().plusHours(1));
+		jobLeaseRepository.save(jobLease);
+
+		job.getAllAPIKeys();
+		Mockito.verify(notificationService, Mockito.never()).dispatch(Mockito.any(), Mockito.any());
+
+		jobLease.setLockedUntil(LocalDateTime.now().minusMinutes(1));
+		jobLeaseRepository.save(jobLease);
+		job.getAllAPIKeys();
+		assertEquals(EXPIRING_KEYS, notifiedKeys(3).size());
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> notifiedKeys(int chunks) {
+		ArgumentCaptor<List<NotificationDto>> captor = ArgumentCaptor.forClass(List.class);
+		Mockito.verify(notificationService, Mockito.times(chunks)).dispatch(Mockito.eq(EventType.APIKEY_EXPIRED),
+				captor.capture());
+		List<String> notifiedKeys = new ArrayList<>();
+		for (List<NotificationDto> chunk : captor.getAllValues()) {
+			chunk.forEach(notification -> notifiedKeys.add(notification.getApiKey()));
+		}
+		return notifiedKeys;
+	}
+}
@@ -0,0 +1,166 @@
+package io.mosip.pms.test.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.templatemanager.spi.TemplateManager;
+import io.mosip.pms.common.constant.EventType;
+import io.mosip.pms.common.response.dto.NotificationDto;
+import io.mosip.pms.common.service.NotificatonService;
+import io.mosip.pms.common.util.NotificationUtil;
+import io.mosip.pms.common.util.RestUtil;
+import io.mosip.pms.common.util.TemplateUtil;
+import io.mosip.pms.test.PartnerManagementServiceTest;
+import io.mosip.pms.test.config.TestSecurityConfig;
+
+@SpringBootTest(classes = PartnerManagementServiceTest.class)
+@RunWith(SpringRunner.class)
+@Import(TestSecurityConfig.class)
+public class TemplateUtilTest {
+
+	private static final String BODY = "Dear $partnerName,#if($apiKeyStatus == \"Active\") your api key $apiKey"
+			+ " expires on $apiKeyExpiresOn.#else your api key $apiKey is $apiKeyStatus.#end Policy: $!policyName";
+
+	@Autowired
+	private TemplateUtil templateUtil;
+
+	@Autowired
+	private TemplateManager templateManager;
+
+	@Autowired
+	private NotificatonService notificationService;
+
+	@MockBean
+	private RestUtil restUtil;
+
+	@MockBean
+	private NotificationUtil notificationUtil;
+
+	@Value("${partner.apikey.status.sub-template}")
+	private String subjectTemplate;
+
+	@Value("${apikey.status.content-template}")
+	private String bodyTemplate;
+
+	@Value("${mosip.notification.timezone}")
+	private String notificationTimeZone;
+
+	private List<List<String>> fetches;
+
+	@Before
+	public void setUp() {
+		ReflectionTestUtils.setField(templateUtil, "templateCacheTtl", 60000L);
+		templateUtil.refreshTemplates();
+		fetches = new ArrayList<>();
+		Mockito.when(restUtil.getApi(Mockito.any(), Mockito.<Map<String, String>>any(), Mockito.any()))
+				.thenAnswer(invocation -> {
+					Map<String, String> pathsegments = invocation.getArgument(1);
+					fetches.add(List.of(pathsegments.get("langcode"), pathsegments.get("templatetypecode")));
+					return templateResponse(pathsegments.get("templatetypecode") + " " + BODY);
+				});
+	}
+
+	@After
+	public void tearDown() {
+		templateUtil.refreshTemplates();
+		ReflectionTestUtils.setField(templateUtil, "templateCacheTtl", 0L);
+	}
+
+	@Test
+	public void templatesAreFetchedOncePerLanguageAndTypeTest() throws Exception {
+		List<NotificationDto> notifications = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			notifications.add(notification(String.valueOf(i), i % 3 == 0 ? "ara" : "eng"));
+		}
+		assertTrue(notificationService.dispatch(EventType.APIKEY_EXPIRED, notifications).isEmpty());
+		notificationService.dispatch(EventType.APIKEY_EXPIRED, notifications);
+		assertEquals(4, fetches.size());
+		assertTrue(fetches.containsAll(List.of(List.of("eng", subjectTemplate), List.of("eng", bodyTemplate),
+				List.of("ara", subjectTemplate), List.of("ara", bodyTemplate))));
+		Mockito.verify(notificationUtil, Mockito.times(12)).emailNotification(Mockito.any(), Mockito.any(),
+				Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	public void refreshedTemplatesAreFetchedAgainTest() {
+		templateUtil.getTemplate("eng", bodyTemplate);
+		templateUtil.getTemplate("eng", bodyTemplate);
+		templateUtil.refreshTemplates();
+		templateUtil.getTemplate("eng", bodyTemplate);
+		assertEquals(2, fetches.size());
+	}
+
+	@Test
+	public void compiledTemplateMergesLikeTemplateManagerTest() throws Exception {
+		NotificationDto active = notification("1", "eng");
+		active.setApiKeyStatus("Active");
+		NotificationDto inactive = notification("2", "eng");
+		inactive.setApiKeyStatus("De-Active");
+		inactive.setPolicyName("auth policy");
+		for (NotificationDto notification : List.of(active, inactive, active)) {
+			assertEquals(templateManagerMerge(BODY, notification),
+					templateUtil.templateMerge("eng", bodyTemplate, BODY, notification));
+		}
+		// a changed text is compiled again
+		assertEquals(templateManagerMerge("Hello $partnerName", active),
+				templateUtil.templateMerge("eng", bodyTemplate, "Hello $partnerName", active));
+	}
+
+	private String templateManagerMerge(String fileText, NotificationDto notification) throws Exception {
+		Map<String, Object> values = new HashMap<>();
+		values.put("partnerName", notification.getPartnerName());
+		values.put("apiKey", notification.getApiKey());
+		values.put("apiKeyStatus", notification.getApiKeyStatus());
+		values.put("apiKeyExpiresOn", notification.getApiKeyExpiryDate().atZone(ZoneId.of(notificationTimeZone)));
+		values.put("policyName", notification.getPolicyName());
+		InputStream merged = templateManager
+				.merge(new ByteArrayInputStream(fileText.getBytes(StandardCharsets.UTF_8)), values);
+		return IOUtils.toString(merged, StandardCharsets.UTF_8.name());
+	}
+
+	private Map<String, Object> templateResponse(String fileText) {
+		Map<String, Object> template = new HashMap<>();
+		template.put("fileText", fileText);
+		Map<String, Object> templates = new HashMap<>();
+		templates.put("templates", List.of(template));
+		Map<String, Object> response = new HashMap<>();
+		response.put("response", templates);
+		return response;
+	}
+
+	private NotificationDto notification(String partnerId, String langCode) {
+		NotificationDto notification = new NotificationDto();
+		notification.setPartnerId(partnerId);
+		notification.setPartnerName("partner " + partnerId);
+		notification.setEmailId(partnerId + "@mosip.io");
+		notification.setLangCode(langCode);
+		notification.setApiKey("key-" + partnerId);
+		notification.setApiKeyStatus("Active");
+		notification.setApiKeyExpiryDate(LocalDateTime.of(2026, 11, 1, 10, 30));
+		return notification;
+	}
+}
@@ -0,0 +1,214 @@
+package io.mosip.pms.test.partner.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import io.mosip.pms.common.constant.SearchErrorCode;
+import io.mosip.pms.common.dto.PageResponseDto;
+import io.mosip.pms.common.dto.Pagination;
+import io.mosip.pms.common.dto.SearchDto;
+import io.mosip.pms.common.dto.SearchSort;
+import io.mosip.pms.common.entity.Partner;
+import io.mosip.pms.common.entity.PartnerPolicy;
+import io.mosip.pms.common.exception.RequestException;
+import io.mosip.pms.common.helper.SearchHelper;
+import io.mosip.pms.common.repository.PartnerPolicyRepository;
+import io.mosip.pms.common.repository.PartnerServiceRepository;
+import io.mosip.pms.device.authdevice.entity.MappedDeviceDetail;
+import io.mosip.pms.test.PartnerManagementServiceTest;
+import io.mosip.pms.test.config.TestSecurityConfig;
+
+/**
+ * Walks the partner policies page by page with the cursor of the previous page.
+ */
+@SpringBootTest(classes = PartnerManagementServiceTest.class)
+@RunWith(SpringRunner.class)
+@Import(TestSecurityConfig.class)
+public class SearchHelperCursorTest {
+
+	private static final int ROWS = 13;
+
+	private static final int PAGE_FETCH = 3;
+
+	@Autowired
+	private SearchHelper searchHelper;
+
+	@Autowired
+	private PartnerServiceRepository partnerRepository;
+
+	@Autowired
+	private PartnerPolicyRepository partnerPolicyRepository;
+
+	private List<PartnerPolicy> partnerPolicies;
+
+	@Before
+	public void setUp() {
+		partnerPolicyRepository.deleteAll();
+		partnerRepository.deleteAll();
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		Partner partner = new Partner();
+		partner.setId("cursor-partner");
+		partner.setName("cursor partner");
+		partner.setIsActive(true);
+		partner.setIsDeleted(false);
+		partner.setCrBy("test");
+		partner.setCrDtimes(now);
+		partnerRepository.save(partner);
+		partnerPolicies = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			PartnerPolicy partnerPolicy = new PartnerPolicy();
+			partnerPolicy.setPolicyApiKey(String.format("cursor-key-%02d", i));
+			partnerPolicy.setPolicyId("cursor-policy");
+			// duplicate labels and a null label every fourth row
+			partnerPolicy.setLabel(i % 4 == 0 ? null : "label-" + (i * 7 % 3));
+			partnerPolicy.setPartner(partner);
+			partnerPolicy.setIsActive(true);
+			partnerPolicy.setIsDeleted(false);
+			partnerPolicy.setCrBy("test");
+			partnerPolicy.setCrDtimes(now);
+			partnerPolicy.setValidFromDatetime(now);
+			partnerPolicy.setValidToDatetime(Timestamp.valueOf(LocalDateTime.now().plusDays(1)));
+			partnerPolicies.add(partnerPolicyRepository.save(partnerPolicy));
+		}
+	}
+
+	@After
+	public void tearDown() {
+		partnerPolicyRepository.deleteAll();
+		partnerRepository.deleteAll();
+	}
+
+	@Test
+	public void ascendingPagesReadNullsLastTest() {
+		Comparator<PartnerPolicy> byLabel = Comparator.comparing(PartnerPolicy::getLabel,
+				Comparator.nullsLast(Comparator.naturalOrder()));
+		assertEquals(sorted(byLabel.thenComparing(PartnerPolicy::getPolicyApiKey)), walk(sort("label", "asc")));
+	}
+
+	@Test
+	public void descendingPagesReadNullsFirstTest() {
+		Comparator<PartnerPolicy> byLabel = Comparator.comparing(PartnerPolicy::getLabel,
+				Comparator.nullsFirst(Comparator.<String>reverseOrder()));
+		assertEquals(sorted(byLabel.thenComparing(PartnerPolicy::getPolicyApiKey)), walk(sort("label", "desc")));
+	}
+
+	@Test
+	public void idPagesTest() {
+		assertEquals(sorted(Comparator.comparing(PartnerPolicy::getPolicyApiKey)), walk(null));
+		assertEquals(sorted(Comparator.comparing(PartnerPolicy::getPolicyApiKey).reversed()),
+				walk(sort("policyApiKey", "desc")));
+	}
+
+	@Test
+	public void lastPageHasNoCursorTest() {
+		SearchDto searchDto = searchDto(sort("label", "asc"), null);
+		searchDto.getPagination().setPageFetch(ROWS);
+		PageResponseDto<PartnerPolicy> page = searchHelper.searchByCursor(PartnerPolicy.class, searchDto, null);
+		assertEquals(ROWS, page.getData().size());
+		assertNull(page.getNextCursor());
+	}
+
+	@Test
+	public void tamperedCursorTest() {
+		String cursor = searchHelper
+				.searchByCursor(PartnerPolicy.class, searchDto(sort("label", "asc"), null), null).getNextCursor();
+		assertNotNull(cursor);
+		assertRejected(sort("label", "asc"), "not a cursor!", SearchErrorCode.INVALID_CURSOR);
+		assertRejected(sort("label", "asc"), cursor.substring(1), SearchErrorCode.INVALID_CURSOR);
+		assertRejected(sort("label", "asc"), encode("{\"value\":\"label-1\"}"), SearchErrorCode.INVALID_CURSOR);
+		assertRejected(sort("crDtimes", "asc"),
+				encode("{\"id\":\"cursor-key-01\",\"value\":\"yesterday\",\"sortField\":\"crDtimes\","
+						+ "\"sortType\":\"asc\"}"),
+				SearchErrorCode.INVALID_CURSOR);
+	}
+
+	@Test
+	public void cursorOfAnotherSortTest() {
+		String cursor = searchHelper
+				.searchByCursor(PartnerPolicy.class, searchDto(sort("label", "asc"), null), null).getNextCursor();
+		assertRejected(sort("label", "desc"), cursor, SearchErrorCode.INVALID_CURSOR);
+		assertRejected(sort("policyId", "asc"), cursor, SearchErrorCode.INVALID_CURSOR);
+		assertRejected(null, cursor, SearchErrorCode.INVALID_CURSOR);
+	}
+
+	@Test
+	public void moreThanOneSortTest() {
+		SearchDto searchDto = searchDto(sort("label", "asc"), null);
+		searchDto.getSort().add(sort("policyId", "asc"));
+		assertRejected(PartnerPolicy.class, searchDto, SearchErrorCode.INVALID_CURSOR_SORT);
+	}
+
+	@Test
+	public void compositeIdTest() {
+		assertRejected(MappedDeviceDetail.class, searchDto(null, null), SearchErrorCode.CURSOR_NOT_SUPPORTED);
+	}
+
+	private List<String> walk(SearchSort sort) {
+		List<String> keys = new ArrayList<>();
+		String cursor = null;
+		do {
+			PageResponseDto<PartnerPolicy> page = searchHelper.searchByCursor(PartnerPolicy.class,
+					searchDto(sort, cursor), null);
+			page.getData().forEach(partnerPolicy -> keys.add(partnerPolicy.getPolicyApiKey()));
+			cursor = page.getNextCursor();
+		} while (cursor != null && keys.size() <= ROWS);
+		return keys;
+	}
+
+	private List<String> sorted(Comparator<PartnerPolicy> order) {
+		return partnerPolicies.stream().sorted(order).map(PartnerPolicy::getPolicyApiKey)
+				.collect(Collectors.toList());
+	}
+
+	private void assertRejected(SearchSort sort, String cursor, SearchErrorCode errorCode) {
+		assertRejected(PartnerPolicy.class, searchDto(sort, cursor), errorCode);
+	}
+
+	private void assertRejected(Class<?> entity, SearchDto searchDto, SearchErrorCode errorCode) {
+		try {
+			searchHelper.searchByCursor(entity, searchDto, null);
+			fail();
+		} catch (RequestException e) {
+			assertEquals(errorCode.getErrorCode(), e.getErrors().get(0).getErrorCode());
+		}
+	}
+
+	private SearchDto searchDto(SearchSort sort, String cursor) {
+		List<SearchSort> sorts = new ArrayList<>();
+		if (sort != null) {
+			sorts.add(sort);
+		}
+		return new SearchDto(new ArrayList<>(), sorts, new Pagination(0, PAGE_FETCH, cursor));
+	}
+
+	private SearchSort sort(String sortField, String sortType) {
+		SearchSort sort = new SearchSort();
+		sort.setSortField(sortField);
+		sort.setSortType(sortType);
+		return sort;
+	}
+
+	private String encode(String cursor) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+	}
+}
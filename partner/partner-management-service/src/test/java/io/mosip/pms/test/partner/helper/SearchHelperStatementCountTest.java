@@ -0,0 +1,342 @@
+package io.mosip.pms.test.partner.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.mosip.pms.common.dto.Pagination;
+import io.mosip.pms.common.dto.SearchDto;
+import io.mosip.pms.common.dto.SearchFilter;
+import io.mosip.pms.common.dto.SearchSort;
+import io.mosip.pms.common.entity.AuthPolicy;
+import io.mosip.pms.common.entity.DeviceDetailSBI;
+import io.mosip.pms.common.entity.DeviceDetailSBIPK;
+import io.mosip.pms.common.entity.Partner;
+import io.mosip.pms.common.entity.PartnerPolicy;
+import io.mosip.pms.common.entity.PartnerPolicyRequest;
+import io.mosip.pms.common.entity.PolicyGroup;
+import io.mosip.pms.common.helper.SearchHelper;
+import io.mosip.pms.common.repository.AuthPolicyRepository;
+import io.mosip.pms.common.repository.DeviceDetailSbiRepository;
+import io.mosip.pms.common.repository.PartnerPolicyRepository;
+import io.mosip.pms.common.repository.PartnerPolicyRequestRepository;
+import io.mosip.pms.common.repository.PartnerServiceRepository;
+import io.mosip.pms.common.repository.PolicyGroupRepository;
+import io.mosip.pms.device.authdevice.entity.DeviceDetail;
+import io.mosip.pms.device.authdevice.entity.MappedDeviceDetail;
+import io.mosip.pms.device.authdevice.entity.RegistrationDeviceSubType;
+import io.mosip.pms.device.authdevice.entity.SecureBiometricInterface;
+import io.mosip.pms.device.authdevice.repository.DeviceDetailRepository;
+import io.mosip.pms.device.authdevice.repository.RegistrationDeviceSubTypeRepository;
+import io.mosip.pms.device.authdevice.repository.SecureBiometricInterfaceRepository;
+import io.mosip.pms.device.response.dto.MappedDeviceDetailsReponse;
+import io.mosip.pms.test.PartnerManagementServiceTest;
+import io.mosip.pms.test.config.TestSecurityConfig;
+
+/**
+ * Reading the partner or policy group of every row of a page must not issue a
+ * query per row.
+ */
+@SpringBootTest(classes = PartnerManagementServiceTest.class)
+@RunWith(SpringRunner.class)
+@Import(TestSecurityConfig.class)
+public class SearchHelperStatementCountTest {
+
+	private static final int ROWS = 10;
+
+	/** the count and the page */
+	private static final long MAX_SEARCH_STATEMENTS = 2;
+
+	@Autowired
+	private SearchHelper searchHelper;
+
+	@Autowired
+	private PartnerServiceRepository partnerRepository;
+
+	@Autowired
+	private PartnerPolicyRepository partnerPolicyRepository;
+
+	@Autowired
+	private PartnerPolicyRequestRepository partnerPolicyRequestRepository;
+
+	@Autowired
+	private PolicyGroupRepository policyGroupRepository;
+
+	@Autowired
+	private AuthPolicyRepository authPolicyRepository;
+
+	@Autowired
+	private DeviceDetailRepository deviceDetailRepository;
+
+	@Autowired
+	private SecureBiometricInterfaceRepository sbiRepository;
+
+	@Autowired
+	private DeviceDetailSbiRepository deviceDetailSbiRepository;
+
+	@Autowired
+	private RegistrationDeviceSubTypeRepository deviceSubTypeRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+
+	private Statistics statistics;
+
+	@Before
+	public void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		transactionTemplate.execute(status -> {
+			Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+			RegistrationDeviceSubType deviceSubType = new RegistrationDeviceSubType();
+			deviceSubType.setCode("Slap");
+			deviceSubType.setDeviceTypeCode("Finger");
+			deviceSubType.setName("Slap");
+			deviceSubType.setDesciption("Slap");
+			deviceSubType.setActive(true);
+			deviceSubType.setCrBy("test");
+			deviceSubType.setCrDtimes(LocalDateTime.now());
+			deviceSubTypeRepository.save(deviceSubType);
+			for (int i = 0; i < ROWS; i++) {
+				Partner partner = new Partner();
+				partner.setId("fetch-partner-" + i);
+				partner.setName("partner " + i);
+				partner.setEmailId("partner" + i + "@mosip.io");
+				partner.setIsActive(true);
+				partner.setIsDeleted(false);
+				partner.setCrBy("test");
+				partner.setCrDtimes(now);
+				partnerRepository.save(partner);
+
+				PartnerPolicy partnerPolicy = new PartnerPolicy();
+				partnerPolicy.setPolicyApiKey("fetch-key-" + i);
+				partnerPolicy.setPolicyId("fetch-policy-" + i);
+				partnerPolicy.setPartner(partner);
+				partnerPolicy.setIsActive(true);
+				partnerPolicy.setIsDeleted(false);
+				partnerPolicy.setCrBy("test");
+				partnerPolicy.setCrDtimes(now);
+				partnerPolicy.setValidFromDatetime(now);
+				partnerPolicy.setValidToDatetime(Timestamp.valueOf(LocalDateTime.now().plusDays(1)));
+				partnerPolicyRepository.save(partnerPolicy);
+
+				PartnerPolicyRequest request = new PartnerPolicyRequest();
+				request.setId("fetch-request-" + i);
+				request.setPolicyId("fetch-policy-" + i);
+				request.setPartner(partner);
+				request.setStatusCode("approved");
+				request.setIsDeleted(false);
+				request.setCrBy("test");
+				request.setCrDtimes(now);
+				partnerPolicyRequestRepository.save(request);
+
+				PolicyGroup policyGroup = new PolicyGroup();
+				policyGroup.setId("fetch-group-" + i);
+				policyGroup.setName("group " + i);
+				policyGroup.setIsActive(true);
+				policyGroup.setIsDeleted(false);
+				policyGroup.setCrBy("test");
+				policyGroup.setCrDtimes(LocalDateTime.now());
+				policyGroupRepository.save(policyGroup);
+
+				AuthPolicy authPolicy = new AuthPolicy();
+				authPolicy.setId("fetch-policy-" + i);
+				authPolicy.setName("policy " + i);
+				authPolicy.setPolicyGroup(policyGroup);
+				authPolicy.setIsActive(true);
+				authPolicy.setIsDeleted(false);
+				authPolicy.setCrBy("test");
+				authPolicy.setCrDtimes(now);
+				authPolicyRepository.save(authPolicy);
+
+				DeviceDetail deviceDetail = new DeviceDetail();
+				deviceDetail.setId("fetch-device-" + i);
+				deviceDetail.setDeviceProviderId("fetch-partner-" + i);
+				deviceDetail.setDeviceTypeCode("Finger");
+				deviceDetail.setDeviceSubTypeCode("Slap");
+				deviceDetail.setMake("make " + i);
+				deviceDetail.setModel("model " + i);
+				deviceDetail.setApprovalStatus("approved");
+				deviceDetail.setIsActive(true);
+				deviceDetail.setCrBy("test");
+				deviceDetail.setCrDtimes(LocalDateTime.now());
+				deviceDetailRepository.save(deviceDetail);
+
+				SecureBiometricInterface sbi = new SecureBiometricInterface();
+				sbi.setId("fetch-sbi-" + i);
+				sbi.setProviderId("fetch-partner-" + i);
+				sbi.setSwBinaryHash(new byte[] { (byte) i });
+				sbi.setSwVersion("1." + i);
+				sbi.setApprovalStatus("approved");
+				sbi.setActive(true);
+				sbi.setCrBy("test");
+				sbi.setCrDtimes(LocalDateTime.now());
+				sbiRepository.save(sbi);
+
+				DeviceDetailSBI mapping = new DeviceDetailSBI();
+				DeviceDetailSBIPK mappingId = new DeviceDetailSBIPK();
+				mappingId.setDeviceDetailId(deviceDetail.getId());
+				mappingId.setSbiId(sbi.getId());
+				mapping.setId(mappingId);
+				mapping.setProviderId("fetch-partner-" + i);
+				mapping.setPartnerName("partner " + i);
+				mapping.setIsActive(true);
+				mapping.setIsDeleted(false);
+				mapping.setCrBy("test");
+				mapping.setCrDtimes(now);
+				deviceDetailSbiRepository.save(mapping);
+			}
+			return null;
+		});
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+	}
+
+	@After
+	public void tearDown() {
+		statistics.setStatisticsEnabled(false);
+		transactionTemplate.execute(status -> {
+			deviceDetailSbiRepository.deleteAll();
+			sbiRepository.deleteAll();
+			deviceDetailRepository.deleteAll();
+			deviceSubTypeRepository.deleteAll();
+			authPolicyRepository.deleteAll();
+			policyGroupRepository.deleteAll();
+			partnerPolicyRequestRepository.deleteAll();
+			partnerPolicyRepository.deleteAll();
+			partnerRepository.deleteAll();
+			return null;
+		});
+	}
+
+	@Test
+	public void searchPartnerPoliciesFetchesPartnersTest() {
+		List<String> partnerNames = transactionTemplate.execute(status -> searchHelper
+				.search(PartnerPolicy.class, searchDto(), null).getContent().stream()
+				.map(partnerPolicy -> partnerPolicy.getPartner().getName()).collect(Collectors.toList()));
+		assertEquals(ROWS, partnerNames.size());
+		assertStatements(MAX_SEARCH_STATEMENTS);
+	}
+
+	@Test
+	public void searchPartnerPoliciesByCursorFetchesPartnersTest() {
+		List<String> partnerNames = transactionTemplate.execute(status -> searchHelper
+				.searchByCursor(PartnerPolicy.class, searchDto(), null).getData().stream()
+				.map(partnerPolicy -> partnerPolicy.getPartner().getName()).collect(Collectors.toList()));
+		assertEquals(ROWS, partnerNames.size());
+		assertStatements(1);
+	}
+
+	@Test
+	public void searchPolicyRequestsFetchesPartnersTest() {
+		List<String> partnerNames = transactionTemplate.execute(status -> searchHelper
+				.search(PartnerPolicyRequest.class, searchDto(), null).getContent().stream()
+				.map(request -> request.getPartner().getName()).collect(Collectors.toList()));
+		assertEquals(ROWS, partnerNames.size());
+		assertStatements(MAX_SEARCH_STATEMENTS);
+	}
+
+	@Test
+	public void searchPoliciesFetchesPolicyGroupsTest() {
+		List<String> groupNames = transactionTemplate.execute(status -> searchHelper
+				.search(AuthPolicy.class, searchDto()).getContent().stream()
+				.map(authPolicy -> authPolicy.getPolicyGroup().getName()).collect(Collectors.toList()));
+		assertEquals(ROWS, groupNames.size());
+		assertStatements(MAX_SEARCH_STATEMENTS);
+	}
+
+	@Test
+	public void searchPartnerPoliciesFiltersOnPartnerNameTest() {
+		SearchDto searchDto = searchDto();
+		SearchFilter partnerNameFilter = new SearchFilter();
+		partnerNameFilter.setColumnName("partner.name");
+		partnerNameFilter.setType("equals");
+		partnerNameFilter.setValue("partner 3");
+		searchDto.getFilters().add(partnerNameFilter);
+		Page<PartnerPolicy> page = transactionTemplate
+				.execute(status -> searchHelper.searchPaged(PartnerPolicy.class, searchDto, null));
+		assertEquals(1, page.getTotalElements());
+		assertEquals("fetch-key-3", page.getContent().get(0).getPolicyApiKey());
+		assertStatements(MAX_SEARCH_STATEMENTS);
+	}
+
+	@Test
+	public void searchPoliciesSortsOnPolicyGroupNameTest() {
+		SearchDto searchDto = searchDto();
+		SearchSort policyGroupNameSort = new SearchSort();
+		policyGroupNameSort.setSortField("policyGroup.name");
+		policyGroupNameSort.setSortType("desc");
+		searchDto.getSort().add(policyGroupNameSort);
+		searchDto.setPagination(new Pagination(0, 3, null));
+		List<String> groupNames = transactionTemplate.execute(status -> searchHelper
+				.searchPaged(AuthPolicy.class, searchDto).getContent().stream()
+				.map(authPolicy -> authPolicy.getPolicyGroup().getName()).collect(Collectors.toList()));
+		assertEquals(List.of("group 9", "group 8", "group 7"), groupNames);
+		assertStatements(MAX_SEARCH_STATEMENTS);
+	}
+
+	@Test
+	public void expiringApiKeysFetchesPartnersTest() {
+		List<PartnerPolicy> partnerPolicies = partnerPolicyRepository.findAPIKeysToNotify(
+				Timestamp.valueOf(LocalDateTime.now().plusDays(3)), Timestamp.valueOf(LocalDateTime.now()), "", 3,
+				PageRequest.of(0, ROWS * 2));
+		List<String> emailIds = partnerPolicies.stream().map(partnerPolicy -> partnerPolicy.getPartner().getEmailId())
+				.collect(Collectors.toList());
+		assertEquals(ROWS, emailIds.size());
+		assertStatements(1);
+	}
+
+	@Test
+	public void searchMappedDeviceDetailsJoinsDeviceDetailsAndSbisTest() {
+		List<MappedDeviceDetailsReponse> mappedDevices = searchHelper
+				.searchProjected(MappedDeviceDetail.class, MappedDeviceDetailsReponse.class,
+						MappedDeviceDetailsReponse.COLUMNS, searchDto())
+				.getContent();
+		assertEquals(ROWS, mappedDevices.size());
+		for (MappedDeviceDetailsReponse mappedDevice : mappedDevices) {
+			String index = mappedDevice.getDeviceDetailId().substring("fetch-device-".length());
+			assertEquals("fetch-sbi-" + index, mappedDevice.getSbiId());
+			assertEquals("partner " + index, mappedDevice.getProviderName());
+			assertEquals("make " + index, mappedDevice.getMake());
+			assertEquals("1." + index, mappedDevice.getSwVersion());
+		}
+		assertStatements(MAX_SEARCH_STATEMENTS);
+	}
+
+	private SearchDto searchDto() {
+		return new SearchDto(new ArrayList<>(), new ArrayList<>(), new Pagination(0, ROWS * 2, null));
+	}
+
+	private void assertStatements(long maxStatements) {
+		long statements = statistics.getPrepareStatementCount();
+		assertTrue("expected at most " + maxStatements + " statements but got " + statements,
+				statements <= maxStatements);
+	}
+}
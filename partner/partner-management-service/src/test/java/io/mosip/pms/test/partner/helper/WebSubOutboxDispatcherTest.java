@@ -0,0 +1,199 @@
+package io.mosip.pms.test.partner.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.pms.common.dto.Event;
+import io.mosip.pms.common.dto.EventModel;
+import io.mosip.pms.common.entity.WebSubEventOutbox;
+import io.mosip.pms.common.entity.WebSubTopicLease;
+import io.mosip.pms.common.helper.WebSubOutboxDispatcher;
+import io.mosip.pms.common.helper.WebSubPublisher;
+import io.mosip.pms.common.repository.WebSubEventOutboxRepository;
+import io.mosip.pms.common.repository.WebSubTopicLeaseRepository;
+import io.mosip.pms.test.PartnerManagementServiceTest;
+import io.mosip.pms.test.config.TestSecurityConfig;
+
+@SpringBootTest(classes = PartnerManagementServiceTest.class)
+@RunWith(SpringRunner.class)
+@Import(TestSecurityConfig.class)
+public class WebSubOutboxDispatcherTest {
+
+	private static final String TOPIC = "outbox-topic";
+
+	@Autowired
+	private WebSubOutboxDispatcher dispatcher;
+
+	@Autowired
+	private WebSubEventOutboxRepository outboxRepository;
+
+	@Autowired
+	private WebSubTopicLeaseRepository topicLeaseRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockBean
+	private WebSubPublisher webSubPublisher;
+
+	private List<String> sentEvents;
+
+	@Before
+	public void setUp() throws Exception {
+		ReflectionTestUtils.setField(dispatcher, "enabled", true);
+		// dispatched by the tests only
+		ReflectionTestUtils.setField(dispatcher, "pollInterval", 3600000L);
+		ReflectionTestUtils.setField(dispatcher, "initialBackoff", 1L);
+		ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+		dispatcher.start();
+		sentEvents = new ArrayList<>();
+		Mockito.doAnswer(invocation -> {
+			sentEvents.add(invocation.<EventModel>getArgument(0).getEvent().getId());
+			return null;
+		}).when(webSubPublisher).sendEventToIDA(Mockito.any());
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		for (int i = 0; i < 3; i++) {
+			save("event-" + i, now.minusSeconds(10 - i));
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		dispatcher.stop();
+		ReflectionTestUtils.setField(dispatcher, "enabled", false);
+		outboxRepository.deleteAll();
+		topicLeaseRepository.deleteAll();
+	}
+
+	@Test
+	public void eventsAreSentInOrderTest() {
+		dispatcher.dispatch();
+		assertEquals(List.of("event-0", "event-1", "event-2"), sentEvents);
+		assertEquals(0, outboxRepository.count());
+		WebSubTopicLease topicLease = topicLeaseRepository.findById(TOPIC).get();
+		assertEquals(null, topicLease.getLockedBy());
+	}
+
+	@Test
+	public void topicLeasedToAnotherInstanceIsSkippedTest() {
+		WebSubTopicLease topicLease = new WebSubTopicLease();
+		topicLease.setTopic(TOPIC);
+		topicLease.setLockedBy("another-instance");
+		topicLease.setLockedUntil(DateUtils.getUTCCurrentDateTime().plusMinutes(1));
+		topicLeaseRepository.save(topicLease);
+		dispatcher.dispatch();
+		assertTrue(sentEvents.isEmpty());
+
+		topicLease.setLockedUntil(DateUtils.getUTCCurrentDateTime().minusSeconds(1));
+		topicLeaseRepository.save(topicLease);
+		dispatcher.dispatch();
+		assertEquals(3, sentEvents.size());
+	}
+
+	@Test
+	public void claimIsGrantedToOneOwnerTest() {
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		WebSubTopicLease topicLease = new WebSubTopicLease();
+		topicLease.setTopic(TOPIC);
+		topicLeaseRepository.save(topicLease);
+		assertEquals(1, topicLeaseRepository.claim(TOPIC, "first", now, now.plusMinutes(1)));
+		assertEquals(0, topicLeaseRepository.claim(TOPIC, "second", now, now.plusMinutes(1)));
+		assertEquals(1, topicLeaseRepository.claim(TOPIC, "first", now, now.plusMinutes(2)));
+		assertEquals(1, topicLeaseRepository.release(TOPIC, "first"));
+		assertEquals(1, topicLeaseRepository.claim(TOPIC, "second", now, now.plusMinutes(1)));
+	}
+
+	@Test
+	public void failedEventIsRetriedBeforeTheLaterOnesTest() throws Exception {
+		AtomicInteger attempts = new AtomicInteger();
+		Mockito.doAnswer(invocation -> {
+			String id = invocation.<EventModel>getArgument(0).getEvent().getId();
+			if (id.equals("event-1") && attempts.incrementAndGet() == 1) {
+				throw new IllegalStateException("hub is down");
+			}
+			sentEvents.add(id);
+			return null;
+		}).when(webSubPublisher).sendEventToIDA(Mockito.any());
+		dispatcher.dispatch();
+		assertEquals(List.of("event-0"), sentEvents);
+		WebSubEventOutbox failed = outboxRepository.findById("event-1").get();
+		assertEquals(1, failed.getAttemptCount());
+		assertEquals(WebSubOutboxDispatcher.PENDING, failed.getStatus());
+		assertEquals("hub is down", failed.getLastError());
+
+		Thread.sleep(10);
+		dispatcher.dispatch();
+		assertEquals(List.of("event-0", "event-1", "event-2"), sentEvents);
+		assertEquals(0, outboxRepository.count());
+	}
+
+	@Test
+	public void topicIsParkedBehindFailedEventTest() throws Exception {
+		Mockito.doAnswer(invocation -> {
+			String id = invocation.<EventModel>getArgument(0).getEvent().getId();
+			if (id.equals("event-1")) {
+				throw new IllegalStateException("rejected by the hub");
+			}
+			sentEvents.add(id);
+			return null;
+		}).when(webSubPublisher).sendEventToIDA(Mockito.any());
+		for (int i = 0; i < 5; i++) {
+			dispatcher.dispatch();
+			Thread.sleep(10);
+		}
+		assertEquals(List.of("event-0"), sentEvents);
+		assertEquals(WebSubOutboxDispatcher.FAILED, outboxRepository.findById("event-1").get().getStatus());
+		assertTrue(outboxRepository.findById("event-2").isPresent());
+		assertFalse(outboxRepository.findDueTopics(WebSubOutboxDispatcher.PENDING, WebSubOutboxDispatcher.FAILED,
+				DateUtils.getUTCCurrentDateTime()).contains(TOPIC));
+
+		// resumed by the operator
+		Mockito.doAnswer(invocation -> {
+			sentEvents.add(invocation.<EventModel>getArgument(0).getEvent().getId());
+			return null;
+		}).when(webSubPublisher).sendEventToIDA(Mockito.any());
+		WebSubEventOutbox failed = outboxRepository.findById("event-1").get();
+		failed.setStatus(WebSubOutboxDispatcher.PENDING);
+		failed.setAttemptCount(0);
+		outboxRepository.save(failed);
+		dispatcher.dispatch();
+		assertEquals(List.of("event-0", "event-1", "event-2"), sentEvents);
+	}
+
+	private void save(String id, LocalDateTime crDtimes) throws Exception {
+		Event event = new Event();
+		event.setId(id);
+		EventModel model = new EventModel();
+		model.setTopic(TOPIC);
+		model.setEvent(event);
+		WebSubEventOutbox outboxEvent = new WebSubEventOutbox();
+		outboxEvent.setId(id);
+		outboxEvent.setTopic(TOPIC);
+		outboxEvent.setPayload(objectMapper.writeValueAsString(model));
+		outboxEvent.setStatus(WebSubOutboxDispatcher.PENDING);
+		outboxEvent.setCrDtimes(crDtimes);
+		outboxEvent.setNextAttemptDtimes(crDtimes);
+		outboxRepository.save(outboxEvent);
+	}
+}
@@ -160,12 +160,10 @@ public class PartnerServiceImplTest {
 	@Before
 	public void setUp() {
 		MockitoAnnotations.initMocks(this);
-		ReflectionTestUtils.setField(pserviceImpl, "policyGroupRepository", policyGroupRepository);
 		ReflectionTestUtils.setField(pserviceImpl, "partnerRepository", partnerRepository);
 		ReflectionTestUtils.setField(pserviceImpl, "authPolicyRepository", authPolicyRepository);
 		ReflectionTestUtils.setField(pserviceImpl, "partnerPolicyRequestRepository", partnerPolicyRequestRepository);
 		ReflectionTestUtils.setField(pserviceImpl, "partnerPolicyRepository", partnerPolicyRepository);
-		ReflectionTestUtils.setField(pserviceImpl, "partnerTypeRepository", partnerTypeRepository);
 		ReflectionTestUtils.setField(pserviceImpl, "extractorProviderRepository", extractorProviderRepository);
 		ReflectionTestUtils.setField(pserviceImpl, "partnerCredentialTypePolicyRepo", partnerCredentialTypePolicyRepo);
 		ReflectionTestUtils.setField(pserviceImpl, "partnerContactRepository", partnerContactRepository);
@@ -289,7 +287,7 @@ public class PartnerServiceImplTest {
 		objectMapper.writeValueAsString(partnerSearchDto);
 		Partner partner = new Partner();
 		partner.setId("id");
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(partner))).when(partnerSearchHelper).search(Mockito.any(),Mockito.any(),Mockito.anyString());
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(partner))).when(partnerSearchHelper).searchPaged(Mockito.any(),Mockito.any(),Mockito.anyString());
 		pserviceImpl.searchPartner(partnerSearchDto);
 	}
 	
@@ -298,7 +296,7 @@ public class PartnerServiceImplTest {
 		objectMapper.writeValueAsString(partnerSearchDto1);
 		Partner partner = new Partner();
 		partner.setId("1001");
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(partner))).when(partnerSearchHelper).search(Mockito.any(),Mockito.any(),Mockito.anyString());
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(partner))).when(partnerSearchHelper).searchPaged(Mockito.any(),Mockito.any(),Mockito.anyString());
 		pserviceImpl.searchPartner(partnerSearchDto1);
 	}
 	
@@ -1036,11 +1034,11 @@ public class PartnerServiceImplTest {
 		partnerPolicy.setId("12345");
 		partnerPolicy.setPartner(createPartner(true));
 		Mockito.when(authPolicyRepository.findByNameIgnoreCase("m")).thenReturn(List.of(createAuthPolicy()));
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(partnerPolicy))).when(partnerSearchHelper).search(Mockito.any(),Mockito.any(),Mockito.any());
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(partnerPolicy))).when(partnerSearchHelper).searchPaged(Mockito.any(),Mockito.any(),Mockito.any());
 		pserviceImpl.searchPartnerApiKeyRequests(searchDto);		
 		
 		Mockito.when(authPolicyRepository.findByNameIgnoreCase("m")).thenReturn(Collections.emptyList());
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(partnerPolicy))).when(partnerSearchHelper).search(Mockito.any(),Mockito.any(),Mockito.any());
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(partnerPolicy))).when(partnerSearchHelper).searchPaged(Mockito.any(),Mockito.any(),Mockito.any());
 		pserviceImpl.searchPartnerApiKeyRequests(searchDto);
 		
 		searchDto.getFilters().add(partnerNameSearchFilter);
@@ -1082,9 +1080,13 @@ public class PartnerServiceImplTest {
 		partnerPolicy.setPolicyApiKey("12345");
 		partnerPolicy.setPartner(createPartner(true));
 		Mockito.when(partnerRepository.findById("m")).thenReturn(Optional.of(createPartner(true)));
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(partnerPolicy))).when(partnerSearchHelper).search(Mockito.any(),Mockito.any(),Mockito.any());
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(partnerPolicy))).when(partnerSearchHelper).searchPaged(Mockito.any(),Mockito.any(),Mockito.any());
 		Mockito.when(authPolicyRepository.findByName("m")).thenReturn((createAuthPolicy()));
 		pserviceImpl.searchPartnerApiKeys(searchDto);
+		assertEquals("partner.name", partnerNameSearchFilter.getColumnName());
+		assertEquals("partner.id", partnerIdRequestIdSearchFilter.getColumnName());
+		Mockito.verify(partnerSearchHelper).searchPaged(Mockito.eq(PartnerPolicy.class), Mockito.any(),
+				Mockito.eq("partner.id"));
 		
 		searchDto.getFilters().add(partnerNameSearchFilter);
 		objectMapper.writeValueAsString(searchDto);
@@ -1105,7 +1107,7 @@ public class PartnerServiceImplTest {
 		partnerType.setCode("Auth_Partner");
 		partnerType.setIsDeleted(false);
 		Mockito.when(partnerRepository.findById("m")).thenReturn(Optional.of(createPartner(true)));
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(partnerType))).when(partnerSearchHelper).search(Mockito.any(),Mockito.any(),Mockito.any());
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(partnerType))).when(partnerSearchHelper).searchPaged(Mockito.any(),Mockito.any(),Mockito.any());
 		Mockito.when(authPolicyRepository.findByName("m")).thenReturn((createAuthPolicy()));
 		pserviceImpl.searchPartnerType(searchDto);
 	}
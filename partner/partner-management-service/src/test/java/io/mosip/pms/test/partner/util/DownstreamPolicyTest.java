@@ -0,0 +1,265 @@
+package io.mosip.pms.test.partner.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.client.config.RequestConfig;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.pms.common.util.DownstreamPolicy;
+import io.mosip.pms.common.util.DownstreamPolicy.RejectedCallException;
+
+public class DownstreamPolicyTest {
+
+	private MockEnvironment environment;
+
+	private MeterRegistry meterRegistry;
+
+	private RequestConfig defaultConfig;
+
+	private AtomicInteger calls;
+
+	@Before
+	public void setUp() {
+		environment = new MockEnvironment();
+		environment.setProperty("mosip.pms.rest.client.retry.backoff", "1");
+		meterRegistry = new SimpleMeterRegistry();
+		defaultConfig = RequestConfig.custom().setConnectTimeout(5000).setSocketTimeout(30000)
+				.setConnectionRequestTimeout(5000).build();
+		calls = new AtomicInteger();
+	}
+
+	@Test
+	public void nameOfTest() {
+		assertEquals("keymanager",
+				DownstreamPolicy.nameOf("https://dev.mosip.net/v1/keymanager/getPartnerCertificate/{partnerCertId}"));
+		assertEquals("datashare", DownstreamPolicy.nameOf("http://datashare.datashare/v1/datashare/create"));
+		assertEquals("localhost", DownstreamPolicy.nameOf("http://localhost:8080/v1/"));
+	}
+
+	@Test
+	public void downstreamTimeoutsTest() {
+		environment.setProperty("mosip.pms.rest.client.keymanager.read-timeout", "1000");
+		environment.setProperty("mosip.pms.rest.client.connect-timeout", "2000");
+		RequestConfig keymanager = policy("keymanager").getRequestConfig();
+		RequestConfig datashare = policy("datashare").getRequestConfig();
+		assertEquals(1000, keymanager.getSocketTimeout());
+		assertEquals(2000, keymanager.getConnectTimeout());
+		assertEquals(30000, datashare.getSocketTimeout());
+		assertEquals(5000, datashare.getConnectionRequestTimeout());
+	}
+
+	@Test
+	public void failedGetIsRetriedTest() {
+		DownstreamPolicy policy = policy("keymanager");
+		assertEquals("certificate", policy.execute(HttpMethod.GET, () -> {
+			if (calls.incrementAndGet() == 1) {
+				throw new ResourceAccessException("Read timed out");
+			}
+			return "certificate";
+		}));
+		assertEquals(2, calls.get());
+		assertEquals(1, meterRegistry.get("pms.rest.client.retries").tag("downstream", "keymanager").counter().count(),
+				0);
+	}
+
+	@Test
+	public void failedPostAndClientErrorAreNotRetriedTest() {
+		DownstreamPolicy policy = policy("keymanager");
+		try {
+			policy.execute(HttpMethod.POST, this::timeout);
+			fail();
+		} catch (ResourceAccessException e) {
+			assertEquals(1, calls.get());
+		}
+		try {
+			policy.execute(HttpMethod.GET, () -> {
+				calls.incrementAndGet();
+				throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+			});
+			fail();
+		} catch (HttpClientErrorException e) {
+			assertEquals(2, calls.get());
+		}
+	}
+
+	@Test
+	public void serverErrorAndWrappedTimeoutAreRetriedTest() {
+		DownstreamPolicy policy = policy("keymanager");
+		try {
+			policy.execute(HttpMethod.GET, () -> {
+				calls.incrementAndGet();
+				throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+			});
+			fail();
+		} catch (HttpServerErrorException e) {
+			assertEquals(2, calls.get());
+		}
+		try {
+			policy.execute(HttpMethod.GET, () -> {
+				calls.incrementAndGet();
+				throw new RestClientException("Error while reading the response",
+						new SocketTimeoutException("Read timed out"));
+			});
+			fail();
+		} catch (RestClientException e) {
+			assertEquals(4, calls.get());
+		}
+	}
+
+	@Test
+	public void responseMappingErrorIsNotCountedNorRetriedTest() {
+		environment.setProperty("mosip.pms.rest.client.circuit-breaker.failure-threshold", "1");
+		DownstreamPolicy policy = policy("keymanager");
+		for (int i = 0; i < 2; i++) {
+			try {
+				policy.execute(HttpMethod.GET, () -> {
+					calls.incrementAndGet();
+					throw new RestClientException("Error while extracting response",
+							new JsonParseException(null, "Unexpected character"));
+				});
+				fail();
+			} catch (RestClientException e) {
+			}
+			try {
+				policy.execute(HttpMethod.GET, () -> {
+					calls.incrementAndGet();
+					throw new IllegalStateException("No mapper for the response");
+				});
+				fail();
+			} catch (IllegalStateException e) {
+			}
+		}
+		assertEquals(4, calls.get());
+		assertEquals(0, circuitState(), 0);
+		assertEquals(0, meterRegistry.get("pms.rest.client.retries").tag("downstream", "keymanager").counter()
+				.count(), 0);
+		assertEquals(4, meterRegistry.get("pms.rest.client.calls").tag("outcome", "error").timer().count());
+		assertEquals("certificate", policy.execute(HttpMethod.GET, () -> "certificate"));
+	}
+
+	@Test
+	public void circuitOpensAndClosesAfterProbeTest() throws Exception {
+		environment.setProperty("mosip.pms.rest.client.keymanager.circuit-breaker.failure-threshold", "2");
+		environment.setProperty("mosip.pms.rest.client.keymanager.circuit-breaker.open-duration", "50");
+		environment.setProperty("mosip.pms.rest.client.retry.max-attempts", "1");
+		DownstreamPolicy policy = policy("keymanager");
+		for (int i = 0; i < 2; i++) {
+			try {
+				policy.execute(HttpMethod.GET, this::timeout);
+				fail();
+			} catch (ResourceAccessException e) {
+			}
+		}
+		try {
+			policy.execute(HttpMethod.GET, this::timeout);
+			fail();
+		} catch (RejectedCallException e) {
+			assertEquals(2, calls.get());
+		}
+		assertEquals(1, circuitState(), 0);
+
+		Thread.sleep(60);
+		assertEquals("certificate", policy.execute(HttpMethod.GET, () -> "certificate"));
+		assertEquals(0, circuitState(), 0);
+	}
+
+	@Test
+	public void failedProbeOpensCircuitAgainTest() throws Exception {
+		environment.setProperty("mosip.pms.rest.client.circuit-breaker.failure-threshold", "1");
+		environment.setProperty("mosip.pms.rest.client.circuit-breaker.open-duration", "50");
+		environment.setProperty("mosip.pms.rest.client.retry.max-attempts", "1");
+		DownstreamPolicy policy = policy("keymanager");
+		try {
+			policy.execute(HttpMethod.GET, this::timeout);
+			fail();
+		} catch (ResourceAccessException e) {
+		}
+		Thread.sleep(60);
+		try {
+			policy.execute(HttpMethod.GET, this::timeout);
+			fail();
+		} catch (ResourceAccessException e) {
+			assertEquals(2, calls.get());
+		}
+		try {
+			policy.execute(HttpMethod.GET, this::timeout);
+			fail();
+		} catch (RejectedCallException e) {
+			assertEquals(2, calls.get());
+		}
+	}
+
+	@Test
+	public void errorInProbeLetsTheNextCallProbeTest() throws Exception {
+		environment.setProperty("mosip.pms.rest.client.circuit-breaker.failure-threshold", "1");
+		environment.setProperty("mosip.pms.rest.client.circuit-breaker.open-duration", "50");
+		environment.setProperty("mosip.pms.rest.client.retry.max-attempts", "1");
+		DownstreamPolicy policy = policy("keymanager");
+		try {
+			policy.execute(HttpMethod.GET, this::timeout);
+			fail();
+		} catch (ResourceAccessException e) {
+		}
+		Thread.sleep(60);
+		try {
+			policy.execute(HttpMethod.GET, () -> {
+				throw new OutOfMemoryError("Java heap space");
+			});
+			fail();
+		} catch (OutOfMemoryError e) {
+		}
+		assertEquals(2, circuitState(), 0);
+		assertEquals("certificate", policy.execute(HttpMethod.GET, () -> "certificate"));
+		assertEquals(0, circuitState(), 0);
+		assertEquals(50, meterRegistry.get("pms.rest.client.bulkhead.available").tag("downstream", "keymanager")
+				.gauge().value(), 0);
+	}
+
+	@Test
+	public void bulkheadRejectsCallsOverTheLimitTest() {
+		environment.setProperty("mosip.pms.rest.client.keymanager.bulkhead.max-concurrent-calls", "1");
+		DownstreamPolicy policy = policy("keymanager");
+		String result = policy.execute(HttpMethod.POST, () -> {
+			try {
+				policy.execute(HttpMethod.POST, () -> "nested");
+				fail();
+			} catch (RejectedCallException e) {
+			}
+			return "outer";
+		});
+		assertEquals("outer", result);
+		assertEquals(1, meterRegistry.get("pms.rest.client.rejections").tag("downstream", "keymanager").counter()
+				.count(), 0);
+		assertEquals(1, meterRegistry.get("pms.rest.client.bulkhead.available").tag("downstream", "keymanager")
+				.gauge().value(), 0);
+	}
+
+	private DownstreamPolicy policy(String name) {
+		return new DownstreamPolicy(name, environment, defaultConfig, meterRegistry);
+	}
+
+	private String timeout() {
+		calls.incrementAndGet();
+		throw new ResourceAccessException("Read timed out");
+	}
+
+	private double circuitState() {
+		return meterRegistry.get("pms.rest.client.circuit.state").tag("downstream", "keymanager").gauge().value();
+	}
+}
@@ -0,0 +1,198 @@
+package io.mosip.pms.test.partner.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
+import io.mosip.pms.common.entity.DeviceDetailSBI;
+import io.mosip.pms.common.entity.DeviceDetailSBIPK;
+import io.mosip.pms.common.util.MapperUtils;
+
+/**
+ * Maps through the field copies {@link MapperUtils} resolves once per pair of
+ * classes.
+ */
+public class MappingPlanTest {
+
+	private static final Timestamp CR_DTIMES = Timestamp.valueOf(LocalDateTime.of(2026, 10, 1, 12, 0));
+
+	@After
+	public void tearDown() {
+		ReflectionTestUtils.setField(MapperUtils.class, "mapNullValues", Boolean.TRUE);
+	}
+
+	@Test
+	public void entityToDtoTest() {
+		for (int i = 0; i < 2; i++) {
+			DeviceDto dto = MapperUtils.map(mapping("device-" + i), DeviceDto.class);
+			assertEquals("device-" + i, dto.deviceDetailId);
+			assertEquals("sbi", dto.sbiId);
+			assertEquals("provider", dto.providerId);
+			assertEquals("test", dto.crBy);
+			assertEquals(CR_DTIMES, dto.crDtimes);
+		}
+	}
+
+	@Test
+	public void dtoToEntityTest() {
+		DeviceDetailSBI mapping = MapperUtils.map(dto("device-1"), DeviceDetailSBI.class);
+		assertEquals("device-1", mapping.getId().getDeviceDetailId());
+		assertEquals("sbi", mapping.getId().getSbiId());
+		assertEquals("provider", mapping.getProviderId());
+		assertEquals("test", mapping.getCrBy());
+		assertEquals(CR_DTIMES, mapping.getCrDtimes());
+	}
+
+	@Test
+	public void baseFieldsTest() {
+		DeviceView view = MapperUtils.map(dto("device-1"), DeviceView.class);
+		assertEquals("device-1", view.deviceDetailId);
+		assertEquals("approved", view.status);
+		assertEquals(CR_DTIMES, view.reviewedDtimes);
+
+		view = new DeviceView();
+		MapperUtils.setBaseFieldValue(dto("device-1"), view);
+		assertNull(view.deviceDetailId);
+		assertEquals("approved", view.status);
+	}
+
+	@Test
+	public void fieldsOfAnotherTypeAreNotCopiedTest() {
+		DeviceDetailSBI mapping = mapping("device-1");
+		mapping.setIsActive(true);
+		DeviceDto dto = MapperUtils.map(mapping, DeviceDto.class);
+		assertNull(dto.isActive);
+	}
+
+	@Test
+	public void staticAndFinalFieldsAreNotCopiedTest() {
+		DeviceDto.sequence = "source";
+		DeviceView.sequence = "destination";
+		DeviceView view = MapperUtils.map(dto("device-1"), DeviceView.class);
+		assertEquals("destination", DeviceView.sequence);
+		assertEquals(List.of("view"), view.tags);
+	}
+
+	@Test
+	public void nullValuesTest() {
+		DeviceDetailSBI mapping = mapping("device-1");
+		mapping.setProviderId(null);
+		DeviceDto dto = new DeviceDto();
+		dto.providerId = "old provider";
+		MapperUtils.map(mapping, dto, false);
+		assertEquals("old provider", dto.providerId);
+		assertEquals("device-1", dto.deviceDetailId);
+		MapperUtils.map(mapping, dto, true);
+		assertNull(dto.providerId);
+	}
+
+	@Test
+	public void nullSourceTest() {
+		try {
+			MapperUtils.map(null, DeviceDto.class);
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("source should not be null", e.getMessage());
+		}
+		DeviceDetailSBI mapping = mapping("device-1");
+		mapping.setId(null);
+		try {
+			MapperUtils.map(mapping, DeviceDto.class);
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("source should not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	public void fieldValuesTest() {
+		DeviceDto dto = new DeviceDto();
+		MapperUtils.mapFieldValues(mapping("device-1"), dto);
+		assertEquals("provider", dto.providerId);
+		assertNull(dto.deviceDetailId);
+	}
+
+	@Test
+	public void destinationWithoutNoArgumentConstructorTest() {
+		try {
+			MapperUtils.map(mapping("device-1"), Unmappable.class);
+			fail();
+		} catch (DataAccessLayerException e) {
+			assertEquals("KER-MSD-991", e.getErrorCode());
+		}
+	}
+
+	private DeviceDetailSBI mapping(String deviceDetailId) {
+		DeviceDetailSBIPK id = new DeviceDetailSBIPK();
+		id.setDeviceDetailId(deviceDetailId);
+		id.setSbiId("sbi");
+		DeviceDetailSBI mapping = new DeviceDetailSBI();
+		mapping.setId(id);
+		mapping.setProviderId("provider");
+		mapping.setCrBy("test");
+		mapping.setCrDtimes(CR_DTIMES);
+		return mapping;
+	}
+
+	private DeviceDto dto(String deviceDetailId) {
+		DeviceDto dto = new DeviceDto();
+		dto.deviceDetailId = deviceDetailId;
+		dto.sbiId = "sbi";
+		dto.providerId = "provider";
+		dto.crBy = "test";
+		dto.crDtimes = CR_DTIMES;
+		dto.status = "approved";
+		dto.reviewedDtimes = CR_DTIMES;
+		return dto;
+	}
+
+	public static class Reviewed {
+
+		String status;
+
+		Timestamp reviewedDtimes;
+	}
+
+	public static class DeviceDto extends Reviewed {
+
+		static String sequence;
+
+		final List<String> tags = List.of("dto");
+
+		String deviceDetailId;
+
+		String sbiId;
+
+		String providerId;
+
+		String isActive;
+
+		String crBy;
+
+		Timestamp crDtimes;
+	}
+
+	public static class DeviceView extends Reviewed {
+
+		static String sequence;
+
+		List<String> tags = List.of("view");
+
+		String deviceDetailId;
+	}
+
+	public static class Unmappable {
+
+		public Unmappable(String providerId) {
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package io.mosip.pms.test.partner.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.pms.common.util.PartnerCertificateCache;
+
+public class PartnerCertificateCacheTest {
+
+	private PartnerCertificateCache certificateCache;
+
+	private List<String> downloads;
+
+	private Function<String, String> keymanager;
+
+	@Before
+	public void setUp() {
+		certificateCache = new PartnerCertificateCache();
+		ReflectionTestUtils.setField(certificateCache, "maxSize", 2);
+		ReflectionTestUtils.setField(certificateCache, "ttl", 60000L);
+		downloads = new ArrayList<>();
+		keymanager = alias -> {
+			downloads.add(alias);
+			return "cert-" + alias;
+		};
+	}
+
+	@Test
+	public void certificateIsDownloadedOnceTest() {
+		assertEquals("cert-1", certificateCache.getCertificate("1", keymanager));
+		assertEquals("cert-1", certificateCache.getCertificate("1", keymanager));
+		assertEquals(List.of("1"), downloads);
+	}
+
+	@Test
+	public void uploadedCertificateIsNotDownloadedTest() {
+		certificateCache.put("2", "uploaded");
+		certificateCache.evict("1");
+		assertEquals("uploaded", certificateCache.getCertificate("2", keymanager));
+		assertEquals("cert-1", certificateCache.getCertificate("1", keymanager));
+		assertEquals(List.of("1"), downloads);
+	}
+
+	@Test
+	public void leastRecentlyUsedCertificateIsDroppedTest() {
+		certificateCache.getCertificate("1", keymanager);
+		certificateCache.getCertificate("2", keymanager);
+		certificateCache.getCertificate("1", keymanager);
+		certificateCache.getCertificate("3", keymanager);
+		certificateCache.getCertificate("1", keymanager);
+		certificateCache.getCertificate("2", keymanager);
+		assertEquals(List.of("1", "2", "3", "2"), downloads);
+	}
+
+	@Test
+	public void expiredCertificateIsDownloadedAgainTest() throws Exception {
+		ReflectionTestUtils.setField(certificateCache, "ttl", 1L);
+		certificateCache.getCertificate("1", keymanager);
+		Thread.sleep(5);
+		certificateCache.getCertificate("1", keymanager);
+		assertEquals(List.of("1", "1"), downloads);
+	}
+}
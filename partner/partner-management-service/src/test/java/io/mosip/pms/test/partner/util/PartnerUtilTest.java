@@ -0,0 +1,43 @@
+package io.mosip.pms.test.partner.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.mosip.pms.partner.util.PartnerUtil;
+
+public class PartnerUtilTest {
+
+	@Test
+	public void createPartnerIdTest() throws Exception {
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			ids.add(PartnerUtil.createPartnerId());
+		}
+		Set<String> uniqueIds = new HashSet<>(ids);
+		assertEquals(ids.size(), uniqueIds.size());
+		for (String id : ids) {
+			assertTrue(id.matches("[0-7][0-9A-HJKMNP-TV-Z]{25}"));
+		}
+		String earlier = PartnerUtil.createPartnerId();
+		Thread.sleep(2);
+		assertTrue(earlier.compareTo(PartnerUtil.createPartnerId()) < 0);
+	}
+
+	@Test
+	public void createPartnerApiKeyTest() {
+		Set<String> keys = new HashSet<>();
+		for (int i = 0; i < 10000; i++) {
+			String key = PartnerUtil.createPartnerApiKey();
+			assertTrue(key.matches("[A-Za-z0-9_-]{43}"));
+			keys.add(key);
+		}
+		assertEquals(10000, keys.size());
+	}
+}
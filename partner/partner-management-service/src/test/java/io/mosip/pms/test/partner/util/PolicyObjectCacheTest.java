@@ -0,0 +1,112 @@
+package io.mosip.pms.test.partner.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.pms.common.entity.AuthPolicy;
+import io.mosip.pms.common.util.PolicyObjectCache;
+
+public class PolicyObjectCacheTest {
+
+	private static final String POLICY = "{\"allowedAuthTypes\":[{\"authType\":\"otp\",\"mandatory\":true}],"
+			+ "\"authTokenType\":\"partner\"}";
+
+	private static final LocalDateTime UPD_DTIMES = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+	private PolicyObjectCache policyObjectCache;
+
+	@Before
+	public void setUp() {
+		policyObjectCache = new PolicyObjectCache();
+		ReflectionTestUtils.setField(policyObjectCache, "maxSize", 2);
+	}
+
+	@Test
+	public void samePolicyVersionIsParsedOnceTest() throws Exception {
+		JSONObject policy = policyObjectCache.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY));
+		assertSame(policy, policyObjectCache.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY)));
+		assertEquals("partner", policy.get("authTokenType"));
+	}
+
+	@Test
+	public void changedPolicyIsParsedAgainTest() throws Exception {
+		JSONObject policy = policyObjectCache.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY));
+		String changed = POLICY.replace("partner", "random");
+		// changed without a new update time
+		JSONObject changedPolicy = policyObjectCache.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, changed));
+		assertNotSame(policy, changedPolicy);
+		assertEquals("random", changedPolicy.get("authTokenType"));
+		JSONObject updatedPolicy = policyObjectCache
+				.getPolicyObject(authPolicy("policy-1", UPD_DTIMES.plusMinutes(1), changed));
+		assertNotSame(changedPolicy, updatedPolicy);
+		assertEquals("random", updatedPolicy.get("authTokenType"));
+	}
+
+	@Test
+	public void leastRecentlyUsedPolicyIsEvictedTest() throws Exception {
+		JSONObject first = policyObjectCache.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY));
+		JSONObject second = policyObjectCache.getPolicyObject(authPolicy("policy-2", UPD_DTIMES, POLICY));
+		assertSame(first, policyObjectCache.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY)));
+		policyObjectCache.getPolicyObject(authPolicy("policy-3", UPD_DTIMES, POLICY));
+		assertSame(first, policyObjectCache.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY)));
+		assertNotSame(second, policyObjectCache.getPolicyObject(authPolicy("policy-2", UPD_DTIMES, POLICY)));
+	}
+
+	@Test
+	public void evictedPolicyIsParsedAgainTest() throws Exception {
+		JSONObject policy = policyObjectCache.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY));
+		policyObjectCache.evict("policy-1");
+		assertNotSame(policy, policyObjectCache.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY)));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void cachedPolicyCanNotBeChangedTest() throws Exception {
+		policyObjectCache.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY)).put("authTokenType", "random");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void cachedPolicyEntryCanNotBeRemovedTest() throws Exception {
+		policyObjectCache.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY)).keySet().remove("authTokenType");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void cachedPolicyArrayCanNotBeChangedTest() throws Exception {
+		JSONArray authTypes = (JSONArray) policyObjectCache
+				.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY)).get("allowedAuthTypes");
+		authTypes.add(new JSONObject());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void cachedPolicyArrayElementCanNotBeRemovedTest() throws Exception {
+		JSONArray authTypes = (JSONArray) policyObjectCache
+				.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY)).get("allowedAuthTypes");
+		Iterator<?> iterator = authTypes.iterator();
+		iterator.next();
+		iterator.remove();
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void nestedCachedPolicyObjectCanNotBeChangedTest() throws Exception {
+		JSONArray authTypes = (JSONArray) policyObjectCache
+				.getPolicyObject(authPolicy("policy-1", UPD_DTIMES, POLICY)).get("allowedAuthTypes");
+		((JSONObject) authTypes.get(0)).put("mandatory", false);
+	}
+
+	private AuthPolicy authPolicy(String id, LocalDateTime updDtimes, String policy) {
+		AuthPolicy authPolicy = new AuthPolicy();
+		authPolicy.setId(id);
+		authPolicy.setUpdDtimes(updDtimes);
+		authPolicy.setPolicyFileId(policy);
+		return authPolicy;
+	}
+}
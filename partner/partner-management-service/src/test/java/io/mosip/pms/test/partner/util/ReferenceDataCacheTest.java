@@ -0,0 +1,111 @@
+package io.mosip.pms.test.partner.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import io.mosip.pms.common.util.ReferenceDataCache;
+
+public class ReferenceDataCacheTest {
+
+	private static final String REGION = "region";
+
+	private ReferenceDataCache referenceDataCache;
+
+	private List<String> loads;
+
+	@Before
+	public void setUp() {
+		referenceDataCache = new ReferenceDataCache();
+		ReflectionTestUtils.setField(referenceDataCache, "ttl", 60000L);
+		loads = new ArrayList<>();
+	}
+
+	@After
+	public void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void valueIsLoadedOnceWithinTtlTest() {
+		assertEquals("value-key", referenceDataCache.get(REGION, "key", loader("key")));
+		assertEquals("value-key", referenceDataCache.get(REGION, "key", loader("key")));
+		referenceDataCache.get(REGION, "other", loader("other"));
+		referenceDataCache.get("another region", "key", loader("key"));
+		assertEquals(List.of("key", "other", "key"), loads);
+	}
+
+	@Test
+	public void expiredValueIsLoadedAgainTest() throws InterruptedException {
+		referenceDataCache.get(REGION, "key", 20, loader("key"));
+		referenceDataCache.get(REGION, "key", 20, loader("key"));
+		Thread.sleep(40);
+		referenceDataCache.get(REGION, "key", 20, loader("key"));
+		assertEquals(List.of("key", "key"), loads);
+	}
+
+	@Test
+	public void zeroTtlDisablesCachingTest() {
+		ReflectionTestUtils.setField(referenceDataCache, "ttl", 0L);
+		referenceDataCache.get(REGION, "key", loader("key"));
+		referenceDataCache.get(REGION, "key", loader("key"));
+		assertEquals(List.of("key", "key"), loads);
+	}
+
+	@Test
+	public void nullIsNotCachedTest() {
+		Supplier<String> notFound = () -> {
+			loads.add("missing");
+			return null;
+		};
+		assertNull(referenceDataCache.get(REGION, "missing", notFound));
+		assertNull(referenceDataCache.get(REGION, "missing", notFound));
+		// created in the meantime
+		assertEquals("value-missing", referenceDataCache.get(REGION, "missing", loader("missing")));
+		assertEquals(List.of("missing", "missing", "missing"), loads);
+	}
+
+	@Test
+	public void invalidationRemovesTheRegionTest() {
+		referenceDataCache.get(REGION, "key", loader("key"));
+		referenceDataCache.get("another region", "key", loader("key"));
+		referenceDataCache.invalidate(REGION);
+		referenceDataCache.get(REGION, "key", loader("key"));
+		referenceDataCache.get("another region", "key", loader("key"));
+		assertEquals(List.of("key", "key", "key"), loads);
+	}
+
+	@Test
+	public void invalidationWithinTransactionWaitsForCommitTest() {
+		referenceDataCache.get(REGION, "key", loader("key"));
+		TransactionSynchronizationManager.initSynchronization();
+		referenceDataCache.invalidate(REGION);
+		// a lookup before the commit still reads the old data
+		referenceDataCache.get(REGION, "key", loader("key"));
+		assertEquals(List.of("key"), loads);
+
+		TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+		TransactionSynchronizationManager.clearSynchronization();
+		referenceDataCache.get(REGION, "key", loader("key"));
+		assertEquals(List.of("key", "key"), loads);
+	}
+
+	private Supplier<String> loader(String key) {
+		return () -> {
+			loads.add(key);
+			return "value-" + key;
+		};
+	}
+}
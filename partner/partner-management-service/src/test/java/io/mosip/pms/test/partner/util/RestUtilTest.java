@@ -0,0 +1,147 @@
+package io.mosip.pms.test.partner.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.pms.common.exception.ApiAccessibleException;
+import io.mosip.pms.common.util.RestUtil;
+import io.mosip.pms.common.util.ServiceTokenProvider;
+
+public class RestUtilTest {
+
+	private HttpServer server;
+
+	private Set<Integer> clientPorts;
+
+	private List<String> authorizations;
+
+	private MockEnvironment environment;
+
+	private MeterRegistry meterRegistry;
+
+	private RestUtil restUtil;
+
+	@Before
+	public void setUp() throws IOException {
+		clientPorts = ConcurrentHashMap.newKeySet();
+		authorizations = new CopyOnWriteArrayList<>();
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/data", exchange -> {
+			clientPorts.add(exchange.getRemoteAddress().getPort());
+			authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+			byte[] body = "{\"value\":\"data\"}".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.createContext("/slow", exchange -> {
+			try {
+				Thread.sleep(2000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+		});
+		server.start();
+
+		environment = new MockEnvironment();
+		environment.setProperty("mosip.pms.rest.client.retry.max-attempts", "1");
+		environment.setProperty("data.url", url("/data"));
+		ServiceTokenProvider serviceTokenProvider = Mockito.mock(ServiceTokenProvider.class);
+		Mockito.when(serviceTokenProvider.getToken()).thenReturn("Authorization=token");
+		meterRegistry = new SimpleMeterRegistry();
+		restUtil = new RestUtil();
+		ReflectionTestUtils.setField(restUtil, "environment", environment);
+		ReflectionTestUtils.setField(restUtil, "serviceTokenProvider", serviceTokenProvider);
+		ReflectionTestUtils.setField(restUtil, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(restUtil, "maxTotalConnections", 20);
+		ReflectionTestUtils.setField(restUtil, "maxConnectionsPerRoute", 5);
+		ReflectionTestUtils.setField(restUtil, "connectTimeout", 1000);
+		ReflectionTestUtils.setField(restUtil, "readTimeout", 5000);
+		ReflectionTestUtils.setField(restUtil, "connectionRequestTimeout", 1000);
+		ReflectionTestUtils.setField(restUtil, "keepAlive", 30000L);
+		ReflectionTestUtils.setField(restUtil, "idleTimeout", 60000L);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		restUtil.destroy();
+		server.stop(0);
+	}
+
+	@Test
+	public void connectionIsReusedTest() throws Exception {
+		restUtil.init();
+		for (int i = 0; i < 5; i++) {
+			Map<String, String> response = restUtil.getApi(url("/data"), Map.of(), Map.class);
+			assertEquals("data", response.get("value"));
+		}
+		Map<String, String> response = restUtil.getApi("data.url", null, null, null, Map.class);
+		assertEquals("data", response.get("value"));
+		assertEquals(1, clientPorts.size());
+		assertEquals(6, authorizations.size());
+		assertTrue(authorizations.stream().allMatch("Bearer token"::equals));
+		PoolingHttpClientConnectionManager connectionManager = connectionManager();
+		assertEquals(0, connectionManager.getTotalStats().getLeased());
+		assertEquals(1, connectionManager.getTotalStats().getAvailable());
+	}
+
+	@Test
+	public void poolConfigurationTest() throws Exception {
+		restUtil.init();
+		PoolingHttpClientConnectionManager connectionManager = connectionManager();
+		assertEquals(20, connectionManager.getMaxTotal());
+		assertEquals(5, connectionManager.getDefaultMaxPerRoute());
+		assertEquals(20, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+				.tag("httpclient", "pms-rest-client").gauge().value(), 0);
+		assertSame(restUtil.getRestTemplate(), restUtil.getRestTemplate());
+	}
+
+	@Test
+	public void downstreamReadTimeoutTest() throws Exception {
+		environment.setProperty("mosip.pms.rest.client.slow.read-timeout", "300");
+		restUtil.init();
+		long start = System.currentTimeMillis();
+		try {
+			restUtil.getApi(url("/slow"), Map.of(), Map.class);
+			fail();
+		} catch (ApiAccessibleException e) {
+			assertTrue(System.currentTimeMillis() - start < 1500);
+		}
+	}
+
+	private PoolingHttpClientConnectionManager connectionManager() {
+		return (PoolingHttpClientConnectionManager) ReflectionTestUtils.getField(restUtil, "connectionManager");
+	}
+
+	private String url(String path) {
+		return "http://localhost:" + server.getAddress().getPort() + path;
+	}
+}
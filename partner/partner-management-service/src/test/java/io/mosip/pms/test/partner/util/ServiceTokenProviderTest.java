@@ -0,0 +1,193 @@
+package io.mosip.pms.test.partner.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.mosip.pms.common.util.ServiceTokenProvider;
+
+public class ServiceTokenProviderTest {
+
+	private HttpServer authManager;
+
+	private AtomicInteger logins;
+
+	private volatile long loginDelay;
+
+	private volatile Long expiry;
+
+	private volatile boolean loginFails;
+
+	private ServiceTokenProvider tokenProvider;
+
+	@Before
+	public void setUp() throws IOException {
+		logins = new AtomicInteger();
+		authManager = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		authManager.setExecutor(Executors.newCachedThreadPool());
+		authManager.createContext("/v1/authmanager/authenticate/clientidsecretkey", exchange -> {
+			int login = logins.incrementAndGet();
+			sleep(loginDelay);
+			if (!loginFails) {
+				exchange.getResponseHeaders().add("Set-Cookie",
+						"Authorization=" + jwt(login, expiry) + "; Path=/; HttpOnly");
+			}
+			byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		authManager.start();
+
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty("pms.cert.service.token.request.issuerUrl", "http://localhost:"
+				+ authManager.getAddress().getPort() + "/v1/authmanager/authenticate/clientidsecretkey");
+		tokenProvider = new ServiceTokenProvider();
+		ReflectionTestUtils.setField(tokenProvider, "environment", environment);
+		ReflectionTestUtils.setField(tokenProvider, "refreshBeforeExpiry", 60000L);
+		ReflectionTestUtils.setField(tokenProvider, "defaultLifetime", 1800000L);
+		ReflectionTestUtils.setField(tokenProvider, "connectTimeout", 1000);
+		ReflectionTestUtils.setField(tokenProvider, "readTimeout", 1000);
+		tokenProvider.init();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		tokenProvider.destroy();
+		authManager.stop(0);
+	}
+
+	@Test
+	public void concurrentCallersLogInOnceTest() throws Exception {
+		expiry = System.currentTimeMillis() / 1000 + 3600;
+		loginDelay = 200;
+		ExecutorService callers = Executors.newFixedThreadPool(8);
+		try {
+			List<Callable<String>> calls = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				calls.add(tokenProvider::getToken);
+			}
+			for (Future<String> token : callers.invokeAll(calls)) {
+				assertEquals("Authorization=" + jwt(1, expiry), token.get());
+			}
+		} finally {
+			callers.shutdown();
+		}
+		assertEquals(1, logins.get());
+	}
+
+	@Test
+	public void tokenIsRefreshedInBackgroundBeforeExpiryTest() throws Exception {
+		// within refresh-before-expiry of its expiry
+		expiry = System.currentTimeMillis() / 1000 + 30;
+		String first = tokenProvider.getToken();
+		assertEquals("Authorization=" + jwt(1, expiry), first);
+		expiry = System.currentTimeMillis() / 1000 + 3600;
+		assertEquals(first, tokenProvider.getToken());
+		waitForLogins(2);
+		waitForToken("Authorization=" + jwt(2, expiry));
+	}
+
+	@Test
+	public void expiredTokenIsRefreshedTest() throws Exception {
+		expiry = System.currentTimeMillis() / 1000 - 1;
+		tokenProvider.getToken();
+		expiry = System.currentTimeMillis() / 1000 + 3600;
+		assertEquals("Authorization=" + jwt(2, expiry), tokenProvider.getToken());
+	}
+
+	@Test
+	public void tokenWithoutExpiryIsKeptForDefaultLifetimeTest() throws Exception {
+		expiry = null;
+		String token = tokenProvider.getToken();
+		for (int i = 0; i < 5; i++) {
+			assertEquals(token, tokenProvider.getToken());
+		}
+		Thread.sleep(100);
+		assertEquals(1, logins.get());
+	}
+
+	@Test
+	public void failedLoginIsReportedTest() {
+		loginFails = true;
+		try {
+			tokenProvider.getToken();
+			fail();
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("cookie is empty"));
+		}
+	}
+
+	@Test
+	public void failedBackgroundRefreshKeepsTheTokenTest() throws Exception {
+		expiry = System.currentTimeMillis() / 1000 + 30;
+		String token = tokenProvider.getToken();
+		loginFails = true;
+		assertEquals(token, tokenProvider.getToken());
+		waitForLogins(2);
+		Thread.sleep(100);
+		assertEquals(token, tokenProvider.getToken());
+	}
+
+	@Test
+	public void slowLoginTimesOutTest() {
+		expiry = System.currentTimeMillis() / 1000 + 3600;
+		loginDelay = 3000;
+		long start = System.currentTimeMillis();
+		try {
+			tokenProvider.getToken();
+			fail();
+		} catch (IOException e) {
+			assertTrue(System.currentTimeMillis() - start < 2500);
+		}
+	}
+
+	private void waitForLogins(int count) throws InterruptedException {
+		for (int i = 0; i < 100 && logins.get() < count; i++) {
+			Thread.sleep(20);
+		}
+		assertEquals(count, logins.get());
+	}
+
+	private void waitForToken(String expected) throws Exception {
+		for (int i = 0; i < 100 && !expected.equals(tokenProvider.getToken()); i++) {
+			Thread.sleep(20);
+		}
+		assertEquals(expected, tokenProvider.getToken());
+	}
+
+	private static String jwt(int login, Long expiry) {
+		String claims = "{\"sub\":\"login-" + login + "\"" + (expiry == null ? "" : ",\"exp\":" + expiry) + "}";
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+				+ encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8)) + ".signature";
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
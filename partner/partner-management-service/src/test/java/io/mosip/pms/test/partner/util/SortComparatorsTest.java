@@ -0,0 +1,162 @@
+package io.mosip.pms.test.partner.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.mosip.pms.common.constant.SearchErrorCode;
+import io.mosip.pms.common.dto.SearchSort;
+import io.mosip.pms.common.exception.RequestException;
+import io.mosip.pms.common.util.SortComparators;
+import io.mosip.pms.common.util.SortUtils;
+
+public class SortComparatorsTest {
+
+	private final SortUtils sortUtils = new SortUtils();
+
+	@Test
+	public void ascendingSortTest() {
+		assertEquals(List.of("a", "b", "c", "d"), ids(sort(rows(), sort("rank", "asc"))));
+		assertEquals(List.of("d", "a", "c", "b"), ids(sort(rows(), sort("name", "ASC"))));
+	}
+
+	@Test
+	public void descendingSortTest() {
+		assertEquals(List.of("d", "c", "b", "a"), ids(sort(rows(), sort("rank", "desc"))));
+		assertEquals(List.of("b", "c", "a", "d"), ids(sort(rows(), sort("createdDateTime", "desc"))));
+	}
+
+	@Test
+	public void nullsFirstAscendingAndLastDescendingTest() {
+		List<Row> rows = rows();
+		rows.add(new Row("e", null, null, 5, null));
+		assertEquals("e", ids(sort(rows, sort("name", "asc"))).get(0));
+		assertEquals("e", ids(sort(rows, sort("createdDateTime", "asc"))).get(0));
+		assertEquals("e", ids(sort(rows, sort("name", "desc"))).get(4));
+		assertEquals("e", ids(sort(rows, sort("createdDateTime", "desc"))).get(4));
+	}
+
+	@Test
+	public void tiesAreBrokenByTheNextSortTest() {
+		List<Row> rows = List.of(new Row("a", "x", null, 2, null), new Row("b", "y", null, 1, null),
+				new Row("c", "x", null, 1, null), new Row("d", "y", null, 2, null));
+		assertEquals(List.of("c", "a", "b", "d"), ids(sort(rows, sort("name", "asc"), sort("rank", "asc"))));
+		assertEquals(List.of("a", "c", "d", "b"), ids(sort(rows, sort("name", "asc"), sort("rank", "desc"))));
+		assertEquals(List.of("b", "c", "d", "a"), ids(sort(rows, sort("rank", "asc"), sort("name", "desc"))));
+	}
+
+	@Test
+	public void fieldOfSuperClassAndOtherTypesTest() {
+		List<Row> rows = rows();
+		// compared by the string form
+		assertEquals(List.of("c", "a", "b", "d"), ids(sort(rows, sort("tag", "asc"))));
+		assertEquals(List.of("a", "b", "c", "d"), ids(sort(rows, sort("ID", "asc"))));
+	}
+
+	@Test
+	public void comparatorIsReusedTest() {
+		assertSame(SortComparators.comparator(Row.class, "rank", "asc"),
+				SortComparators.comparator(Row.class, "RANK", "Asc"));
+	}
+
+	@Test
+	public void unknownFieldTest() {
+		assertRejected(sort("unknown", "asc"), SearchErrorCode.INVALID_SORT_FIELD);
+	}
+
+	@Test
+	public void blankFieldTest() {
+		assertRejected(sort(" ", "asc"), SearchErrorCode.INVALID_SORT_INPUT);
+	}
+
+	@Test
+	public void unknownSortTypeTest() {
+		assertRejected(sort("rank", "up"), SearchErrorCode.INVALID_SORT_TYPE);
+	}
+
+	@Test
+	public void emptyListIsNotSortedTest() {
+		List<Row> rows = new ArrayList<>();
+		assertSame(rows, sortUtils.sort(rows, List.of(sort("unknown", "asc"))));
+	}
+
+	private void assertRejected(SearchSort sort, SearchErrorCode errorCode) {
+		try {
+			sort(rows(), sort);
+			fail();
+		} catch (RequestException e) {
+			assertEquals(errorCode.getErrorCode(), e.getErrors().get(0).getErrorCode());
+		}
+	}
+
+	private List<Row> sort(List<Row> rows, SearchSort... sorts) {
+		return sortUtils.sort(rows, Arrays.asList(sorts));
+	}
+
+	private List<String> ids(List<Row> rows) {
+		return rows.stream().map(row -> row.id).collect(Collectors.toList());
+	}
+
+	private List<Row> rows() {
+		LocalDateTime now = LocalDateTime.of(2026, 10, 1, 12, 0);
+		List<Row> rows = new ArrayList<>();
+		rows.add(new Row("a", "charlie", now.plusDays(2), 1, new Tag("m")));
+		rows.add(new Row("b", "delta", now.plusDays(4), 2, new Tag("t")));
+		rows.add(new Row("c", "charlie", now.plusDays(3), 3, new Tag("b")));
+		rows.add(new Row("d", "bravo", now.plusDays(1), 4, new Tag("z")));
+		return rows;
+	}
+
+	private SearchSort sort(String sortField, String sortType) {
+		SearchSort sort = new SearchSort();
+		sort.setSortField(sortField);
+		sort.setSortType(sortType);
+		return sort;
+	}
+
+	private static class Identified {
+
+		protected String id;
+	}
+
+	private static final class Row extends Identified {
+
+		private final String name;
+
+		private final LocalDateTime createdDateTime;
+
+		private final int rank;
+
+		private final Tag tag;
+
+		private Row(String id, String name, LocalDateTime createdDateTime, int rank, Tag tag) {
+			this.id = id;
+			this.name = name;
+			this.createdDateTime = createdDateTime;
+			this.rank = rank;
+			this.tag = tag;
+		}
+	}
+
+	private static final class Tag {
+
+		private final String value;
+
+		private Tag(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public String toString() {
+			return value;
+		}
+	}
+}
@@ -1,5 +1,10 @@
 package io.mosip.pms.common.config;
 
+import java.nio.charset.StandardCharsets;
+
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.log.NullLogChute;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,4 +19,18 @@ public class TemplateConfiguration {
 
 		return templateManagerBuilder.build();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Velocity runtime parsing the notification templates once, configured as the
+	 * engine of the {@link TemplateManager}.
+	 */
+	@Bean
+	public RuntimeInstance templateRuntime() {
+		RuntimeInstance templateRuntime = new RuntimeInstance();
+		templateRuntime.setProperty(RuntimeConstants.INPUT_ENCODING, StandardCharsets.UTF_8.name());
+		templateRuntime.setProperty(RuntimeConstants.OUTPUT_ENCODING, StandardCharsets.UTF_8.name());
+		templateRuntime.setProperty(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS, NullLogChute.class.getName());
+		templateRuntime.init();
+		return templateRuntime;
+	}
+}
@@ -13,4 +13,6 @@ public class Pagination {
 
 	private int pageFetch = 10;
 
+	private String cursor;
+
 }
@@ -0,0 +1,33 @@
+package io.mosip.pms.common.entity;
+
+import java.sql.Timestamp;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Expiry notice sent for an api key when it came within the threshold days of
+ * its expiry. The notice is sent again only if the key is given another expiry
+ * date.
+ *
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "apikey_expiry_notification")
+public class ApiKeyExpiryNotification {
+
+	@EmbeddedId
+	private ApiKeyExpiryNotificationPK id;
+
+	@Column(name = "valid_to_datetime")
+	private Timestamp validToDatetime;
+
+	@Column(name = "sent_dtimes")
+	private Timestamp sentDtimes;
+}
@@ -0,0 +1,25 @@
+package io.mosip.pms.common.entity;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiKeyExpiryNotificationPK implements Serializable {
+
+	private static final long serialVersionUID = 6209173311652874370L;
+
+	@Column(name = "policy_api_key")
+	private String policyApiKey;
+
+	@Column(name = "threshold_days")
+	private int thresholdDays;
+}
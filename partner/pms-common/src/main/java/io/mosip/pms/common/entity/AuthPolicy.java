@@ -6,9 +6,12 @@ import java.time.LocalDateTime;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.NamedQuery;
 import javax.persistence.Table;
 
@@ -21,6 +24,7 @@ import javax.persistence.Table;
 @Entity
 @Table(name="auth_policy")
 @NamedQuery(name="AuthPolicy.findAll", query="SELECT a FROM AuthPolicy a")
+@NamedEntityGraph(name="AuthPolicy.search", attributeNodes=@NamedAttributeNode("policyGroup"))
 public class AuthPolicy implements Serializable {
 	private static final long serialVersionUID = 1L;
 
@@ -71,7 +75,7 @@ public class AuthPolicy implements Serializable {
 	private String schema;
 
 	//bi-directional many-to-one association to PolicyGroup
-	@ManyToOne
+	@ManyToOne(fetch=FetchType.LAZY)
 	@JoinColumn(name="policy_group_id")
 	private PolicyGroup policyGroup;
 
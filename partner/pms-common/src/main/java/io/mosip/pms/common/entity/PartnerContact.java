@@ -49,7 +49,7 @@ public class PartnerContact implements Serializable {
 	private LocalDateTime updDtimes;
 
 	//bi-directional many-to-one association to Partner
-	@ManyToOne
+	@ManyToOne(fetch=FetchType.LAZY)
 	private Partner partner;
 
 	public PartnerContact() {
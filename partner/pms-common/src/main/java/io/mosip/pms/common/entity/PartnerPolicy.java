@@ -5,9 +5,12 @@ import java.sql.Timestamp;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.NamedQuery;
 import javax.persistence.Table;
 
@@ -19,6 +22,7 @@ import javax.persistence.Table;
 @Entity
 @Table(name="partner_policy")
 @NamedQuery(name="PartnerPolicy.findAll", query="SELECT p FROM PartnerPolicy p")
+@NamedEntityGraph(name="PartnerPolicy.search", attributeNodes=@NamedAttributeNode("partner"))
 public class PartnerPolicy implements Serializable {
 	private static final long serialVersionUID = 1L;
 
@@ -57,7 +61,7 @@ public class PartnerPolicy implements Serializable {
 	private Timestamp validToDatetime;
 
 	//bi-directional many-to-one association to Partner
-	@ManyToOne
+	@ManyToOne(fetch=FetchType.LAZY)
 	@JoinColumn(name="part_id")
 	private Partner partner;
 	
@@ -5,9 +5,12 @@ import java.sql.Timestamp;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.NamedQuery;
 import javax.persistence.Table;
 
@@ -19,6 +22,7 @@ import javax.persistence.Table;
 @Entity
 @Table(name="partner_policy_request")
 @NamedQuery(name="PartnerPolicyRequest.findAll", query="SELECT p FROM PartnerPolicyRequest p")
+@NamedEntityGraph(name="PartnerPolicyRequest.search", attributeNodes=@NamedAttributeNode("partner"))
 public class PartnerPolicyRequest implements Serializable {
 	private static final long serialVersionUID = 1L;
 
@@ -56,7 +60,7 @@ public class PartnerPolicyRequest implements Serializable {
 	private Timestamp updDtimes;
 
 	//bi-directional many-to-one association to Partner
-	@ManyToOne
+	@ManyToOne(fetch=FetchType.LAZY)
 	@JoinColumn(name="part_id")
 	private Partner partner;
 
@@ -0,0 +1,33 @@
+package io.mosip.pms.common.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lease of a scheduled job, held by the one instance running the job until it
+ * is released or expires.
+ *
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "scheduled_job_lease")
+public class ScheduledJobLease {
+
+	@Id
+	@Column(name = "job_name")
+	private String jobName;
+
+	@Column(name = "locked_by")
+	private String lockedBy;
+
+	@Column(name = "locked_until")
+	private LocalDateTime lockedUntil;
+}
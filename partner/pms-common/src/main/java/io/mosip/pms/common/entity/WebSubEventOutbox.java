@@ -0,0 +1,51 @@
+package io.mosip.pms.common.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * WebSub event written in the same transaction as the change it describes and
+ * published to the hub later by the outbox dispatcher.
+ *
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "websub_event_outbox")
+public class WebSubEventOutbox {
+
+	@Id
+	@Column(name = "id")
+	private String id;
+
+	@Column(name = "topic")
+	private String topic;
+
+	@Column(name = "payload", columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(name = "status")
+	private String status;
+
+	@Column(name = "attempt_count")
+	private int attemptCount;
+
+	@Column(name = "next_attempt_dtimes")
+	private LocalDateTime nextAttemptDtimes;
+
+	@Column(name = "last_error")
+	private String lastError;
+
+	@Column(name = "cr_dtimes")
+	private LocalDateTime crDtimes;
+
+	@Column(name = "upd_dtimes")
+	private LocalDateTime updDtimes;
+}
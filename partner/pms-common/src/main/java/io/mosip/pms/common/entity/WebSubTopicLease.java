@@ -0,0 +1,33 @@
+package io.mosip.pms.common.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lease of a websub topic, held by the one outbox dispatcher publishing the
+ * events of the topic until it is released or expires.
+ *
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "websub_topic_lease")
+public class WebSubTopicLease {
+
+	@Id
+	@Column(name = "topic")
+	private String topic;
+
+	@Column(name = "locked_by")
+	private String lockedBy;
+
+	@Column(name = "locked_until")
+	private LocalDateTime lockedUntil;
+}
@@ -1,10 +1,17 @@
 package io.mosip.pms.common.helper;
 
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
@@ -18,7 +25,12 @@ import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
 
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
@@ -27,11 +39,16 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.openid.bridge.model.AuthUserDetails;
 import io.mosip.pms.common.constant.FilterTypeEnum;
 import io.mosip.pms.common.constant.OrderEnum;
 import io.mosip.pms.common.constant.SearchErrorCode;
+import io.mosip.pms.common.dto.PageResponseDto;
 import io.mosip.pms.common.dto.Pagination;
 import io.mosip.pms.common.dto.SearchDto;
 import io.mosip.pms.common.dto.SearchFilter;
@@ -50,10 +67,21 @@ import io.mosip.pms.common.util.UserDetailUtil;
 public class SearchHelper {
 
 	private static final String ENTITY_IS_NULL = "entity is null";
+	private static final String PROJECTION_IS_NULL = "projection is null";
 	private static final String WILD_CARD_CHARACTER = "%";
 	private static final String DECOMISSION = "isDeleted";
 
 	private static final String IS_ACTIVE_COLUMN_NAME = "isActive";
+
+	private static final String CURSOR_ID = "id";
+	private static final String CURSOR_VALUE = "value";
+	private static final String CURSOR_SORT_FIELD = "sortField";
+	private static final String CURSOR_SORT_TYPE = "sortType";
+
+	private static final String SEARCH_ENTITY_GRAPH = ".search";
+	private static final String LOAD_GRAPH_HINT = "javax.persistence.loadgraph";
+
+	private static final ObjectMapper mapper = new ObjectMapper();
 	
 	@Value("${mosip.pms.required.roles:PARTNER_ADMIN}")
 	private List<String> requiredroles;
@@ -71,6 +99,117 @@ public class SearchHelper {
 		return search(entity,searchDto);
 	}
 
+	/**
+	 * Method to search, sort and page the partnerManagementData in the database.
+	 * Only the rows of the requested page are fetched.
+	 * 
+	 * @param entity          the entity class for which search will be applied
+	 * @param searchDto       which contains the list of filters, sort and
+	 *                        pagination
+	 * @param partnerIdColumn column to be filtered with the logged in partner id
+	 * 
+	 * @return {@link Page} of entity
+	 */
+	public <E> Page<E> searchPaged(Class<E> entity, SearchDto searchDto, String partnerIdColumn) {
+		if (partnerIdColumn != null) {
+			addPartnerFilter(searchDto, partnerIdColumn);
+		}
+		return searchPaged(entity, searchDto);
+	}
+
+	/**
+	 * Method to search, sort and page the partnerManagementData in the database.
+	 * Only the rows of the requested page are fetched.
+	 * 
+	 * @param entity    the entity class for which search will be applied
+	 * @param searchDto which contains the list of filters, sort and pagination
+	 * 
+	 * @return {@link Page} of entity
+	 */
+	public <E> Page<E> searchPaged(Class<E> entity, SearchDto searchDto) {
+		return search(entity, searchDto, true);
+	}
+
+	/**
+	 * Method to search the partnerManagementData page by page using the cursor of
+	 * the previous page instead of an offset. Rows are ordered by the sort field
+	 * and the entity id, and the next page starts right after the (sort value, id)
+	 * of the last row, so every page costs the same irrespective of its depth.
+	 * Rows with a null sort value are read as a separate segment ordered by id,
+	 * after the others for an ascending sort and before them for a descending
+	 * one, so that no page query has to match the nulls along with the sort
+	 * values. Total record count is not computed.
+	 * 
+	 * @param entity          the entity class for which search will be applied
+	 * @param searchDto       which contains the list of filters, at most one sort
+	 *                        and the pagination with the cursor of the previous
+	 *                        page
+	 * @param partnerIdColumn column to be filtered with the logged in partner id
+	 * 
+	 * @return {@link PageResponseDto} of entity with the cursor of the next page
+	 */
+	public <E> PageResponseDto<E> searchByCursor(Class<E> entity, SearchDto searchDto, String partnerIdColumn) {
+		Objects.requireNonNull(entity, ENTITY_IS_NULL);
+		if (partnerIdColumn != null) {
+			addPartnerFilter(searchDto, partnerIdColumn);
+		}
+		Pagination pagination = searchDto.getPagination();
+		if (pagination == null) {
+			throw new RequestException(SearchErrorCode.INVALID_PAGINATION.getErrorCode(),
+					SearchErrorCode.INVALID_PAGINATION.getErrorMessage());
+		}
+		if (pagination.getPageFetch() < 1) {
+			throw new RequestException(SearchErrorCode.INVALID_PAGINATION_VALUE.getErrorCode(),
+					String.format(SearchErrorCode.INVALID_PAGINATION_VALUE.getErrorMessage(),
+							pagination.getPageStart(), pagination.getPageFetch()));
+		}
+		List<SearchSort> sortFilter = searchDto.getSort() == null ? new ArrayList<>()
+				: searchDto.getSort().stream().filter(this::validateSort).collect(Collectors.toList());
+		if (sortFilter.size() > 1) {
+			throw new RequestException(SearchErrorCode.INVALID_CURSOR_SORT.getErrorCode(),
+					SearchErrorCode.INVALID_CURSOR_SORT.getErrorMessage());
+		}
+		SearchSort sort = sortFilter.isEmpty() ? null : sortFilter.get(0);
+		String idAttribute = getIdAttributeName(entityManager.getCriteriaBuilder().createQuery(entity).from(entity));
+		if (idAttribute == null) {
+			throw new RequestException(SearchErrorCode.CURSOR_NOT_SUPPORTED.getErrorCode(),
+					String.format(SearchErrorCode.CURSOR_NOT_SUPPORTED.getErrorMessage(), entity.getSimpleName()));
+		}
+		Map<String, String> cursor = pagination.getCursor() == null || pagination.getCursor().isEmpty() ? null
+				: decodeCursor(pagination.getCursor(), sort);
+		// one extra row tells whether there is a next page
+		int rows = pagination.getPageFetch() + 1;
+		List<E> result;
+		if (sort == null || idAttribute.equals(sort.getSortField())) {
+			result = cursorQuery(entity, searchDto, sortFilter, rows,
+					(builder, root) -> cursor == null ? null : idPredicate(builder, root, sort, idAttribute, cursor));
+		} else {
+			boolean ascending = OrderEnum.asc.name().equalsIgnoreCase(sort.getSortType());
+			Boolean cursorInNullSegment = cursor == null ? null : cursor.get(CURSOR_VALUE) == null;
+			result = new ArrayList<>();
+			for (boolean nullSegment : ascending ? new boolean[] { false, true } : new boolean[] { true, false }) {
+				if (cursorInNullSegment != null && cursorInNullSegment != nullSegment) {
+					continue;
+				}
+				Map<String, String> position = cursorInNullSegment == null ? null : cursor;
+				cursorInNullSegment = null;
+				result.addAll(cursorQuery(entity, searchDto, nullSegment ? new ArrayList<>() : sortFilter,
+						rows - result.size(), (builder, root) -> segmentPredicate(builder, root, sort, idAttribute,
+								nullSegment, position)));
+				if (result.size() == rows) {
+					break;
+				}
+			}
+		}
+		PageResponseDto<E> pageResponse = new PageResponseDto<>();
+		if (result.size() > pagination.getPageFetch()) {
+			result = new ArrayList<>(result.subList(0, pagination.getPageFetch()));
+			pageResponse.setNextCursor(encodeCursor(result.get(result.size() - 1), sort, idAttribute));
+		}
+		pageResponse.setData(result);
+		return pageResponse;
+	}
+
 	/**
 	 * Method to search and sort the partnerManagementData.
 	 * 
@@ -82,15 +221,81 @@ public class SearchHelper {
 	 * @return {@link Page} of entity
 	 */
 	public <E> Page<E> search(Class<E> entity, SearchDto searchDto) {
+		return search(entity, searchDto, false);
+	}
+
+	/**
+	 * Method to search, sort and page the partnerManagementData in the database
+	 * selecting only the given columns. Each projection is created through its
+	 * public constructor taking the values of the columns, in the order of the
+	 * columns. The projections are not managed, and associations of the entity
+	 * that are not selected are not loaded.
+	 * 
+	 * @param entity          the entity class for which search will be applied
+	 * @param projection      the class of the returned objects
+	 * @param columns         entity attributes passed to the constructor of the
+	 *                        projection
+	 * @param searchDto       which contains the list of filters, sort and
+	 *                        pagination
+	 * @param partnerIdColumn column to be filtered with the logged in partner id
+	 * 
+	 * @return {@link Page} of projection
+	 */
+	public <E, P> Page<P> searchProjected(Class<E> entity, Class<P> projection, List<String> columns,
+			SearchDto searchDto, String partnerIdColumn) {
+		if (partnerIdColumn != null) {
+			addPartnerFilter(searchDto, partnerIdColumn);
+		}
+		return searchProjected(entity, projection, columns, searchDto);
+	}
+
+	/**
+	 * Method to search, sort and page the partnerManagementData in the database
+	 * selecting only the columns of the projection.
+	 * 
+	 * @param entity     the entity class for which search will be applied
+	 * @param projection the class of the returned objects
+	 * @param columns    entity attributes passed to the constructor of the
+	 *                   projection
+	 * @param searchDto  which contains the list of filters, sort and pagination
+	 * 
+	 * @return {@link Page} of projection
+	 * @see #searchProjected(Class, Class, List, SearchDto, String)
+	 */
+	public <E, P> Page<P> searchProjected(Class<E> entity, Class<P> projection, List<String> columns,
+			SearchDto searchDto) {
+		Objects.requireNonNull(projection, PROJECTION_IS_NULL);
+		Objects.requireNonNull(columns, PROJECTION_IS_NULL);
+		return search(entity, projection, columns, searchDto, true);
+	}
+
+	private <E> Page<E> search(Class<E> entity, SearchDto searchDto, boolean dbPagination) {
+		return search(entity, entity, null, searchDto, dbPagination);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <E, R> Page<R> search(Class<E> entity, Class<R> resultClass, List<String> columns, SearchDto searchDto,
+			boolean dbPagination) {
 		long rows = 0l;
-		List<E> result;		
+		List<R> result;		
 		Objects.requireNonNull(entity, ENTITY_IS_NULL);
+		boolean projected = columns != null;
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-		CriteriaQuery<E> selectQuery = criteriaBuilder.createQuery(entity);
+		CriteriaQuery<?> selectQuery = projected ? criteriaBuilder.createQuery(Object[].class)
+				: criteriaBuilder.createQuery(entity);
 		CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
 
 		// root Query
 		Root<E> rootQuery = selectQuery.from(entity);
+		// the projection is created from the selected row rather than selected with
+		// construct(), which would require the hibernate type of each column, such
+		// as java.util.Date of timestamps, in the constructor
+		Constructor<R> projectionConstructor = null;
+		if (projected) {
+			Selection<?>[] selections = projectionColumns(rootQuery, columns);
+			selectQuery.multiselect(selections);
+			projectionConstructor = projectionConstructor(resultClass, selections);
+		}
 		// count query
 		countQuery.select(criteriaBuilder.count(countQuery.from(entity)));
 		// applying filters
@@ -98,20 +303,30 @@ public class SearchHelper {
 			filterQuery(criteriaBuilder, rootQuery, selectQuery, countQuery, searchDto.getFilters());
 
 		// applying sorting
-		if(!searchDto.getSort().isEmpty())
-		sortQuery(criteriaBuilder, rootQuery, selectQuery, searchDto.getSort());
+		if(!searchDto.getSort().isEmpty() || dbPagination)
+		sortQuery(criteriaBuilder, rootQuery, selectQuery, searchDto.getSort(), dbPagination);
 
 		try {
 			// creating executable query from select criteria query
-			TypedQuery<E> executableQuery = entityManager.createQuery(selectQuery);
+			TypedQuery<?> executableQuery = entityManager.createQuery(selectQuery);
+			if (!projected) {
+				applySearchGraph(executableQuery, entity);
+			}
 			// creating executable query from count criteria query
 			TypedQuery<Long> countExecutableQuery = entityManager.createQuery(countQuery);
 			// getting the rows count
 			rows = countExecutableQuery.getSingleResult();
 			// adding pagination
-			paginationQuery(executableQuery, searchDto.getPagination());
+			paginationQuery(executableQuery, searchDto.getPagination(), dbPagination);
 			// executing query and returning data
-			result = executableQuery.getResultList();
+			if (projected) {
+				result = new ArrayList<>();
+				for (Object row : executableQuery.getResultList()) {
+					result.add(projectionConstructor.newInstance((Object[]) row));
+				}
+			} else {
+				result = (List<R>) executableQuery.getResultList();
+			}
 		} catch (Exception hibernateException) {
 			if(hibernateException instanceof RequestException) {
 				throw new RequestException(((RequestException) hibernateException).getErrors());
@@ -124,6 +339,67 @@ public class SearchHelper {
 				rows);
 	}
 
+	/**
+	 * Method to load the associations of the named entity graph
+	 * &lt;entity name&gt;.search, if the entity declares it, in the search query
+	 * itself instead of one query per row
+	 * 
+	 * @param query  search query
+	 * @param entity the entity class for which search will be applied
+	 */
+	private void applySearchGraph(TypedQuery<?> query, Class<?> entity) {
+		String graphName = entityManager.getMetamodel().entity(entity).getName() + SEARCH_ENTITY_GRAPH;
+		entityManager.getEntityGraphs(entity).stream().filter(graph -> graphName.equals(graph.getName()))
+				.findFirst().ifPresent(graph -> query.setHint(LOAD_GRAPH_HINT, graph));
+	}
+
+	/**
+	 * Method to select the entity attributes of the projection
+	 * 
+	 * @param root    root type in the from clause,always refers entity
+	 * @param columns entity attributes, dot separated for the attributes of
+	 *                associations
+	 * @return the attribute paths in the order of the columns
+	 */
+	private <E> Selection<?>[] projectionColumns(Root<E> root, List<String> columns) {
+		Selection<?>[] selections = new Selection<?>[columns.size()];
+		for (int i = 0; i < columns.size(); i++) {
+			try {
+				selections[i] = path(root, columns.get(i));
+			} catch (IllegalArgumentException | IllegalStateException e) {
+				throw new RequestException(SearchErrorCode.INVALID_COLUMN.getErrorCode(),
+						String.format(SearchErrorCode.INVALID_COLUMN.getErrorMessage(), columns.get(i)));
+			}
+		}
+		return selections;
+	}
+
+	/**
+	 * Method to get the public constructor of the projection taking the values of
+	 * the selected columns
+	 * 
+	 * @param projection the class of the selected objects
+	 * @param selections the selected columns
+	 * @return the constructor
+	 */
+	@SuppressWarnings("unchecked")
+	private <P> Constructor<P> projectionConstructor(Class<P> projection, Selection<?>[] selections) {
+		for (Constructor<?> constructor : projection.getConstructors()) {
+			Class<?>[] parameterTypes = constructor.getParameterTypes();
+			if (parameterTypes.length != selections.length) {
+				continue;
+			}
+			boolean matches = true;
+			for (int i = 0; i < parameterTypes.length && matches; i++) {
+				matches = parameterTypes[i].isAssignableFrom(selections[i].getJavaType());
+			}
+			if (matches) {
+				return (Constructor<P>) constructor;
+			}
+		}
+		throw new IllegalArgumentException(projection.getName() + " has no constructor taking the selected columns");
+	}
+
 	/**
 	 * Method to add the filters to the criteria query
 	 * 
@@ -133,8 +409,26 @@ public class SearchHelper {
 	 * @param countQuery  criteria count query
 	 * @param filters     list of {@link SearchFilter}
 	 */
-	private <E> void filterQuery(CriteriaBuilder builder, Root<E> root, CriteriaQuery<E> selectQuery,
+	private <E> void filterQuery(CriteriaBuilder builder, Root<E> root, CriteriaQuery<?> selectQuery,
 			CriteriaQuery<Long> countQuery, List<SearchFilter> filters) {
+		final List<Predicate> predicates = filterPredicates(builder, root, filters);
+		if (!predicates.isEmpty()) {
+			Predicate whereClause = builder.and(predicates.toArray(new Predicate[predicates.size()]));
+			selectQuery.where(whereClause);
+			countQuery.where(whereClause);
+		}
+
+	}
+
+	/**
+	 * Method to build the list of {@link Predicate} out of the filters
+	 * 
+	 * @param builder used to construct criteria queries
+	 * @param root    root type in the from clause,always refers entity
+	 * @param filters list of {@link SearchFilter}
+	 * @return list of {@link Predicate}
+	 */
+	private <E> List<Predicate> filterPredicates(CriteriaBuilder builder, Root<E> root, List<SearchFilter> filters) {
 		final List<Predicate> predicates = new ArrayList<>();
 		if (filters != null && !filters.isEmpty()) {
 			filters.stream().filter(this::validateFilters).map(i -> buildFilters(builder, root, i))
@@ -145,12 +439,7 @@ public class SearchHelper {
 		Predicate isDeletedNull = builder.isNull(root.get(DECOMISSION));
 		Predicate isDeleted = builder.or(isDeletedTrue, isDeletedNull);
 		predicates.add(isDeleted);
-		if (!predicates.isEmpty()) {
-			Predicate whereClause = builder.and(predicates.toArray(new Predicate[predicates.size()]));
-			selectQuery.where(whereClause);
-			countQuery.where(whereClause);
-		}
-
+		return predicates;
 	}
 
 
@@ -174,7 +463,7 @@ public class SearchHelper {
 		if (FilterTypeEnum.CONTAINS.name().equalsIgnoreCase(filterType)) {
 			Expression<String> lowerCase=null;
 			try {
-				lowerCase = builder.lower(root.get(columnName));
+				lowerCase = builder.lower(path(root, columnName));
 			} catch (Exception e) {
 				throw new RequestException(SearchErrorCode.INVALID_COLUMN.getErrorCode(),
 						String.format(SearchErrorCode.INVALID_COLUMN.getErrorMessage(), columnName));
@@ -204,7 +493,7 @@ public class SearchHelper {
 			}
 			Expression<String> lowerCase = null;
 			try {
-				 lowerCase = builder.lower(root.get(columnName));
+				 lowerCase = builder.lower(path(root, columnName));
 			} catch (Exception e) {
 				throw new RequestException(SearchErrorCode.INVALID_COLUMN.getErrorCode(),
 						String.format(SearchErrorCode.INVALID_COLUMN.getErrorMessage(), columnName));
@@ -224,23 +513,26 @@ public class SearchHelper {
 	 * @param root          root type in the from clause,always refers entity
 	 * @param criteriaQuery query in which sorting to be added
 	 * @param sortFilter    by the query to be sorted
+	 * @param stableOrder   true to append the id as tie breaker so that pages
+	 *                      do not overlap
 	 */
-	private <E> void sortQuery(CriteriaBuilder builder, Root<E> root, CriteriaQuery<E> criteriaQuery,
-			List<SearchSort> sortFilter) {
+	private <E> void sortQuery(CriteriaBuilder builder, Root<E> root, CriteriaQuery<?> criteriaQuery,
+			List<SearchSort> sortFilter, boolean stableOrder) {
+		List<Order> orders = new ArrayList<>();
 		if (sortFilter != null && !sortFilter.isEmpty()) {
-			List<Order> orders = sortFilter.stream().filter(this::validateSort).map(i -> {
+			orders = sortFilter.stream().filter(this::validateSort).map(i -> {
 				Path<Object> path = null;
 				try {
-					path = root.get(i.getSortField());
+					path = path(root, i.getSortField());
 				} catch (IllegalArgumentException | IllegalStateException e) {
 					throw new RequestException(SearchErrorCode.INVALID_SORT_FIELD.getErrorCode(),
 							String.format(SearchErrorCode.INVALID_SORT_FIELD.getErrorMessage(), i.getSortField()));
 				}
 				if (path != null) {
 					if (OrderEnum.asc.name().equalsIgnoreCase(i.getSortType()))
-						return builder.asc(root.get(i.getSortField()));
+						return builder.asc(path);
 					else if (OrderEnum.desc.name().equalsIgnoreCase(i.getSortType()))
-						return builder.desc(root.get(i.getSortField()));
+						return builder.desc(path);
 					else {
 						throw new RequestException(SearchErrorCode.INVALID_SORT_TYPE.getErrorCode(),
 								String.format(SearchErrorCode.INVALID_SORT_TYPE.getErrorMessage(), i.getSortType()));
@@ -249,27 +541,283 @@ public class SearchHelper {
 				return null;
 
 			}).filter(Objects::nonNull).collect(Collectors.toList());
+		}
+		if (stableOrder) {
+			for (String idAttribute : getIdAttributeNames(root)) {
+				if (sortFilter == null || sortFilter.stream().noneMatch(i -> idAttribute.equals(i.getSortField()))) {
+					orders.add(builder.asc(root.get(idAttribute)));
+				}
+			}
+		}
+		if (!orders.isEmpty()) {
 			criteriaQuery.orderBy(orders);
 		}
 	}
 
+	/**
+	 * Method to read one page, or the rest of one, of a cursor search
+	 * 
+	 * @param entity     the entity class for which search will be applied
+	 * @param searchDto  search with the filters
+	 * @param sortFilter sort of the rows, by id after it
+	 * @param rows       maximum number of rows
+	 * @param position   builds the predicate of the rows to be read, may return
+	 *                   null
+	 * @return rows
+	 */
+	private <E> List<E> cursorQuery(Class<E> entity, SearchDto searchDto, List<SearchSort> sortFilter, int rows,
+			BiFunction<CriteriaBuilder, Root<E>, Predicate> position) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<E> selectQuery = criteriaBuilder.createQuery(entity);
+		Root<E> rootQuery = selectQuery.from(entity);
+		sortQuery(criteriaBuilder, rootQuery, selectQuery, sortFilter, true);
+		List<Predicate> predicates = new ArrayList<>();
+		if (searchDto.getFilters() != null && !searchDto.getFilters().isEmpty()) {
+			predicates.addAll(filterPredicates(criteriaBuilder, rootQuery, searchDto.getFilters()));
+		}
+		Predicate positionPredicate = position.apply(criteriaBuilder, rootQuery);
+		if (positionPredicate != null) {
+			predicates.add(positionPredicate);
+		}
+		if (!predicates.isEmpty()) {
+			selectQuery.where(criteriaBuilder.and(predicates.toArray(new Predicate[predicates.size()])));
+		}
+		try {
+			TypedQuery<E> executableQuery = entityManager.createQuery(selectQuery);
+			applySearchGraph(executableQuery, entity);
+			executableQuery.setMaxResults(rows);
+			return executableQuery.getResultList();
+		} catch (Exception hibernateException) {
+			if(hibernateException instanceof RequestException) {
+				throw new RequestException(((RequestException) hibernateException).getErrors());
+			}
+			throw new RequestException("PMS-MSD-394",
+					String.format(hibernateException.getMessage(), hibernateException.getLocalizedMessage()));
+		}
+	}
+
+	/**
+	 * Method to build the keyset predicate of a search sorted by id only
+	 * 
+	 * @param builder     used to construct criteria query
+	 * @param root        root type in the from clause,always refers entity
+	 * @param sort        sort of the search on the id, null when not sorted
+	 * @param idAttribute id attribute name of the entity
+	 * @param cursor      decoded cursor of the previous page
+	 * @return {@link Predicate}
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private <E> Predicate idPredicate(CriteriaBuilder builder, Root<E> root, SearchSort sort, String idAttribute,
+			Map<String, String> cursor) {
+		Path idPath = root.get(idAttribute);
+		Comparable lastId = (Comparable) parseCursorValue(idPath, idAttribute, cursor.get(CURSOR_ID));
+		if (sort != null && OrderEnum.desc.name().equalsIgnoreCase(sort.getSortType())) {
+			return builder.lessThan(idPath, lastId);
+		}
+		return builder.greaterThan(idPath, lastId);
+	}
+
+	/**
+	 * Method to build the predicate of the rows of one segment, null or non null
+	 * sort values, after the cursor. For the non null segment it is the keyset
+	 * predicate equivalent of (sortField, id) &gt; (lastValue, lastId).
+	 * 
+	 * @param builder     used to construct criteria query
+	 * @param root        root type in the from clause,always refers entity
+	 * @param sort        sort of the search
+	 * @param idAttribute id attribute name of the entity
+	 * @param nullSegment true for the rows with a null sort value
+	 * @param cursor      decoded cursor of the previous page when it ended in
+	 *                    this segment, null to read the segment from its start
+	 * @return {@link Predicate}
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private <E> Predicate segmentPredicate(CriteriaBuilder builder, Root<E> root, SearchSort sort,
+			String idAttribute, boolean nullSegment, Map<String, String> cursor) {
+		Path sortPath = path(root, sort.getSortField());
+		if (cursor == null) {
+			return nullSegment ? builder.isNull(sortPath) : builder.isNotNull(sortPath);
+		}
+		Path idPath = root.get(idAttribute);
+		Predicate nextId = builder.greaterThan(idPath,
+				(Comparable) parseCursorValue(idPath, idAttribute, cursor.get(CURSOR_ID)));
+		if (nullSegment) {
+			return builder.and(builder.isNull(sortPath), nextId);
+		}
+		Comparable lastValue = (Comparable) parseCursorValue(sortPath, sort.getSortField(), cursor.get(CURSOR_VALUE));
+		Predicate nextValue = OrderEnum.asc.name().equalsIgnoreCase(sort.getSortType())
+				? builder.greaterThan(sortPath, lastValue)
+				: builder.lessThan(sortPath, lastValue);
+		return builder.or(nextValue, builder.and(builder.equal(sortPath, lastValue), nextId));
+	}
+
+	/**
+	 * Method to create the opaque cursor pointing after the given row
+	 * 
+	 * @param last        last row of the page
+	 * @param sort        sort of the search, null when sorted only by id
+	 * @param idAttribute id attribute name of the entity
+	 * @return cursor
+	 */
+	private <E> String encodeCursor(E last, SearchSort sort, String idAttribute) {
+		BeanWrapper row = new BeanWrapperImpl(last);
+		Map<String, String> cursor = new HashMap<>();
+		cursor.put(CURSOR_ID, String.valueOf(row.getPropertyValue(idAttribute)));
+		if (sort != null) {
+			Object value = row.getPropertyValue(sort.getSortField());
+			cursor.put(CURSOR_SORT_FIELD, sort.getSortField());
+			cursor.put(CURSOR_SORT_TYPE, sort.getSortType().toLowerCase());
+			cursor.put(CURSOR_VALUE, value == null ? null : value.toString());
+		}
+		try {
+			return Base64.getUrlEncoder().withoutPadding()
+					.encodeToString(mapper.writeValueAsBytes(cursor));
+		} catch (JsonProcessingException e) {
+			throw new RequestException(SearchErrorCode.INVALID_CURSOR.getErrorCode(),
+					SearchErrorCode.INVALID_CURSOR.getErrorMessage());
+		}
+	}
+
+	/**
+	 * Method to decode the cursor and validate it against the sort of the search
+	 * 
+	 * @param cursor cursor received in the pagination
+	 * @param sort   sort of the search, null when sorted only by id
+	 * @return decoded cursor
+	 */
+	private Map<String, String> decodeCursor(String cursor, SearchSort sort) {
+		Map<String, String> decoded;
+		try {
+			decoded = mapper.readValue(Base64.getUrlDecoder().decode(cursor),
+					new TypeReference<Map<String, String>>() {});
+		} catch (IllegalArgumentException | IOException e) {
+			throw new RequestException(SearchErrorCode.INVALID_CURSOR.getErrorCode(),
+					SearchErrorCode.INVALID_CURSOR.getErrorMessage());
+		}
+		boolean sortMatches = sort == null ? !decoded.containsKey(CURSOR_SORT_FIELD)
+				: sort.getSortField().equals(decoded.get(CURSOR_SORT_FIELD))
+						&& sort.getSortType().equalsIgnoreCase(decoded.get(CURSOR_SORT_TYPE));
+		if (decoded.get(CURSOR_ID) == null || !sortMatches) {
+			throw new RequestException(SearchErrorCode.INVALID_CURSOR.getErrorCode(),
+					SearchErrorCode.INVALID_CURSOR.getErrorMessage());
+		}
+		return decoded;
+	}
+
+	/**
+	 * Method to cast the cursor value into the column data type
+	 * 
+	 * @param path   path of the column
+	 * @param column name of the column
+	 * @param value  value written in the cursor
+	 * @return the value
+	 */
+	private Object parseCursorValue(Path<?> path, String column, String value) {
+		Class<?> type = path.getJavaType();
+		try {
+			if (String.class.equals(type)) {
+				return value;
+			}
+			if (LocalDateTime.class.equals(type)) {
+				return LocalDateTime.parse(value);
+			}
+			if (LocalDate.class.equals(type)) {
+				return LocalDate.parse(value);
+			}
+			if (Timestamp.class.equals(type)) {
+				return Timestamp.valueOf(value);
+			}
+			if (Long.class.equals(type)) {
+				return Long.parseLong(value);
+			}
+			if (Integer.class.equals(type)) {
+				return Integer.parseInt(value);
+			}
+			if (Short.class.equals(type)) {
+				return Short.valueOf(value);
+			}
+			if (Float.class.equals(type)) {
+				return Float.parseFloat(value);
+			}
+			if (Double.class.equals(type)) {
+				return Double.parseDouble(value);
+			}
+			if (Boolean.class.equals(type)) {
+				return Boolean.valueOf(value);
+			}
+		} catch (RuntimeException e) {
+			throw new RequestException(SearchErrorCode.INVALID_CURSOR.getErrorCode(),
+					SearchErrorCode.INVALID_CURSOR.getErrorMessage());
+		}
+		throw new RequestException(SearchErrorCode.INVALID_SORT_FIELD.getErrorCode(),
+				String.format(SearchErrorCode.INVALID_SORT_FIELD.getErrorMessage(), column));
+	}
+
+	/**
+	 * Method to get the single id attribute name of the entity
+	 * 
+	 * @param root root type in the from clause,always refers entity
+	 * @return id attribute name, null for composite ids
+	 */
+	private <E> String getIdAttributeName(Root<E> root) {
+		EntityType<E> entityType = root.getModel();
+		if (entityType.hasSingleIdAttribute()) {
+			return entityType.getId(entityType.getIdType().getJavaType()).getName();
+		}
+		return null;
+	}
+
+	/**
+	 * Method to get the path of a filter or sort column, which is an attribute of
+	 * the entity or a dot separated path through its associations such as
+	 * partner.name. The associations of the path are inner joined.
+	 * 
+	 * @param root   root type in the from clause,always refers entity
+	 * @param column name of the column
+	 * @return the path
+	 */
+	@SuppressWarnings("unchecked")
+	private <E, T> Path<T> path(Root<E> root, String column) {
+		Path<?> path = root;
+		for (String attribute : column.split("\\.")) {
+			path = path.get(attribute);
+		}
+		return (Path<T>) path;
+	}
+
+	/**
+	 * Method to get the id attribute names of the entity
+	 * 
+	 * @param root root type in the from clause,always refers entity
+	 * @return the id attribute name, or the attribute names of the id class in
+	 *         name order
+	 */
+	private <E> List<String> getIdAttributeNames(Root<E> root) {
+		EntityType<E> entityType = root.getModel();
+		if (entityType.hasSingleIdAttribute()) {
+			return List.of(getIdAttributeName(root));
+		}
+		return entityType.getIdClassAttributes().stream().map(Attribute::getName).sorted()
+				.collect(Collectors.toList());
+	}
+
 	/**
 	 * Method to add pagination in criteria query
 	 * 
 	 * @param query to be added with pagination
 	 * @param page  contains the pagination details
+	 * @param dbPagination true to fetch only the requested page from database
 	 */	
-	private void paginationQuery(Query query, Pagination page) {
+	private void paginationQuery(Query query, Pagination page, boolean dbPagination) {
 		if (page != null) {
 			if (page.getPageStart() < 0 || page.getPageFetch() < 1) {
 				throw new RequestException(SearchErrorCode.INVALID_PAGINATION_VALUE.getErrorCode(),
 						String.format(SearchErrorCode.INVALID_PAGINATION_VALUE.getErrorMessage(), page.getPageStart(),
 								page.getPageFetch()));
-			} 
-//			else {
-//				query.setFirstResult(page.getPageStart() * page.getPageFetch());
-//				query.setMaxResults(page.getPageFetch());
-//			}
+			} else if (dbPagination) {
+				query.setFirstResult(page.getPageStart() * page.getPageFetch());
+				query.setMaxResults(page.getPageFetch());
+			}
 		}
 	}
 
@@ -284,33 +832,33 @@ public class SearchHelper {
 	private <E> Predicate setBetweenValue(CriteriaBuilder builder, Root<E> root, SearchFilter filter) {
 		try {
 			String columnName = filter.getColumnName();
-			Path<Object> path = root.get(columnName);
+			Path<Object> path = path(root, columnName);
 			Class<? extends Object> type = path.getJavaType();
 			String fieldType = type.getTypeName();
 			String toValue = filter.getToValue();
 			String fromValue = filter.getFromValue();
 			if (LocalDateTime.class.getName().equals(fieldType)) {
-				return builder.between(root.get(columnName), DateUtils.parseToLocalDateTime(fromValue),
+				return builder.between(path(root, columnName), DateUtils.parseToLocalDateTime(fromValue),
 						DateUtils.convertUTCToLocalDateTime(toValue));
 			}
 			if (LocalDate.class.getName().equals(fieldType)) {
-				return builder.between(root.get(columnName), LocalDate.parse(fromValue), LocalDate.parse(toValue));
+				return builder.between(path(root, columnName), LocalDate.parse(fromValue), LocalDate.parse(toValue));
 			}
 			if (Long.class.getName().equals(fieldType)) {
-				return builder.between(root.get(columnName), Long.parseLong(fromValue), Long.parseLong(toValue));
+				return builder.between(path(root, columnName), Long.parseLong(fromValue), Long.parseLong(toValue));
 			}
 			if (Integer.class.getName().equals(fieldType)) {
-				return builder.between(root.get(columnName), Integer.parseInt(fromValue), Integer.parseInt(toValue));
+				return builder.between(path(root, columnName), Integer.parseInt(fromValue), Integer.parseInt(toValue));
 			}
 			if (Float.class.getName().equals(fieldType)) {
-				return builder.between(root.get(columnName), Float.parseFloat(fromValue), Float.parseFloat(toValue));
+				return builder.between(path(root, columnName), Float.parseFloat(fromValue), Float.parseFloat(toValue));
 			}
 			if (Double.class.getName().equals(fieldType)) {
-				return builder.between(root.get(columnName), Double.parseDouble(fromValue),
+				return builder.between(path(root, columnName), Double.parseDouble(fromValue),
 						Double.parseDouble(toValue));
 			}
 			if (String.class.getName().equals(fieldType)) {
-				return builder.between(root.get(columnName), fromValue, toValue);
+				return builder.between(path(root, columnName), fromValue, toValue);
 			}
 		} catch (IllegalArgumentException | IllegalStateException | InvalidDataAccessApiUsageException e) {
 			throw new RequestException(SearchErrorCode.INVALID_COLUMN.getErrorCode(),
@@ -328,7 +876,7 @@ public class SearchHelper {
 	 * @return the value
 	 */
 	private <E> Object parseDataType(Root<E> root, String column, String value) {
-		Path<Object> path = root.get(column);
+		Path<Object> path = path(root, column);
 		if (path != null) {
 			Class<? extends Object> type = path.getJavaType();
 			String fieldType = type.getTypeName();
@@ -371,17 +919,17 @@ public class SearchHelper {
 	 */
 	private <E> Predicate buildPredicate(CriteriaBuilder builder, Root<E> root, String column, String value) {
 		Predicate predicate = null;		
-		Path<Object> path = root.get(column);
+		Path<Object> path = path(root, column);
 		if (path != null) {
 			Class<? extends Object> type = path.getJavaType();
 			String fieldType = type.getTypeName();
 			if (LocalDateTime.class.getName().equals(fieldType)) {
 				LocalDateTime start = DateUtils.parseToLocalDateTime(value);
-				predicate = builder.between(root.get(column), start, start.plusNanos(1000000l));
+				predicate = builder.between(path(root, column), start, start.plusNanos(1000000l));
 			} else if (String.class.getName().equals(fieldType)) {
-				predicate = builder.equal(builder.lower(root.get(column)), builder.lower(builder.literal(value)));
+				predicate = builder.equal(builder.lower(path(root, column)), builder.lower(builder.literal(value)));
 			} else {
-				predicate = builder.equal(root.get(column), parseDataType(root, column, value));
+				predicate = builder.equal(path(root, column), parseDataType(root, column, value));
 			}
 		}
 		return predicate;
@@ -398,9 +946,9 @@ public class SearchHelper {
 	 */
 	private <E> Predicate buildPredicate(CriteriaBuilder builder, Root<E> root, String column, List<String> values) {
 		Predicate predicate = null;
-		Path<Object> path = root.get(column);
+		Path<Object> path = path(root, column);
 		if (path != null) {	
-			predicate = root.get(column).in(values);
+			predicate = path(root, column).in(values);
 		}
 		return predicate;
 	}
@@ -523,6 +1071,30 @@ public class SearchHelper {
 		return searchDto;
 	}
 	
+	/**
+	 * Method to rename the filter columns and sort fields named after a field of
+	 * the search response to the attribute or association path of the entity they
+	 * are read from, e.g. partnerName to partner.name, so that they are filtered
+	 * and sorted in the database.
+	 *
+	 * @param searchDto which contains the list of filters and sort
+	 * @param columns   entity path by response field name, matched ignoring case
+	 * @return the search dto
+	 */
+	public static SearchDto mapColumns(SearchDto searchDto, Map<String, String> columns) {
+		columns.forEach((field, column) -> {
+			if (searchDto.getFilters() != null) {
+				searchDto.getFilters().stream().filter(filter -> field.equalsIgnoreCase(filter.getColumnName()))
+						.forEach(filter -> filter.setColumnName(column));
+			}
+			if (searchDto.getSort() != null) {
+				searchDto.getSort().stream().filter(sort -> field.equalsIgnoreCase(sort.getSortField()))
+						.forEach(sort -> sort.setSortField(column));
+			}
+		});
+		return searchDto;
+	}
+
 	public boolean isLoggedInUserFilterRequired() {
 		return UserDetailUtil.getLoggedInUserDetails().getAuthorities().stream()
 				.anyMatch(authority -> requiredroles.contains(authority.getAuthority()));
@@ -0,0 +1,255 @@
+package io.mosip.pms.common.helper;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.pms.common.dto.EventModel;
+import io.mosip.pms.common.entity.WebSubEventOutbox;
+import io.mosip.pms.common.entity.WebSubTopicLease;
+import io.mosip.pms.common.repository.WebSubEventOutboxRepository;
+import io.mosip.pms.common.repository.WebSubTopicLeaseRepository;
+import io.mosip.pms.common.util.PMSLogger;
+
+/**
+ * Sends the events written to the outbox by {@link WebSubPublisher} to the hub.
+ *
+ * Topics are dispatched in parallel, the events of one topic in the order they
+ * were written. A topic is leased to one instance at a time through its row in
+ * the topic lease table, so the order holds across the cluster as well. A
+ * failed event is retried with exponential backoff and holds back the later
+ * events of its topic. Once it has used up its attempts it is marked FAILED
+ * and the topic is parked: no later event of the topic is sent, the
+ * pms.websub.outbox.parked counter is raised and an error logged. Setting the
+ * failed event back to PENDING, or deleting it, resumes the topic. Delivery is
+ * at least once: an instance going down after sending an event and before
+ * removing it from the outbox sends it again.
+ *
+ */
+public class WebSubOutboxDispatcher {
+
+	private static final Logger logger = PMSLogger.getLogger(WebSubOutboxDispatcher.class);
+
+	public static final String PENDING = "PENDING";
+
+	public static final String FAILED = "FAILED";
+
+	private static final int MAX_ERROR_LENGTH = 512;
+
+	@Value("${mosip.pms.websub.outbox.enabled:true}")
+	private boolean enabled;
+
+	@Value("${mosip.pms.websub.outbox.poll-interval:1000}")
+	private long pollInterval;
+
+	@Value("${mosip.pms.websub.outbox.workers:4}")
+	private int workers;
+
+	@Value("${mosip.pms.websub.outbox.lease:60000}")
+	private long lease;
+
+	@Value("${mosip.pms.websub.outbox.retry.initial-backoff:1000}")
+	private long initialBackoff;
+
+	@Value("${mosip.pms.websub.outbox.retry.max-backoff:300000}")
+	private long maxBackoff;
+
+	@Value("${mosip.pms.websub.outbox.retry.max-attempts:20}")
+	private int maxAttempts;
+
+	@Autowired
+	private WebSubEventOutboxRepository webSubEventOutboxRepository;
+
+	@Autowired
+	private WebSubTopicLeaseRepository webSubTopicLeaseRepository;
+
+	@Autowired
+	private WebSubPublisher webSubPublisher;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	private final String owner = UUID.randomUUID().toString();
+
+	private ScheduledExecutorService poller;
+
+	private ExecutorService workerPool;
+
+	@PostConstruct
+	public void start() {
+		if (meterRegistry == null) {
+			meterRegistry = new SimpleMeterRegistry();
+		}
+		if (!enabled) {
+			logger.info("WebSub outbox dispatcher is disabled");
+			return;
+		}
+		AtomicInteger workerCount = new AtomicInteger();
+		workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+			Thread thread = new Thread(runnable, "pms-websub-outbox-" + workerCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "pms-websub-outbox-poller");
+			thread.setDaemon(true);
+			return thread;
+		});
+		poller.scheduleWithFixedDelay(this::dispatch, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		if (poller == null) {
+			return;
+		}
+		poller.shutdown();
+		workerPool.shutdown();
+		poller.awaitTermination(lease, TimeUnit.MILLISECONDS);
+		workerPool.awaitTermination(lease, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Dispatches every topic having due events and waits for them, so a topic is
+	 * never handled by two workers of this instance.
+	 */
+	public void dispatch() {
+		try {
+			List<String> topics = webSubEventOutboxRepository.findDueTopics(PENDING, FAILED,
+					DateUtils.getUTCCurrentDateTime());
+			List<Callable<Void>> tasks = new ArrayList<>(topics.size());
+			for (String topic : topics) {
+				tasks.add(() -> {
+					dispatchTopic(topic);
+					return null;
+				});
+			}
+			workerPool.invokeAll(tasks);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException e) {
+			logger.error("Error occurred while dispatching the websub outbox", e);
+		}
+	}
+
+	private void dispatchTopic(String topic) {
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		LocalDateTime leaseUntil = now.plus(lease, ChronoUnit.MILLIS);
+		if (!claimTopic(topic, now, leaseUntil)) {
+			return;
+		}
+		try {
+			for (WebSubEventOutbox event : webSubEventOutboxRepository.findByTopicOrderByCrDtimesAscIdAsc(topic)) {
+				if (FAILED.equals(event.getStatus())) {
+					break;
+				}
+				now = DateUtils.getUTCCurrentDateTime();
+				if (event.getNextAttemptDtimes().isAfter(now) || now.isAfter(leaseUntil)) {
+					break;
+				}
+				if (!send(event, now)) {
+					break;
+				}
+			}
+		} catch (RuntimeException e) {
+			logger.error("Error occurred while dispatching the websub topic " + topic, e);
+		} finally {
+			webSubTopicLeaseRepository.release(topic, owner);
+		}
+	}
+
+	/**
+	 * Takes the lease of the topic, creating its lease row on the first claim.
+	 *
+	 * @return false if another instance holds the lease
+	 */
+	private boolean claimTopic(String topic, LocalDateTime now, LocalDateTime leaseUntil) {
+		if (webSubTopicLeaseRepository.claim(topic, owner, now, leaseUntil) > 0) {
+			return true;
+		}
+		if (webSubTopicLeaseRepository.existsById(topic)) {
+			return false;
+		}
+		WebSubTopicLease topicLease = new WebSubTopicLease();
+		topicLease.setTopic(topic);
+		topicLease.setLockedBy(owner);
+		topicLease.setLockedUntil(leaseUntil);
+		try {
+			webSubTopicLeaseRepository.saveAndFlush(topicLease);
+			return true;
+		} catch (DataIntegrityViolationException e) {
+			// created by another instance at the same time
+			return false;
+		}
+	}
+
+	/**
+	 * Sends the event and removes it from the outbox.
+	 *
+	 * @return false if the later events of the topic have to wait for this one,
+	 *         for its next attempt or until the parked topic is resumed
+	 */
+	private boolean send(WebSubEventOutbox event, LocalDateTime now) {
+		try {
+			webSubPublisher.sendEventToIDA(objectMapper.readValue(event.getPayload(), EventModel.class));
+		} catch (Exception e) {
+			int attempts = event.getAttemptCount() + 1;
+			event.setAttemptCount(attempts);
+			event.setLastError(truncate(e.getMessage()));
+			event.setUpdDtimes(now);
+			if (attempts >= maxAttempts) {
+				logger.error("Giving up websub event " + event.getId() + " after " + attempts
+						+ " attempts, parking topic " + event.getTopic() + " until the event is resumed", e);
+				event.setStatus(FAILED);
+				webSubEventOutboxRepository.save(event);
+				Counter.builder("pms.websub.outbox.parked").tag("topic", event.getTopic()).register(meterRegistry)
+						.increment();
+				return false;
+			}
+			logger.warn("Could not send websub event " + event.getId() + " of topic " + event.getTopic() + ", attempt "
+					+ attempts + " : " + e.getMessage());
+			event.setNextAttemptDtimes(now.plus(backoff(attempts), ChronoUnit.MILLIS));
+			webSubEventOutboxRepository.save(event);
+			return false;
+		}
+		webSubEventOutboxRepository.deleteById(event.getId());
+		return true;
+	}
+
+	private long backoff(int attempts) {
+		long backoff = initialBackoff << Math.min(attempts - 1, 30);
+		return backoff <= 0 ? maxBackoff : Math.min(backoff, maxBackoff);
+	}
+
+	private String truncate(String message) {
+		if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+			return message;
+		}
+		return message.substring(0, MAX_ERROR_LENGTH);
+	}
+}
@@ -1,13 +1,25 @@
 package io.mosip.pms.common.helper;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.core.websub.spi.PublisherClient;
@@ -15,8 +27,21 @@ import io.mosip.pms.common.constant.EventType;
 import io.mosip.pms.common.dto.Event;
 import io.mosip.pms.common.dto.EventModel;
 import io.mosip.pms.common.dto.Type;
+import io.mosip.pms.common.entity.WebSubEventOutbox;
+import io.mosip.pms.common.repository.WebSubEventOutboxRepository;
 import io.mosip.pms.common.util.PMSLogger;
 
+/**
+ * Publishes the pms events to the WebSub hub.
+ *
+ * Events are not sent to the hub by {@link #notify(EventType, Map, Type)}.
+ * They are written to the outbox table in the caller's transaction and sent by
+ * {@link WebSubOutboxDispatcher} once that transaction is committed.
+ *
+ * Topics are registered with the hub once per node, at startup for every
+ * {@link EventType}, and again only after a publish to the topic fails.
+ *
+ */
 public class WebSubPublisher {
 
 	private static final Logger logger = PMSLogger.getLogger(WebSubPublisher.class);
@@ -26,21 +51,87 @@ public class WebSubPublisher {
 	
 	@Autowired
 	private PublisherClient<String, EventModel, HttpHeaders> pb;
+
+	@Autowired
+	private WebSubEventOutboxRepository webSubEventOutboxRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	private final Set<String> registeredTopics = ConcurrentHashMap.newKeySet();
+
+	@PostConstruct
+	public void init() {
+		if (meterRegistry == null) {
+			meterRegistry = new SimpleMeterRegistry();
+		}
+	}
 	
 	public void notify(EventType eventType,Map<String,Object> data,Type type) {
-		sendEventToIDA(createEventModel(eventType,data,type));
+		EventModel model = createEventModel(eventType,data,type);
+		WebSubEventOutbox outboxEvent = new WebSubEventOutbox();
+		outboxEvent.setId(model.getEvent().getId());
+		outboxEvent.setTopic(model.getTopic());
+		try {
+			outboxEvent.setPayload(objectMapper.writeValueAsString(model));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not write the event to topic " + model.getTopic(), e);
+		}
+		outboxEvent.setStatus(WebSubOutboxDispatcher.PENDING);
+		outboxEvent.setAttemptCount(0);
+		outboxEvent.setCrDtimes(DateUtils.getUTCCurrentDateTime());
+		outboxEvent.setNextAttemptDtimes(outboxEvent.getCrDtimes());
+		webSubEventOutboxRepository.save(outboxEvent);
 	}
 	
-	private void sendEventToIDA(EventModel model) {
+	/**
+	 * Sends the event to the hub, registering its topic first.
+	 *
+	 * @param model
+	 */
+	public void sendEventToIDA(EventModel model) {
+		String topic = model.getTopic();
+		if (!registeredTopics.contains(topic)) {
+			registerTopic(topic);
+		}
+		logger.info(this.getClass().getSimpleName(), "sendEventToIDA", "Publising event to topic: " + topic);
 		try {
-			logger.info(this.getClass().getSimpleName(), "sendEventToIDA", "Trying registering topic: " + model.getTopic());
-			pb.registerTopic(model.getTopic(), webSubHubPublishUrl);
+			pb.publishUpdate(topic, model, MediaType.APPLICATION_JSON_VALUE, null, webSubHubPublishUrl);
+		} catch (RuntimeException e) {
+			// Topic may be unknown to the hub, e.g. after a hub restart. Register it again on the next attempt
+			registeredTopics.remove(topic);
+			throw e;
+		}
+		counter("pms.websub.publishes", topic).increment();
+	}
+
+	/**
+	 * Registers the topic of every event type, so that publishing does not need to.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void registerTopics() {
+		for (EventType eventType : EventType.values()) {
+			registerTopic(eventType.toString());
+		}
+	}
+
+	private void registerTopic(String topic) {
+		try {
+			logger.info(this.getClass().getSimpleName(), "registerTopic", "Trying registering topic: " + topic);
+			counter("pms.websub.topic.registrations", topic).increment();
+			pb.registerTopic(topic, webSubHubPublishUrl);
 		} catch (Exception e) {
 			//Exception will be there if topic already registered. Ignore that
-			logger.warn(this.getClass().getSimpleName(), "sendEventToIDA", "Error in registering topic: " + model.getTopic() + " : " + e.getMessage() );
+			logger.warn(this.getClass().getSimpleName(), "registerTopic", "Error in registering topic: " + topic + " : " + e.getMessage() );
 		}
-		logger.info(this.getClass().getSimpleName(), "sendEventToIDA", "Publising event to topic: " + model.getTopic());
-		pb.publishUpdate(model.getTopic(), model, MediaType.APPLICATION_JSON_VALUE, null, webSubHubPublishUrl);
+		registeredTopics.add(topic);
+	}
+
+	private Counter counter(String name, String topic) {
+		return Counter.builder(name).tag("topic", topic).register(meterRegistry);
 	}
 	
 	private EventModel createEventModel(EventType eventType,Map<String,Object> data,Type type) {
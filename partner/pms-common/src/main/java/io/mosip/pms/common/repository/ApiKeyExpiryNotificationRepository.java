@@ -0,0 +1,25 @@
+package io.mosip.pms.common.repository;
+
+import java.sql.Timestamp;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.mosip.pms.common.entity.ApiKeyExpiryNotification;
+import io.mosip.pms.common.entity.ApiKeyExpiryNotificationPK;
+
+@Repository
+public interface ApiKeyExpiryNotificationRepository
+		extends JpaRepository<ApiKeyExpiryNotification, ApiKeyExpiryNotificationPK> {
+
+	/**
+	 * Removes the notices of the keys expired before the date.
+	 */
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM ApiKeyExpiryNotification n WHERE n.validToDatetime < ?1")
+	int deleteExpired(Timestamp before);
+}
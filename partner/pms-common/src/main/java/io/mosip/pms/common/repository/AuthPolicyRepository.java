@@ -21,20 +21,23 @@ public interface AuthPolicyRepository extends JpaRepository<AuthPolicy, String>{
 	@Query(value = "select * from auth_policy ap where ap.policy_group_id=?", nativeQuery = true)
 	List<AuthPolicy> findByPolicyGroupId(String policyId);	
 
+	@Query("select ap from AuthPolicy ap join fetch ap.policyGroup")
+	List<AuthPolicy> findAllWithPolicyGroup();
+
 	
 	AuthPolicy findByName(String name);
 	
-	@Query(value = "select * from auth_policy ap where ap.id IN :policyIds and (ap.is_deleted is null or ap.is_deleted = false) and ap.is_active = true",nativeQuery = true)
+	@Query(value = "select * from auth_policy ap where ap.id IN :policyIds and ap.is_deleted = false and ap.is_active = true",nativeQuery = true)
 	List<AuthPolicy> findByPolicyIds(@Param("policyIds") List<String> policyIds);
 	
 	@Query(value = "select * from auth_policy ap where ap.id IN :policyIds",nativeQuery = true)
 	List<AuthPolicy> findAllByPolicyIds(@Param("policyIds") List<String> policyIds);
 
 	
-	@Query(value = "select * from auth_policy ap where ap.policy_group_id=? and (ap.is_deleted is null or ap.is_deleted = false) and ap.is_active = true",nativeQuery = true)
+	@Query(value = "select * from auth_policy ap where ap.policy_group_id=? and ap.is_deleted = false and ap.is_active = true",nativeQuery = true)
 	List<AuthPolicy> findActivePoliciesByPolicyGroupId(String policyGroupId);
 	
-	@Query(value = "select * from auth_policy ap where ap.name=? and (ap.is_deleted is null or ap.is_deleted = false) and ap.is_active = true",nativeQuery = true)
+	@Query(value = "select * from auth_policy ap where ap.name=? and ap.is_deleted = false and ap.is_active = true",nativeQuery = true)
 	AuthPolicy findByPolicyName(String policyName);
 	
 	@Query(value="select * from auth_policy ap where lower(ap.name) like lower(concat('%', concat(?1, '%')))", nativeQuery = true)
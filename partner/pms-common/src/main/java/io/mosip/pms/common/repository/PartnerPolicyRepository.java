@@ -2,10 +2,11 @@ package io.mosip.pms.common.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
-import java.time.LocalDateTime;
+import java.sql.Timestamp;
 
 import io.mosip.pms.common.entity.PartnerPolicy;
 
@@ -16,10 +17,10 @@ import io.mosip.pms.common.entity.PartnerPolicy;
 @Repository
 public interface PartnerPolicyRepository extends JpaRepository<PartnerPolicy, String> {
 	
-	@Query(value = "select * from partner_policy pp where pp.part_id=?1 AND pp.policy_id=?2 AND (pp.is_deleted is null or pp.is_deleted = false) AND pp.is_active=true",nativeQuery = true)
+	@Query(value = "select * from partner_policy pp where pp.part_id=?1 AND pp.policy_id=?2 AND pp.is_deleted = false AND pp.is_active=true",nativeQuery = true)
 	public List<PartnerPolicy> findByPartnerIdAndPolicyIdAndIsActiveTrue(String part_id, String policy_id);
 	
-	@Query(value = "select * from partner_policy pp where pp.part_id=?1 AND (pp.is_deleted is null or pp.is_deleted = false) AND pp.is_active=true",nativeQuery = true)
+	@Query(value = "select * from partner_policy pp where pp.part_id=?1 AND pp.is_deleted = false AND pp.is_active=true",nativeQuery = true)
 	public List<PartnerPolicy> findByPartnerIdAndIsActiveTrue(String partner_Id); 
 	
 	@Query(value = "select * from partner_policy ppr where ppr.part_id=?1 AND ppr.policy_id=?2 AND ppr.policy_api_key=?3", nativeQuery = true )
@@ -34,13 +35,22 @@ public interface PartnerPolicyRepository extends JpaRepository<PartnerPolicy, St
 	@Query(value = "select * from partner_policy ppr where ppr.part_id=?", nativeQuery = true )
 	public PartnerPolicy findByPartnerId(String partId);
 	
-	@Query(value = "select * from partner_policy pp where pp.policy_api_key=? AND (pp.is_deleted is null or pp.is_deleted = false) AND pp.is_active=true",nativeQuery = true)
+	@Query(value = "select * from partner_policy pp where pp.policy_api_key=? AND pp.is_deleted = false AND pp.is_active=true",nativeQuery = true)
 	public PartnerPolicy findByPolicyApiKey(String policyApiKey);
 	
-	@Query(value = "select * from partner_policy pp where pp.valid_to_datetime <?1 AND pp.valid_to_datetime >?2  AND (pp.is_deleted is null or pp.is_deleted = false) AND pp.is_active=true", nativeQuery = true)
-	public List<PartnerPolicy> findAPIKeysLessThanGivenDate(LocalDateTime validToDate, LocalDateTime fromDate);
-	
-	@Query(value = "select * from partner_policy pp where pp.policy_id=?1 AND (pp.is_deleted is null or pp.is_deleted = false) AND pp.is_active=true", nativeQuery = true)
+	/**
+	 * Active api keys expiring after the from date and up to the valid to date,
+	 * with their partner, in api key order after the given key. Keys already
+	 * notified for the threshold and their current expiry are left out.
+	 */
+	@Query("select pp from PartnerPolicy pp join fetch pp.partner where pp.validToDatetime <= ?1 AND pp.validToDatetime > ?2 "
+			+ "AND pp.isDeleted = false AND pp.isActive = true AND pp.policyApiKey > ?3 AND not exists (select n.id from "
+			+ "ApiKeyExpiryNotification n where n.id.policyApiKey = pp.policyApiKey AND n.id.thresholdDays = ?4 "
+			+ "AND n.validToDatetime = pp.validToDatetime) order by pp.policyApiKey")
+	public List<PartnerPolicy> findAPIKeysToNotify(Timestamp validToDate, Timestamp fromDate, String afterApiKey,
+			int thresholdDays, Pageable pageable);
+	
+	@Query(value = "select * from partner_policy pp where pp.policy_id=?1 AND pp.is_deleted = false AND pp.is_active=true", nativeQuery = true)
 	public List<PartnerPolicy> findByPolicyIdAndIsActiveTrue(String policy_id);
 
 	@Query(value = "select * from partner_policy pp where pp.part_id=?1 AND pp.policy_id=?2 AND pp.label=?3",nativeQuery = true)
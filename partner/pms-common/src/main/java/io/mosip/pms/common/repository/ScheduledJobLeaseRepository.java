@@ -0,0 +1,33 @@
+package io.mosip.pms.common.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.mosip.pms.common.entity.ScheduledJobLease;
+
+@Repository
+public interface ScheduledJobLeaseRepository extends JpaRepository<ScheduledJobLease, String> {
+
+	/**
+	 * Leases the job to the owner until the given time, unless another owner
+	 * holds a live lease on it. Also extends a lease the owner already holds.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE ScheduledJobLease l SET l.lockedBy = :owner, l.lockedUntil = :until WHERE l.jobName = :jobName "
+			+ "AND (l.lockedUntil IS NULL OR l.lockedUntil < :now OR l.lockedBy = :owner)")
+	int claim(@Param("jobName") String jobName, @Param("owner") String owner, @Param("now") LocalDateTime now,
+			@Param("until") LocalDateTime until);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE ScheduledJobLease l SET l.lockedBy = NULL, l.lockedUntil = NULL WHERE l.jobName = :jobName "
+			+ "AND l.lockedBy = :owner")
+	int release(@Param("jobName") String jobName, @Param("owner") String owner);
+}
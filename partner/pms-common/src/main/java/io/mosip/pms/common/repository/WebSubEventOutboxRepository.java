@@ -0,0 +1,27 @@
+package io.mosip.pms.common.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.mosip.pms.common.entity.WebSubEventOutbox;
+
+@Repository
+public interface WebSubEventOutboxRepository extends JpaRepository<WebSubEventOutbox, String> {
+
+	/**
+	 * Topics having events due to be sent, that are neither leased nor parked
+	 * behind a failed event.
+	 */
+	@Query("SELECT DISTINCT e.topic FROM WebSubEventOutbox e WHERE e.status = :pending AND e.nextAttemptDtimes <= :now "
+			+ "AND NOT EXISTS (SELECT l.topic FROM WebSubTopicLease l WHERE l.topic = e.topic AND l.lockedUntil >= :now) "
+			+ "AND NOT EXISTS (SELECT f.id FROM WebSubEventOutbox f WHERE f.topic = e.topic AND f.status = :failed)")
+	List<String> findDueTopics(@Param("pending") String pending, @Param("failed") String failed,
+			@Param("now") LocalDateTime now);
+
+	List<WebSubEventOutbox> findByTopicOrderByCrDtimesAscIdAsc(String topic);
+}
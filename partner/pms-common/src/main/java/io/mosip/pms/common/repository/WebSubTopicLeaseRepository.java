@@ -0,0 +1,34 @@
+package io.mosip.pms.common.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.mosip.pms.common.entity.WebSubTopicLease;
+
+@Repository
+public interface WebSubTopicLeaseRepository extends JpaRepository<WebSubTopicLease, String> {
+
+	/**
+	 * Leases the topic to the owner until the given time, unless another owner
+	 * holds a live lease on it. The update locks the lease row, so of two owners
+	 * claiming the topic at the same time only one succeeds.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE WebSubTopicLease l SET l.lockedBy = :owner, l.lockedUntil = :until WHERE l.topic = :topic "
+			+ "AND (l.lockedUntil IS NULL OR l.lockedUntil < :now OR l.lockedBy = :owner)")
+	int claim(@Param("topic") String topic, @Param("owner") String owner, @Param("now") LocalDateTime now,
+			@Param("until") LocalDateTime until);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE WebSubTopicLease l SET l.lockedBy = NULL, l.lockedUntil = NULL WHERE l.topic = :topic "
+			+ "AND l.lockedBy = :owner")
+	int release(@Param("topic") String topic, @Param("owner") String owner);
+}
@@ -2,16 +2,30 @@ package io.mosip.pms.common.service;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.pms.common.constant.ApiAccessibleExceptionConstant;
 import io.mosip.pms.common.constant.EventType;
@@ -21,6 +35,21 @@ import io.mosip.pms.common.util.NotificationUtil;
 import io.mosip.pms.common.util.PMSLogger;
 import io.mosip.pms.common.util.TemplateUtil;
 
+/**
+ * Sends the email notifications of partner and api key events.
+ *
+ * Recipients are grouped by language, each group getting the subject and body
+ * templates of its language. The bodies are rendered and sent by a bounded pool
+ * of workers, and a recipient whose email fails is retried with exponential
+ * backoff without holding back the others. The queue of the workers is bounded
+ * too, and notifications that do not fit in it are counted as failed.
+ *
+ * {@link #sendNotications(EventType, List)} is called on the request paths and
+ * only hands the notifications to the workers, the failures being logged.
+ * {@link #dispatch(EventType, List)} is for batch jobs and waits for every
+ * recipient, returning the ones that could not be sent.
+ *
+ */
 @Component
 public class NotificatonService {
 
@@ -50,84 +79,245 @@ public class NotificatonService {
 	@Value("${partner.apikey.status.sub-template}")
 	private String apikeyStatusSubjectTemplate;
 
+	@Value("${mosip.pms.notification.workers:8}")
+	private int workers;
+
+	@Value("${mosip.pms.notification.queue-capacity:1000}")
+	private int queueCapacity;
+
+	@Value("${mosip.pms.notification.retry.max-attempts:3}")
+	private int maxAttempts;
+
+	@Value("${mosip.pms.notification.retry.initial-backoff:1000}")
+	private long initialBackoff;
+
 	@Autowired
 	private TemplateUtil templateUtil;
 
 	@Autowired
 	RestTemplate restTemplate;
 
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	private ThreadPoolExecutor workerPool;
+
+	@PostConstruct
+	public void init() {
+		if (meterRegistry == null) {
+			meterRegistry = new SimpleMeterRegistry();
+		}
+		AtomicInteger workerCount = new AtomicInteger();
+		workerPool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, "pms-notification-" + workerCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	@PreDestroy
+	public void stop() {
+		workerPool.shutdownNow();
+	}
+
+	/**
+	 * Sends the notifications of the event in the background, without waiting
+	 * for them.
+	 * 
+	 * @param eventType
+	 * @param notificationDtos
+	 */
 	public void sendNotications(EventType eventType, List<NotificationDto> notificationDtos) {
+		try {
+			workerPool.execute(() -> {
+				List<NotificationDto> failed = dispatch(eventType, notificationDtos, true);
+				if (!failed.isEmpty()) {
+					log.error("Could not send " + failed.size() + " of " + notificationDtos.size() + " " + eventType
+							+ " notifications.");
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			rejected(eventType, notificationDtos.size());
+		}
+	}
+
+	/**
+	 * Sends the notifications of the event, carrying on past the recipients that
+	 * fail.
+	 * 
+	 * @param eventType
+	 * @param notificationDtos
+	 * @return the notifications that could not be sent
+	 */
+	public List<NotificationDto> dispatch(EventType eventType, List<NotificationDto> notificationDtos) {
+		return dispatch(eventType, notificationDtos, false);
+	}
+
+	/**
+	 * 
+	 * @param eventType
+	 * @param notificationDtos
+	 * @param onWorker         true when called on a worker, sending the emails
+	 *                         one after the other on it
+	 * @return the notifications that could not be sent
+	 */
+	private List<NotificationDto> dispatch(EventType eventType, List<NotificationDto> notificationDtos,
+			boolean onWorker) {
 		switch (eventType) {
 		case PARTNER_REGISTRED:
-			sendNotications(notificationDtos, partnerRegistrationSubTemplate, partnerRegContentTemplate);
-			break;
+			return dispatch(eventType, notificationDtos, partnerRegistrationSubTemplate, partnerRegContentTemplate,
+					onWorker);
 		case PARTNER_UPDATED:
-			sendNotications(notificationDtos, partnerStatusSubTemplate, partnerStatusContentTemplate);
-			break;
+			return dispatch(eventType, notificationDtos, partnerStatusSubTemplate, partnerStatusContentTemplate,
+					onWorker);
 		case APIKEY_STATUS_UPDATED:
-			sendNotications(notificationDtos, partnerApikeyStatusSubTemplate, apikeyStatusContentTemplate);
-			break;
+			return dispatch(eventType, notificationDtos, partnerApikeyStatusSubTemplate, apikeyStatusContentTemplate,
+					onWorker);
 		case APIKEY_EXPIRED:
-			sendNotications(notificationDtos, apikeyStatusSubjectTemplate, apikeyStatusContentTemplate);
+			return dispatch(eventType, notificationDtos, apikeyStatusSubjectTemplate, apikeyStatusContentTemplate,
+					onWorker);
 		default:
-			break;
+			return new ArrayList<>();
 		}
-
 	}
 
 	/**
 	 * 
+	 * @param eventType
 	 * @param notificationDtos
 	 * @param emialSubTemplate
 	 * @param emailBodyTemplate
+	 * @param onWorker
+	 * @return the notifications that could not be sent
 	 */
-	private void sendNotications(List<NotificationDto> notificationDtos, String emialSubTemplate,
-			String emailBodyTemplate) {
-		String emailSubject = getEmailSubject(emialSubTemplate, notificationDtos.get(0).getLangCode());
-		Map<NotificationDto, String> mailBodyWithData = getEmailBody(emailBodyTemplate, notificationDtos);
-		for (Entry<NotificationDto, String> notificationDto : mailBodyWithData.entrySet()) {
+	private List<NotificationDto> dispatch(EventType eventType, List<NotificationDto> notificationDtos,
+			String emialSubTemplate, String emailBodyTemplate, boolean onWorker) {
+		Map<String, List<NotificationDto>> notificationsByLanguage = new LinkedHashMap<>();
+		for (NotificationDto notificationDto : notificationDtos) {
+			notificationsByLanguage.computeIfAbsent(notificationDto.getLangCode(), langCode -> new ArrayList<>())
+					.add(notificationDto);
+		}
+		List<NotificationDto> failed = new ArrayList<>();
+		List<NotificationDto> queued = new ArrayList<>(notificationDtos.size());
+		List<Callable<Boolean>> tasks = new ArrayList<>(notificationDtos.size());
+		List<Future<Boolean>> results = new ArrayList<>(notificationDtos.size());
+		for (Entry<String, List<NotificationDto>> language : notificationsByLanguage.entrySet()) {
+			String emailSubject;
+			String emailBodyTemplateText;
 			try {
-				notificationUtil.emailNotification(notificationDto.getKey(), null, emailSubject,
-						notificationDto.getValue());
-			} catch (IOException e) {
-				log.error("error occured while send notifications.", e.getLocalizedMessage());
-				throw new ApiAccessibleException(ApiAccessibleExceptionConstant.UNABLE_TO_PROCESS.getErrorCode(),
-						ApiAccessibleExceptionConstant.UNABLE_TO_PROCESS.getErrorMessage());
+				emailSubject = getEmailSubject(emialSubTemplate, language.getKey());
+				emailBodyTemplateText = templateUtil.getTemplate(language.getKey(), emailBodyTemplate);
+			} catch (RuntimeException e) {
+				log.error("error occured while fetching the templates of language " + language.getKey(),
+						e.getLocalizedMessage());
+				failed.addAll(language.getValue());
+				counter("pms.notifications.failed", eventType).increment(language.getValue().size());
+				continue;
 			}
+			for (NotificationDto notificationDto : language.getValue()) {
+				queued.add(notificationDto);
+				tasks.add(() -> send(eventType, notificationDto, emailSubject, emailBodyTemplate,
+						emailBodyTemplateText));
+			}
+		}
+		try {
+			if (onWorker) {
+				for (int i = 0; i < tasks.size(); i++) {
+					if (!tasks.get(i).call()) {
+						failed.add(queued.get(i));
+					}
+				}
+				return failed;
+			}
+			for (Callable<Boolean> task : tasks) {
+				try {
+					results.add(workerPool.submit(task));
+				} catch (RejectedExecutionException e) {
+					rejected(eventType, 1);
+					results.add(null);
+				}
+			}
+			for (int i = 0; i < results.size(); i++) {
+				if (results.get(i) == null || !results.get(i).get()) {
+					failed.add(queued.get(i));
+				}
+			}
+		} catch (InterruptedException e) {
+			results.stream().filter(result -> result != null).forEach(result -> result.cancel(true));
+			Thread.currentThread().interrupt();
+			throw new ApiAccessibleException(ApiAccessibleExceptionConstant.UNABLE_TO_PROCESS.getErrorCode(),
+					ApiAccessibleExceptionConstant.UNABLE_TO_PROCESS.getErrorMessage());
+		} catch (Exception e) {
+			log.error("error occured while send notifications.", e.getLocalizedMessage());
+			throw new ApiAccessibleException(ApiAccessibleExceptionConstant.UNABLE_TO_PROCESS.getErrorCode(),
+					ApiAccessibleExceptionConstant.UNABLE_TO_PROCESS.getErrorMessage());
 		}
+		return failed;
 	}
 
 	/**
+	 * Renders the mail body of the recipient and sends the email, retrying a
+	 * failed send.
 	 * 
-	 * @param templateFor
-	 * @param notificationDtos
-	 * @return
+	 * @param eventType
+	 * @param notificationDto
+	 * @param emailSubject
+	 * @param emailBodyTemplate     type code of the body template
+	 * @param emailBodyTemplateText
+	 * @return false if the email could not be sent
 	 */
-	private Map<NotificationDto, String> getEmailBody(String templateFor, List<NotificationDto> notificationDtos) {
-		String fileText = templateUtil.getTemplate(notificationDtos.get(0).getLangCode(), templateFor);
-		return mergeTemplates(fileText, notificationDtos);
+	private boolean send(EventType eventType, NotificationDto notificationDto, String emailSubject,
+			String emailBodyTemplate, String emailBodyTemplateText) throws InterruptedException {
+		long start = System.nanoTime();
+		try {
+			String emailBody = templateUtil.templateMerge(notificationDto.getLangCode(), emailBodyTemplate,
+					emailBodyTemplateText, notificationDto);
+			for (int attempt = 1;; attempt++) {
+				try {
+					notificationUtil.emailNotification(notificationDto, null, emailSubject, emailBody);
+					counter("pms.notifications.sent", eventType).increment();
+					return true;
+				} catch (IOException | RuntimeException e) {
+					if (attempt >= maxAttempts) {
+						throw e;
+					}
+					log.warn("Could not send " + eventType + " notification to partner "
+							+ notificationDto.getPartnerId() + ", attempt " + attempt + " : " + e.getMessage());
+					counter("pms.notifications.retries", eventType).increment();
+					Thread.sleep(backoff(attempt));
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			log.error("error occured while send notifications to partner " + notificationDto.getPartnerId(),
+					e.getLocalizedMessage());
+			counter("pms.notifications.failed", eventType).increment();
+			return false;
+		} finally {
+			Timer.builder("pms.notifications.send").tag("event", eventType.toString()).register(meterRegistry)
+					.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
 	}
 
 	/**
+	 * Counts the notifications that could not be queued, the queue of the workers
+	 * being full, as failed.
 	 * 
-	 * @param template
-	 * @param data
-	 * @return
+	 * @param eventType
+	 * @param notifications
 	 */
-	private Map<NotificationDto, String> mergeTemplates(String template, List<NotificationDto> data) {
-		List<String> mergedTemplates = new ArrayList<String>();
-		Map<NotificationDto, String> mailBodyDataMap = new HashMap<NotificationDto, String>();
-		for (NotificationDto notificationDto : data) {
-			try {
-				mergedTemplates.add(templateUtil.templateMerge(template, notificationDto));
-				mailBodyDataMap.put(notificationDto, templateUtil.templateMerge(template, notificationDto));
-			} catch (IOException e) {
-				log.error("error occured while mergeTemplates", e.getLocalizedMessage());
-				throw new ApiAccessibleException(ApiAccessibleExceptionConstant.UNABLE_TO_PROCESS.getErrorCode(),
-						ApiAccessibleExceptionConstant.UNABLE_TO_PROCESS.getErrorMessage());
-			}
-		}
-		return mailBodyDataMap;
+	private void rejected(EventType eventType, int notifications) {
+		log.error("Could not queue " + notifications + " " + eventType
+				+ " notifications, the notification queue is full.");
+		counter("pms.notifications.failed", eventType).increment(notifications);
+	}
+
+	private long backoff(int attempts) {
+		return initialBackoff << Math.min(attempts - 1, 20);
+	}
+
+	private Counter counter(String name, EventType eventType) {
+		return Counter.builder(name).tag("event", eventType.toString()).register(meterRegistry);
 	}
 
 	/**
@@ -139,4 +329,4 @@ public class NotificatonService {
 		return templateUtil.getTemplate(langCode, templateFor);
 	}
 
-}
\ No newline at end of file
+}
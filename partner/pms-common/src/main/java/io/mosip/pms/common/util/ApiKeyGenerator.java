@@ -0,0 +1,25 @@
+package io.mosip.pms.common.util;
+
+import java.util.Base64;
+
+/**
+ * Generates api keys from 256 random bits. The keys carry no time component so
+ * they can not be guessed from each other.
+ *
+ */
+public final class ApiKeyGenerator implements IdGenerator {
+
+	static final ApiKeyGenerator INSTANCE = new ApiKeyGenerator();
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private ApiKeyGenerator() {
+	}
+
+	@Override
+	public String generateId() {
+		byte[] key = new byte[32];
+		Entropy.nextBytes(key);
+		return ENCODER.encodeToString(key);
+	}
+}
@@ -0,0 +1,340 @@
+package io.mosip.pms.common.util;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.apache.http.client.config.RequestConfig;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Timeouts, bulkhead, circuit breaker and retries of the calls made by
+ * {@link RestUtil} to one downstream service.
+ *
+ * The downstream of a url is its first path segment after the version, as in
+ * keymanager for /v1/keymanager/getPartnerCertificate, or the host when there
+ * is none. Every setting is read from mosip.pms.rest.client.&lt;downstream&gt;.&lt;setting&gt;,
+ * falling back to mosip.pms.rest.client.&lt;setting&gt;:
+ * <ul>
+ * <li>connect-timeout and read-timeout, in milliseconds</li>
+ * <li>bulkhead.max-concurrent-calls, and bulkhead.max-wait in milliseconds for
+ * a free slot before the call is rejected</li>
+ * <li>circuit-breaker.failure-threshold consecutive failures open the circuit,
+ * rejecting the calls for circuit-breaker.open-duration milliseconds; then one
+ * probe call is let through, closing the circuit if it succeeds</li>
+ * <li>retry.max-attempts of a GET, retry.backoff milliseconds before the first
+ * retry, doubled before each next one</li>
+ * </ul>
+ * Timeouts, connection errors and 5xx responses are failures; a 4xx response
+ * shows the downstream is up and is neither counted nor retried. Any other
+ * error, as in mapping the response, is rethrown as it is.
+ *
+ * Metrics, tagged with the downstream: the pms.rest.client.calls timer by
+ * method and outcome, pms.rest.client.retries and pms.rest.client.rejections
+ * counters, pms.rest.client.circuit.state gauge (0 closed, 1 open, 2 half open)
+ * and pms.rest.client.bulkhead.available gauge.
+ *
+ */
+public class DownstreamPolicy {
+
+	private static final Logger logger = PMSLogger.getLogger(DownstreamPolicy.class);
+
+	private static final String PREFIX = "mosip.pms.rest.client.";
+
+	private static final Pattern VERSION = Pattern.compile("v\\d+(\\.\\d+)*");
+
+	private static final int MAX_CONCURRENT_CALLS = 50;
+
+	private static final long MAX_WAIT = 0;
+
+	private static final int FAILURE_THRESHOLD = 5;
+
+	private static final long OPEN_DURATION = 30000;
+
+	private static final int MAX_ATTEMPTS = 2;
+
+	private static final long BACKOFF = 200;
+
+	private enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final String name;
+
+	private final RequestConfig requestConfig;
+
+	private final Semaphore bulkhead;
+
+	private final long maxWait;
+
+	private final int failureThreshold;
+
+	private final long openDuration;
+
+	private final int maxAttempts;
+
+	private final long backoff;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Counter retries;
+
+	private final Counter rejections;
+
+	private State state = State.CLOSED;
+
+	private int failures;
+
+	private long openedAt;
+
+	private boolean probing;
+
+	/**
+	 * @param name           of the downstream
+	 * @param properties
+	 * @param defaultConfig  request config of the calls, its timeouts used unless
+	 *                       configured for the downstream
+	 * @param meterRegistry
+	 */
+	public DownstreamPolicy(String name, PropertyResolver properties, RequestConfig defaultConfig,
+			MeterRegistry meterRegistry) {
+		this.name = name;
+		this.requestConfig = RequestConfig.copy(defaultConfig)
+				.setConnectTimeout(property(properties, "connect-timeout", Integer.class,
+						defaultConfig.getConnectTimeout()))
+				.setSocketTimeout(property(properties, "read-timeout", Integer.class, defaultConfig.getSocketTimeout()))
+				.build();
+		int maxConcurrentCalls = property(properties, "bulkhead.max-concurrent-calls", Integer.class,
+				MAX_CONCURRENT_CALLS);
+		this.bulkhead = new Semaphore(maxConcurrentCalls);
+		this.maxWait = property(properties, "bulkhead.max-wait", Long.class, MAX_WAIT);
+		this.failureThreshold = property(properties, "circuit-breaker.failure-threshold", Integer.class,
+				FAILURE_THRESHOLD);
+		this.openDuration = property(properties, "circuit-breaker.open-duration", Long.class, OPEN_DURATION);
+		this.maxAttempts = property(properties, "retry.max-attempts", Integer.class, MAX_ATTEMPTS);
+		this.backoff = property(properties, "retry.backoff", Long.class, BACKOFF);
+		this.meterRegistry = meterRegistry;
+		this.retries = Counter.builder("pms.rest.client.retries").tag("downstream", name).register(meterRegistry);
+		this.rejections = Counter.builder("pms.rest.client.rejections").tag("downstream", name)
+				.register(meterRegistry);
+		Gauge.builder("pms.rest.client.circuit.state", this, policy -> policy.getState().ordinal())
+				.tag("downstream", name).register(meterRegistry);
+		Gauge.builder("pms.rest.client.bulkhead.available", bulkhead, Semaphore::availablePermits)
+				.tag("downstream", name).register(meterRegistry);
+	}
+
+	/**
+	 * @param url
+	 * @return name of the downstream the url belongs to
+	 */
+	public static String nameOf(String url) {
+		UriComponents uri = UriComponentsBuilder.fromUriString(url).build();
+		List<String> segments = uri.getPathSegments();
+		for (String segment : segments) {
+			if (!segment.isEmpty() && !VERSION.matcher(segment).matches()) {
+				return segment.toLowerCase();
+			}
+		}
+		return uri.getHost() == null ? "unknown" : uri.getHost().toLowerCase();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return request config with the timeouts of the downstream
+	 */
+	public RequestConfig getRequestConfig() {
+		return requestConfig;
+	}
+
+	/**
+	 * Makes the call unless the circuit is open or the bulkhead full, retrying a
+	 * failed GET.
+	 *
+	 * @param method
+	 * @param call
+	 * @return the result of the call
+	 */
+	public <T> T execute(HttpMethod method, Supplier<T> call) {
+		int attempts = method == HttpMethod.GET ? Math.max(1, maxAttempts) : 1;
+		for (int attempt = 1;; attempt++) {
+			try {
+				return executeOnce(method, call);
+			} catch (RuntimeException e) {
+				if (!isFailure(e) || attempt >= attempts || !sleep(backoff << (attempt - 1))) {
+					throw e;
+				}
+				retries.increment();
+				logger.warn("Retrying the call to " + name + " after attempt " + attempt + " failed: " + e.getMessage());
+			}
+		}
+	}
+
+	private <T> T executeOnce(HttpMethod method, Supplier<T> call) {
+		if (!allowCall()) {
+			rejections.increment();
+			throw new RejectedCallException("Circuit of " + name + " is open");
+		}
+		if (!acquire()) {
+			releaseProbe();
+			rejections.increment();
+			throw new RejectedCallException("Too many concurrent calls to " + name);
+		}
+		long start = System.nanoTime();
+		String outcome = "failure";
+		boolean recorded = false;
+		try {
+			T result = call.get();
+			outcome = "success";
+			recorded = true;
+			onSuccess();
+			return result;
+		} catch (HttpClientErrorException e) {
+			outcome = "client-error";
+			recorded = true;
+			onSuccess();
+			throw e;
+		} catch (RuntimeException e) {
+			if (isFailure(e)) {
+				recorded = true;
+				onFailure();
+			} else {
+				outcome = "error";
+			}
+			throw e;
+		} finally {
+			if (!recorded) {
+				// the error says nothing about the downstream, let the next call probe it
+				releaseProbe();
+			}
+			bulkhead.release();
+			Timer.builder("pms.rest.client.calls").tag("downstream", name).tag("method", method.name())
+					.tag("outcome", outcome).register(meterRegistry)
+					.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * @param e
+	 * @return whether the call failed for the downstream being unreachable, slow
+	 *         or failing
+	 */
+	private static boolean isFailure(RuntimeException e) {
+		if (e instanceof ResourceAccessException || e instanceof HttpServerErrorException) {
+			return true;
+		}
+		for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+			if (cause instanceof TimeoutException
+					|| (cause instanceof IOException && !(cause instanceof JsonProcessingException))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean acquire() {
+		try {
+			return bulkhead.tryAcquire(maxWait, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private synchronized boolean allowCall() {
+		switch (state) {
+		case OPEN:
+			if (System.currentTimeMillis() - openedAt < openDuration) {
+				return false;
+			}
+			state = State.HALF_OPEN;
+			probing = true;
+			return true;
+		case HALF_OPEN:
+			if (probing) {
+				return false;
+			}
+			probing = true;
+			return true;
+		default:
+			return true;
+		}
+	}
+
+	private synchronized void releaseProbe() {
+		probing = false;
+	}
+
+	private synchronized void onSuccess() {
+		if (state != State.CLOSED) {
+			logger.info("Circuit of " + name + " is closed");
+		}
+		state = State.CLOSED;
+		failures = 0;
+		probing = false;
+	}
+
+	private synchronized void onFailure() {
+		failures++;
+		if (state == State.HALF_OPEN || failures >= failureThreshold) {
+			if (state != State.OPEN) {
+				logger.error("Circuit of " + name + " is open after " + failures + " failed calls");
+			}
+			state = State.OPEN;
+			openedAt = System.currentTimeMillis();
+			failures = 0;
+		}
+		probing = false;
+	}
+
+	private synchronized State getState() {
+		return state;
+	}
+
+	private boolean sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private <T> T property(PropertyResolver properties, String setting, Class<T> type, T defaultValue) {
+		return properties.getProperty(PREFIX + name + "." + setting, type,
+				properties.getProperty(PREFIX + setting, type, defaultValue));
+	}
+
+	/**
+	 * Call not made as the circuit is open or the bulkhead full.
+	 */
+	public static class RejectedCallException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		public RejectedCallException(String message) {
+			super(message);
+		}
+	}
+}
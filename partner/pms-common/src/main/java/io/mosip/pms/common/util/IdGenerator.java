@@ -0,0 +1,64 @@
+package io.mosip.pms.common.util;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * Generates the ids of new records.
+ *
+ * {@link #timeOrdered()} gives ids for primary keys, {@link #apiKey()} gives
+ * the api keys handed out to partners. Both draw their randomness from one
+ * {@link SecureRandom} per thread, so concurrent callers do not wait on each
+ * other.
+ *
+ */
+public interface IdGenerator {
+
+	/**
+	 * @return a new id.
+	 */
+	String generateId();
+
+	/**
+	 * Returns the generator of 26 character, time ordered ids: 48 bits of epoch
+	 * milliseconds followed by 80 random bits, in Crockford base32 (ULID).
+	 *
+	 * @return
+	 */
+	static IdGenerator timeOrdered() {
+		return TimeOrderedIdGenerator.INSTANCE;
+	}
+
+	/**
+	 * Returns the generator of 43 character api keys holding 256 random bits,
+	 * encoded as url safe base64.
+	 *
+	 * @return
+	 */
+	static IdGenerator apiKey() {
+		return ApiKeyGenerator.INSTANCE;
+	}
+
+	/**
+	 * Per thread source of secure random bytes.
+	 */
+	final class Entropy {
+
+		private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(Entropy::newSecureRandom);
+
+		private Entropy() {
+		}
+
+		static void nextBytes(byte[] bytes) {
+			RANDOM.get().nextBytes(bytes);
+		}
+
+		private static SecureRandom newSecureRandom() {
+			try {
+				return SecureRandom.getInstance("DRBG");
+			} catch (NoSuchAlgorithmException e) {
+				return new SecureRandom();
+			}
+		}
+	}
+}
@@ -1,8 +1,6 @@
 
 package io.mosip.pms.common.util;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -13,16 +11,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
-
-import javax.persistence.EmbeddedId;
-import javax.persistence.Entity;
 
 import org.json.simple.JSONObject;
 import org.springframework.stereotype.Component;
 
 import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
-import io.mosip.kernel.core.util.EmptyCheckUtils;
 import io.mosip.pms.common.dto.APIKeyDataPublishDto;
 import io.mosip.pms.common.dto.ClientPublishDto;
 import io.mosip.pms.common.dto.MISPDataPublishDto;
@@ -39,7 +32,8 @@ import io.mosip.pms.common.entity.PartnerPolicy;
 
 /**
  * MapperUtils class provides methods to map or copy values from source object
- * to destination object.
+ * to destination object. The fields to copy are resolved once per source and
+ * destination class, see {@link MappingPlan}.
  * 
  * @author Bal Vikash Sharma
  * @author Urvil Joshi
@@ -132,12 +126,7 @@ public class MapperUtils {
 	public static <S, D> D map(final S source, D destination) {
 		Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
 		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
-		try {
-			mapValues(source, destination);
-		} catch (IllegalAccessException | InstantiationException e) {
-			throw new DataAccessLayerException("KER-MSD-991", "Exception in mapping vlaues from source : "
-					+ source.getClass().getName() + " to destination : " + destination.getClass().getName(), e);
-		}
+		MappingPlan.mapping(source.getClass(), destination.getClass()).apply(source, destination, mapNullValues);
 		return destination;
 	}
 
@@ -165,8 +154,8 @@ public class MapperUtils {
 		Objects.requireNonNull(destinationClass, "destination class should not be null");
 		Object destination = null;
 		try {
-			destination = destinationClass.newInstance();
-		} catch (InstantiationException | IllegalAccessException e) {
+			destination = MappingPlan.newInstance(destinationClass);
+		} catch (InstantiationException e) {
 			throw new DataAccessLayerException("KER-MSD-991", "Exception in mapping vlaues from source : "
 					+ source.getClass().getName() + " to destination : " + destinationClass.getClass().getName(), e);
 		}
@@ -193,7 +182,11 @@ public class MapperUtils {
 	public static <S, D> List<D> mapAll(final Collection<S> sourceList, Class<D> destinationClass) {
 		Objects.requireNonNull(sourceList, "sourceList should not be null");
 		Objects.requireNonNull(destinationClass, "destinationClass should not be null");
-		return sourceList.stream().map(entity -> map(entity, destinationClass)).collect(Collectors.toList());
+		List<D> destinations = new ArrayList<>(sourceList.size());
+		for (S source : sourceList) {
+			destinations.add(map(source, destinationClass));
+		}
+		return destinations;
 	}
 
 	/**
@@ -215,14 +208,9 @@ public class MapperUtils {
 	 *                                  <code>destination</code> is null
 	 */
 	public static <S, D> void mapFieldValues(S source, D destination) {
-
 		Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
 		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
-		Field[] sourceFields = source.getClass().getDeclaredFields();
-		Field[] destinationFields = destination.getClass().getDeclaredFields();
-
-		mapFieldValues(source, destination, sourceFields, destinationFields);
-
+		MappingPlan.fieldCopy(source.getClass(), destination.getClass()).apply(source, destination, mapNullValues);
 	}
 
 	/**
@@ -239,210 +227,8 @@ public class MapperUtils {
 	public static <S, D> void setBaseFieldValue(S source, D destination) {
 		Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
 		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
-		String sourceSupername = source.getClass().getSuperclass().getName();// super class of source object
-		String destinationSupername = destination.getClass().getSuperclass().getName();// super class of destination
-		// object
-		String baseEntityClassName = source.getClass().getName();// base entity fully qualified name
-		String objectClassName = Object.class.getName();// object class fully qualified name
-
-		String baseDtoClassName = source.getClass().getName();// base entity fully qualified name
-
-		if (sourceSupername.equals(baseEntityClassName) && destinationSupername.equals(baseDtoClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			sourceFields = source.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			return;
-		}
-		if (sourceSupername.equals(baseDtoClassName) && destinationSupername.equals(baseEntityClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			destinationFields = destination.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			return;
-		}
-
-		// if source is an entity
-		if (sourceSupername.equals(baseEntityClassName) && !destinationSupername.equals(baseEntityClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-		} else if (destinationSupername.equals(baseEntityClassName) && !sourceSupername.equals(baseEntityClassName)) {
-			// if destination is an entity
-			Field[] sourceFields = source.getClass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-		} else {
-			if (!sourceSupername.equals(objectClassName) && !destinationSupername.equals(objectClassName)) {
-				Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-				Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-				mapFieldValues(source, destination, sourceFields, destinationFields);
-			}
-		}
-
-	}
-
-	/*
-	 * #############Private method used for mapping################################
-	 */
-
-	/**
-	 * Map values from source object to destination object.
-	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @throws InstantiationException if not able to create instance of field having
-	 *                                annotation {@link EmbeddedId}
-	 * @throws IllegalAccessException if provided fields are not accessible
-	 */
-	private static <S, D> void mapValues(S source, D destination)
-			throws IllegalAccessException, InstantiationException {
-
-		mapFieldValues(source, destination);// this method simply map values if field name and type are same
-
-		if (source.getClass().isAnnotationPresent(Entity.class)) {
-			mapEntityToDto(source, destination);
-		} else {
-			mapDtoToEntity(source, destination);
-		}
-	}
-
-	/**
-	 * This method map source DTO to a class object which extends {@link BaseEntity}
-	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @throws InstantiationException if not able to create instance of field having
-	 *                                annotation {@link EmbeddedId}
-	 * @throws IllegalAccessException if provided fields are not accessible
-	 */
-	private static <S, D> void mapDtoToEntity(S source, D destination)
-			throws InstantiationException, IllegalAccessException {
-		Field[] fields = destination.getClass().getDeclaredFields();
-		setBaseFieldValue(source, destination);// map super class values
-		for (Field field : fields) {
-			/**
-			 * Map DTO matching field values to super class field values
-			 */
-			if (field.isAnnotationPresent(EmbeddedId.class)) {
-				Object id = field.getType().newInstance();
-				mapFieldValues(source, id);
-				field.setAccessible(true);
-				field.set(destination, id);
-				field.setAccessible(false);
-				break;
-			}
-		}
-	}
-
-	/**
-	 * Map source which extends {@link BaseEntity} to a DTO object.
-	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @throws IllegalAccessException if provided fields are not accessible
-	 */
-	private static <S, D> void mapEntityToDto(S source, D destination) throws IllegalAccessException {
-		Field[] sourceFields = source.getClass().getDeclaredFields();
-		/*
-		 * Here source is a Entity so we need to take values from Entity object and set
-		 * the matching fields in the destination object mostly an DTO.
-		 */
-		boolean isIdMapped = false;// a flag to check if there any composite key is present and is mapped
-		boolean isSuperMapped = false;// a flag to check is class extends the BaseEntity and is mapped
-		for (Field sfield : sourceFields) {
-			sfield.setAccessible(true);// mark accessible true because fields my be private, for safety
-			if (!isIdMapped && sfield.isAnnotationPresent(EmbeddedId.class)) {
-				/**
-				 * Map the composite key values from source to destination if field name is same
-				 */
-				/**
-				 * Take the field and get the composite key object and map all values to
-				 * destination object
-				 */
-				mapFieldValues(sfield.get(source), destination);
-				sfield.setAccessible(false);
-				isIdMapped = true;// set flag so no need to check and map again
-			} else if (!isSuperMapped) {
-				setBaseFieldValue(source, destination);// this method check whether source is entity or destination
-														// and maps values accordingly
-				isSuperMapped = true;
-			}
-		}
-	}
-
-	/**
-	 * Map values from source field to destination.
-	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @param sf          source fields
-	 * @param dtf         destination fields
-	 */
-	private static <D, S> void mapFieldValues(S source, D destination, Field[] sourceFields,
-			Field[] destinationFields) {
-		try {
-			for (Field sfield : sourceFields) {
-				// Do not set values either static or final
-				if (Modifier.isStatic(sfield.getModifiers()) || Modifier.isFinal(sfield.getModifiers())) {
-					continue;
-				}
-
-				// make field accessible possibly private
-				sfield.setAccessible(true);
-
-				for (Field dfield : destinationFields) {
-
-					Class<?> sourceType = sfield.getType();
-					Class<?> destinationType = dfield.getType();
-
-					// map only those field whose name and type is same
-					if (sfield.getName().equals(dfield.getName()) && sourceType.equals(destinationType)) {
-
-						// for normal field values
-						dfield.setAccessible(true);
-						setFieldValue(source, destination, sfield, dfield);
-						break;
-					}
-				}
-			}
-		} catch (IllegalAccessException e) {
-
-			throw new DataAccessLayerException("KER-MSD-993", "Exception raised while mapping values form "
-					+ source.getClass().getName() + " to " + destination.getClass().getName(), e);
-		}
-	}
-
-	/**
-	 * Take value from source field and insert value into destination field.
-	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @param sf          source fields
-	 * @param dtf         destination fields
-	 * @throws IllegalAccessException if provided fields are not accessible
-	 */
-	private static <S, D> void setFieldValue(S source, D destination, Field sf, Field dtf)
-			throws IllegalAccessException {
-		// check whether user wants to map null values into destination object or not
-		if (!mapNullValues && EmptyCheckUtils.isNullEmpty(sf.get(source))) {
-			return;
-		}
-		dtf.set(destination, sf.get(source));
-		dtf.setAccessible(false);
-		sf.setAccessible(false);
+		MappingPlan.baseFieldCopy(source.getClass(), destination.getClass()).apply(source, destination,
+				mapNullValues);
 	}
 	
 	
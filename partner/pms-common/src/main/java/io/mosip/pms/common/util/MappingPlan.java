@@ -0,0 +1,289 @@
+package io.mosip.pms.common.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+
+import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
+import io.mosip.kernel.core.util.EmptyCheckUtils;
+
+/**
+ * The field copies {@link MapperUtils} performs from one class to another,
+ * resolved once per pair of classes. Fields are matched by name and type the
+ * same way as before and read and written through method handles, so a mapping
+ * no longer scans and matches the declared fields of both classes.
+ *
+ */
+final class MappingPlan {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	private static final Map<ClassPair, MappingPlan> MAPPINGS = new ConcurrentHashMap<>();
+
+	private static final Map<ClassPair, MappingPlan> FIELD_COPIES = new ConcurrentHashMap<>();
+
+	private static final Map<ClassPair, MappingPlan> BASE_FIELD_COPIES = new ConcurrentHashMap<>();
+
+	private static final Map<Class<?>, MethodHandle> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+	private final List<Step> steps;
+
+	private MappingPlan(List<Step> steps) {
+		this.steps = steps;
+	}
+
+	/**
+	 * The plan of {@link MapperUtils#map(Object, Object)}: the declared fields, then
+	 * the embedded id and the super class fields.
+	 */
+	static MappingPlan mapping(Class<?> sourceClass, Class<?> destinationClass) {
+		return plan(MAPPINGS, sourceClass, destinationClass, MappingPlan::compileMapping);
+	}
+
+	/**
+	 * The plan of {@link MapperUtils#mapFieldValues(Object, Object)}.
+	 */
+	static MappingPlan fieldCopy(Class<?> sourceClass, Class<?> destinationClass) {
+		return plan(FIELD_COPIES, sourceClass, destinationClass,
+				pair -> new MappingPlan(copySteps(sourceClass.getDeclaredFields(), destinationClass.getDeclaredFields())));
+	}
+
+	/**
+	 * The plan of {@link MapperUtils#setBaseFieldValue(Object, Object)}.
+	 */
+	static MappingPlan baseFieldCopy(Class<?> sourceClass, Class<?> destinationClass) {
+		return plan(BASE_FIELD_COPIES, sourceClass, destinationClass,
+				pair -> new MappingPlan(baseFieldSteps(sourceClass, destinationClass)));
+	}
+
+	/**
+	 * Creates an object of the class through its no argument constructor.
+	 *
+	 * @throws InstantiationException if the class has no accessible no argument
+	 *                                constructor or the constructor fails
+	 */
+	static Object newInstance(Class<?> clazz) throws InstantiationException {
+		MethodHandle constructor = CONSTRUCTORS.computeIfAbsent(clazz, MappingPlan::findConstructor);
+		if (constructor == null) {
+			throw new InstantiationException(clazz.getName());
+		}
+		try {
+			return (Object) constructor.invokeExact();
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			InstantiationException exception = new InstantiationException(clazz.getName());
+			exception.initCause(e);
+			throw exception;
+		}
+	}
+
+	/**
+	 * Copies the values of the plan from the source to the destination.
+	 *
+	 * @param mapNullValues if false null and empty values are not copied
+	 */
+	void apply(Object source, Object destination, boolean mapNullValues) {
+		try {
+			for (Step step : steps) {
+				step.apply(source, destination, mapNullValues);
+			}
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (InstantiationException e) {
+			throw new DataAccessLayerException("KER-MSD-991", "Exception in mapping vlaues from source : "
+					+ source.getClass().getName() + " to destination : " + destination.getClass().getName(), e);
+		} catch (Throwable e) {
+			throw new DataAccessLayerException("KER-MSD-993", "Exception raised while mapping values form "
+					+ source.getClass().getName() + " to " + destination.getClass().getName(), e);
+		}
+	}
+
+	private static MappingPlan plan(Map<ClassPair, MappingPlan> plans, Class<?> sourceClass,
+			Class<?> destinationClass, Function<ClassPair, MappingPlan> compiler) {
+		ClassPair pair = new ClassPair(sourceClass, destinationClass);
+		MappingPlan plan = plans.get(pair);
+		if (plan == null) {
+			plan = plans.computeIfAbsent(pair, compiler);
+		}
+		return plan;
+	}
+
+	private static MappingPlan compileMapping(ClassPair pair) {
+		Class<?> sourceClass = pair.source;
+		Class<?> destinationClass = pair.destination;
+		List<Step> steps = new ArrayList<>(
+				copySteps(sourceClass.getDeclaredFields(), destinationClass.getDeclaredFields()));
+		if (sourceClass.isAnnotationPresent(Entity.class)) {
+			// entity to dto: the first embedded id is copied into the destination, the
+			// super class fields once any other field is seen
+			boolean isIdMapped = false;
+			boolean isSuperMapped = false;
+			for (Field field : sourceClass.getDeclaredFields()) {
+				if (!isIdMapped && field.isAnnotationPresent(EmbeddedId.class)) {
+					steps.add(embeddedIdToDestination(field));
+					isIdMapped = true;
+				} else if (!isSuperMapped) {
+					steps.add(baseFieldCopy(sourceClass, destinationClass)::apply);
+					isSuperMapped = true;
+				}
+			}
+		} else {
+			// dto to entity: the super class fields, then a new embedded id of the
+			// destination filled from the source
+			steps.add(baseFieldCopy(sourceClass, destinationClass)::apply);
+			for (Field field : destinationClass.getDeclaredFields()) {
+				if (field.isAnnotationPresent(EmbeddedId.class)) {
+					steps.add(embeddedIdFromSource(sourceClass, field));
+					break;
+				}
+			}
+		}
+		return new MappingPlan(List.copyOf(steps));
+	}
+
+	private static List<Step> baseFieldSteps(Class<?> sourceClass, Class<?> destinationClass) {
+		Class<?> sourceSuperclass = sourceClass.getSuperclass();
+		Class<?> destinationSuperclass = destinationClass.getSuperclass();
+		if (sourceClass.equals(destinationSuperclass)) {
+			return copySteps(sourceClass.getDeclaredFields(), destinationSuperclass.getDeclaredFields());
+		}
+		if (!Object.class.equals(sourceSuperclass) && !Object.class.equals(destinationSuperclass)) {
+			return copySteps(sourceSuperclass.getDeclaredFields(), destinationSuperclass.getDeclaredFields());
+		}
+		return List.of();
+	}
+
+	private static List<Step> copySteps(Field[] sourceFields, Field[] destinationFields) {
+		List<Step> steps = new ArrayList<>();
+		for (Field sourceField : sourceFields) {
+			// Do not set values either static or final
+			if (Modifier.isStatic(sourceField.getModifiers()) || Modifier.isFinal(sourceField.getModifiers())) {
+				continue;
+			}
+			for (Field destinationField : destinationFields) {
+				// map only those field whose name and type is same
+				if (sourceField.getName().equals(destinationField.getName())
+						&& sourceField.getType().equals(destinationField.getType())) {
+					steps.add(copyStep(getter(sourceField), setter(destinationField)));
+					break;
+				}
+			}
+		}
+		return List.copyOf(steps);
+	}
+
+	private static Step copyStep(MethodHandle getter, MethodHandle setter) {
+		return (source, destination, mapNullValues) -> {
+			Object value = (Object) getter.invokeExact(source);
+			// check whether user wants to map null values into destination object or not
+			if (!mapNullValues && EmptyCheckUtils.isNullEmpty(value)) {
+				return;
+			}
+			setter.invokeExact(destination, value);
+		};
+	}
+
+	private static Step embeddedIdToDestination(Field idField) {
+		MethodHandle getter = getter(idField);
+		return (source, destination, mapNullValues) -> {
+			Object id = (Object) getter.invokeExact(source);
+			Objects.requireNonNull(id, "source should not be null");
+			fieldCopy(id.getClass(), destination.getClass()).apply(id, destination, mapNullValues);
+		};
+	}
+
+	private static Step embeddedIdFromSource(Class<?> sourceClass, Field idField) {
+		Class<?> idClass = idField.getType();
+		MethodHandle setter = setter(idField);
+		return (source, destination, mapNullValues) -> {
+			Object id = newInstance(idClass);
+			fieldCopy(sourceClass, idClass).apply(source, id, mapNullValues);
+			setter.invokeExact(destination, id);
+		};
+	}
+
+	private static MethodHandle getter(Field field) {
+		try {
+			field.setAccessible(true);
+			return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			throw accessError(field, e);
+		}
+	}
+
+	private static MethodHandle setter(Field field) {
+		try {
+			field.setAccessible(true);
+			MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+			if (Modifier.isStatic(field.getModifiers())) {
+				setter = MethodHandles.dropArguments(setter, 0, Object.class);
+			}
+			return setter.asType(SETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			throw accessError(field, e);
+		}
+	}
+
+	private static MethodHandle findConstructor(Class<?> clazz) {
+		try {
+			return MethodHandles.lookup().findConstructor(clazz, MethodType.methodType(void.class))
+					.asType(CONSTRUCTOR_TYPE);
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	private static DataAccessLayerException accessError(Field field, IllegalAccessException e) {
+		return new DataAccessLayerException("KER-MSD-993",
+				"Exception raised while mapping values of field " + field.getName() + " of "
+						+ field.getDeclaringClass().getName(), e);
+	}
+
+	@FunctionalInterface
+	private interface Step {
+
+		void apply(Object source, Object destination, boolean mapNullValues) throws Throwable;
+	}
+
+	private static final class ClassPair {
+
+		private final Class<?> source;
+
+		private final Class<?> destination;
+
+		private ClassPair(Class<?> source, Class<?> destination) {
+			this.source = source;
+			this.destination = destination;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof ClassPair)) {
+				return false;
+			}
+			ClassPair pair = (ClassPair) other;
+			return source.equals(pair.source) && destination.equals(pair.destination);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * source.hashCode() + destination.hashCode();
+		}
+	}
+}
@@ -75,6 +75,37 @@ public class PageUtils {
 		return pageResponse;
 	}
 
+	/**
+	 * Method to create the page response for a page already sorted and paged in
+	 * the database
+	 * 
+	 * @param page    page fetched from the database
+	 * @param content page content mapped to the response type
+	 * @return {@link PageResponseDto}
+	 */
+	public <T, D> PageResponseDto<D> pageResponse(Page<T> page, List<D> content) {
+		PageResponseDto<D> pageResponse = new PageResponseDto<>();
+		if (content != null && !content.isEmpty()) {
+			pageResponse = pageResponse(page);
+			pageResponse.setData(content);
+		}
+		return pageResponse;
+	}
+
+	/**
+	 * Method to create the page response for a page fetched by cursor
+	 * 
+	 * @param page    page fetched from the database with the next cursor
+	 * @param content page content mapped to the response type
+	 * @return {@link PageResponseDto}
+	 */
+	public <T, D> PageResponseDto<D> cursorPageResponse(PageResponseDto<T> page, List<D> content) {
+		PageResponseDto<D> pageResponse = new PageResponseDto<>();
+		pageResponse.setData(content);
+		pageResponse.setNextCursor(page.getNextCursor());
+		return pageResponse;
+	}
+
 	public <D> PageResponseDto<D> applyPagination(List<D> list, Pagination page) {
 		return sortPage(list, Collections.emptyList(), page,list.size());
 	}
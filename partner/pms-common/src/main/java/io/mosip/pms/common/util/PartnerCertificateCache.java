@@ -0,0 +1,105 @@
+package io.mosip.pms.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of the partner certificates held by keymanager, keyed by the
+ * certificate alias. The least recently used entry is dropped when full and
+ * entries expire after the configured ttl, a ttl of 0 disables caching.
+ *
+ * An uploaded certificate gets a new alias, so the partner read from the
+ * database never points to a stale entry; {@link #put(String, String)} and
+ * {@link #evict(String)} on upload only spare the next lookup and free the old
+ * entry early.
+ *
+ */
+@Component
+public class PartnerCertificateCache {
+
+	@Value("${mosip.pms.partner-certificate.cache.max-size:1000}")
+	private int maxSize;
+
+	@Value("${mosip.pms.partner-certificate.cache.ttl:3600000}")
+	private long ttl;
+
+	private final Map<String, CachedCertificate> cache = new LinkedHashMap<String, CachedCertificate>(16, 0.75f,
+			true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedCertificate> eldest) {
+			return size() > maxSize;
+		}
+	};
+
+	/**
+	 * Returns the cached certificate of the alias, loading it if missing or
+	 * expired.
+	 *
+	 * @param certificateAlias
+	 * @param loader           reads the certificate of the alias from keymanager
+	 * @return the certificate data
+	 */
+	public String getCertificate(String certificateAlias, Function<String, String> loader) {
+		if (ttl <= 0 || certificateAlias == null) {
+			return loader.apply(certificateAlias);
+		}
+		CachedCertificate cached;
+		synchronized (cache) {
+			cached = cache.get(certificateAlias);
+		}
+		if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+			return cached.certificateData;
+		}
+		String certificateData = loader.apply(certificateAlias);
+		put(certificateAlias, certificateData);
+		return certificateData;
+	}
+
+	/**
+	 * Caches the certificate of the alias, to be called once it is uploaded.
+	 *
+	 * @param certificateAlias
+	 * @param certificateData
+	 */
+	public void put(String certificateAlias, String certificateData) {
+		if (ttl <= 0 || certificateAlias == null || certificateData == null) {
+			return;
+		}
+		synchronized (cache) {
+			cache.put(certificateAlias, new CachedCertificate(certificateData, System.currentTimeMillis() + ttl));
+		}
+	}
+
+	/**
+	 * Removes the cached certificate of the alias.
+	 *
+	 * @param certificateAlias
+	 */
+	public void evict(String certificateAlias) {
+		if (certificateAlias == null) {
+			return;
+		}
+		synchronized (cache) {
+			cache.remove(certificateAlias);
+		}
+	}
+
+	private static final class CachedCertificate {
+
+		private final String certificateData;
+
+		private final long expiresAt;
+
+		private CachedCertificate(String certificateData, long expiresAt) {
+			this.certificateData = certificateData;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -0,0 +1,355 @@
+package io.mosip.pms.common.util;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.pms.common.entity.AuthPolicy;
+
+/**
+ * Bounded cache of parsed policies, keyed by the policy id and its last update
+ * time. An updated policy gets a new key, so a stale entry is never returned;
+ * {@link #evict(String)} only frees the old entry early.
+ *
+ * The cached objects are shared between callers and can not be modified.
+ *
+ */
+@Component
+public class PolicyObjectCache {
+
+	@Value("${mosip.pms.policy.cache.max-size:1000}")
+	private int maxSize;
+
+	private final Map<PolicyKey, CachedPolicy> cache = new LinkedHashMap<PolicyKey, CachedPolicy>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<PolicyKey, CachedPolicy> eldest) {
+			return size() > maxSize;
+		}
+	};
+
+	/**
+	 * Returns the parsed policy of the auth policy.
+	 *
+	 * @param authPolicy
+	 * @return
+	 * @throws ParseException
+	 */
+	public JSONObject getPolicyObject(AuthPolicy authPolicy) throws ParseException {
+		if (authPolicy.getId() == null) {
+			return (JSONObject) freeze(new JSONParser().parse(authPolicy.getPolicyFileId()));
+		}
+		PolicyKey key = new PolicyKey(authPolicy.getId(), authPolicy.getUpdDtimes());
+		String policy = authPolicy.getPolicyFileId();
+		CachedPolicy cached;
+		synchronized (cache) {
+			cached = cache.get(key);
+		}
+		if (cached != null && cached.source.equals(policy)) {
+			return cached.policy;
+		}
+		JSONObject parsed = (JSONObject) freeze(new JSONParser().parse(policy));
+		synchronized (cache) {
+			cache.put(key, new CachedPolicy(policy, parsed));
+		}
+		return parsed;
+	}
+
+	/**
+	 * Removes the cached versions of the policy.
+	 *
+	 * @param policyId
+	 */
+	public void evict(String policyId) {
+		synchronized (cache) {
+			cache.keySet().removeIf(key -> key.id.equals(policyId));
+		}
+	}
+
+	private static Object freeze(Object value) {
+		if (value instanceof JSONObject) {
+			FrozenJSONObject frozen = new FrozenJSONObject();
+			for (Object entry : ((JSONObject) value).entrySet()) {
+				Map.Entry<?, ?> mapEntry = (Map.Entry<?, ?>) entry;
+				frozen.init(mapEntry.getKey(), freeze(mapEntry.getValue()));
+			}
+			frozen.frozen = true;
+			return frozen;
+		}
+		if (value instanceof JSONArray) {
+			FrozenJSONArray frozen = new FrozenJSONArray();
+			for (Object element : (JSONArray) value) {
+				frozen.init(freeze(element));
+			}
+			frozen.frozen = true;
+			return frozen;
+		}
+		return value;
+	}
+
+	private static final class PolicyKey {
+
+		private final String id;
+
+		private final LocalDateTime updDtimes;
+
+		private PolicyKey(String id, LocalDateTime updDtimes) {
+			this.id = id;
+			this.updDtimes = updDtimes;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof PolicyKey)) {
+				return false;
+			}
+			PolicyKey key = (PolicyKey) other;
+			return id.equals(key.id) && Objects.equals(updDtimes, key.updDtimes);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(id, updDtimes);
+		}
+	}
+
+	private static final class CachedPolicy {
+
+		private final String source;
+
+		private final JSONObject policy;
+
+		private CachedPolicy(String source, JSONObject policy) {
+			this.source = source;
+			this.policy = policy;
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static final class FrozenJSONObject extends JSONObject {
+
+		private static final long serialVersionUID = 1L;
+
+		private boolean frozen;
+
+		private void init(Object key, Object value) {
+			super.put(key, value);
+		}
+
+		private UnsupportedOperationException frozen() {
+			return new UnsupportedOperationException("Cached policy can not be modified");
+		}
+
+		@Override
+		public Object put(Object key, Object value) {
+			if (frozen) {
+				throw frozen();
+			}
+			return super.put(key, value);
+		}
+
+		@Override
+		public void putAll(Map map) {
+			throw frozen();
+		}
+
+		@Override
+		public Object putIfAbsent(Object key, Object value) {
+			throw frozen();
+		}
+
+		@Override
+		public Object remove(Object key) {
+			throw frozen();
+		}
+
+		@Override
+		public boolean remove(Object key, Object value) {
+			throw frozen();
+		}
+
+		@Override
+		public void clear() {
+			throw frozen();
+		}
+
+		@Override
+		public Object replace(Object key, Object value) {
+			throw frozen();
+		}
+
+		@Override
+		public boolean replace(Object key, Object oldValue, Object newValue) {
+			throw frozen();
+		}
+
+		@Override
+		public void replaceAll(BiFunction function) {
+			throw frozen();
+		}
+
+		@Override
+		public Object compute(Object key, BiFunction function) {
+			throw frozen();
+		}
+
+		@Override
+		public Object computeIfAbsent(Object key, Function function) {
+			throw frozen();
+		}
+
+		@Override
+		public Object computeIfPresent(Object key, BiFunction function) {
+			throw frozen();
+		}
+
+		@Override
+		public Object merge(Object key, Object value, BiFunction function) {
+			throw frozen();
+		}
+
+		@Override
+		public Set keySet() {
+			return Collections.unmodifiableSet(super.keySet());
+		}
+
+		@Override
+		public Collection values() {
+			return Collections.unmodifiableCollection(super.values());
+		}
+
+		@Override
+		public Set entrySet() {
+			return Collections.unmodifiableSet(super.entrySet());
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static final class FrozenJSONArray extends JSONArray {
+
+		private static final long serialVersionUID = 1L;
+
+		private boolean frozen;
+
+		private void init(Object element) {
+			super.add(element);
+		}
+
+		private UnsupportedOperationException frozen() {
+			return new UnsupportedOperationException("Cached policy can not be modified");
+		}
+
+		@Override
+		public boolean add(Object element) {
+			if (frozen) {
+				throw frozen();
+			}
+			return super.add(element);
+		}
+
+		@Override
+		public void add(int index, Object element) {
+			throw frozen();
+		}
+
+		@Override
+		public boolean addAll(Collection collection) {
+			throw frozen();
+		}
+
+		@Override
+		public boolean addAll(int index, Collection collection) {
+			throw frozen();
+		}
+
+		@Override
+		public Object set(int index, Object element) {
+			throw frozen();
+		}
+
+		@Override
+		public Object remove(int index) {
+			throw frozen();
+		}
+
+		@Override
+		public boolean remove(Object element) {
+			throw frozen();
+		}
+
+		@Override
+		public boolean removeAll(Collection collection) {
+			throw frozen();
+		}
+
+		@Override
+		public boolean retainAll(Collection collection) {
+			throw frozen();
+		}
+
+		@Override
+		public boolean removeIf(Predicate filter) {
+			throw frozen();
+		}
+
+		@Override
+		public void replaceAll(UnaryOperator operator) {
+			throw frozen();
+		}
+
+		@Override
+		public void sort(Comparator comparator) {
+			throw frozen();
+		}
+
+		@Override
+		public void clear() {
+			throw frozen();
+		}
+
+		@Override
+		public Iterator iterator() {
+			return Collections.unmodifiableList(this.subListView()).iterator();
+		}
+
+		@Override
+		public ListIterator listIterator() {
+			return Collections.unmodifiableList(this.subListView()).listIterator();
+		}
+
+		@Override
+		public ListIterator listIterator(int index) {
+			return Collections.unmodifiableList(this.subListView()).listIterator(index);
+		}
+
+		@Override
+		public List subList(int fromIndex, int toIndex) {
+			return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+		}
+
+		private List subListView() {
+			return super.subList(0, size());
+		}
+	}
+}
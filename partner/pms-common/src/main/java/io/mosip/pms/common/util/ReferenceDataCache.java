@@ -0,0 +1,197 @@
+package io.mosip.pms.common.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.mosip.pms.common.entity.PartnerType;
+import io.mosip.pms.common.entity.PolicyGroup;
+import io.mosip.pms.common.repository.PartnerTypeRepository;
+import io.mosip.pms.common.repository.PolicyGroupRepository;
+
+/**
+ * Read through cache of reference data: partner types, policy groups and the
+ * supported languages, plus any other region a service keeps through
+ * {@link #get(String, Object, Supplier)}.
+ *
+ * Entries expire after the configured ttl, a ttl of 0 disables caching. Only
+ * found values are cached, so data created by another instance is seen on the
+ * next lookup; changes to cached data made by another instance are seen once
+ * the entry expires. The cached entities are shared and must not be modified.
+ *
+ */
+@Component
+public class ReferenceDataCache {
+
+	public static final String PARTNER_TYPES = "partnerTypes";
+
+	public static final String POLICY_GROUPS_BY_ID = "policyGroupsById";
+
+	public static final String POLICY_GROUPS_BY_NAME = "policyGroupsByName";
+
+	private static final String ALL = "all";
+
+	@Value("${mosip.pms.reference-data.cache.ttl:60000}")
+	private long ttl;
+
+	@Value("${mosip.mandatory-languages:}")
+	private String mandatoryLanguages;
+
+	@Value("${mosip.optional-languages:}")
+	private String optionalLanguages;
+
+	@Autowired
+	private PartnerTypeRepository partnerTypeRepository;
+
+	@Autowired
+	private PolicyGroupRepository policyGroupRepository;
+
+	private final Map<String, Map<Object, CachedValue>> regions = new ConcurrentHashMap<>();
+
+	private volatile List<String> supportedLanguageCodes;
+
+	/**
+	 * Returns the cached value of the key, loading it if missing or expired.
+	 *
+	 * @param region
+	 * @param key
+	 * @param loader
+	 * @return the value, null if the loader finds none
+	 */
+	public <T> T get(String region, Object key, Supplier<T> loader) {
+		return get(region, key, ttl, loader);
+	}
+
+	/**
+	 * Returns the cached value of the key, loading it if missing or expired.
+	 *
+	 * @param region
+	 * @param key
+	 * @param ttl    time to live of the value in milliseconds, 0 to not cache it
+	 * @param loader
+	 * @return the value, null if the loader finds none
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(String region, Object key, long ttl, Supplier<T> loader) {
+		if (ttl <= 0) {
+			return loader.get();
+		}
+		Map<Object, CachedValue> values = regions.computeIfAbsent(region, name -> new ConcurrentHashMap<>());
+		long now = System.currentTimeMillis();
+		CachedValue cached = values.get(key);
+		if (cached != null && cached.expiresAt > now) {
+			return (T) cached.value;
+		}
+		T value = loader.get();
+		if (value != null) {
+			// entries of keys no longer looked up are dropped here once expired
+			values.values().removeIf(expired -> expired.expiresAt <= now);
+			values.put(key, new CachedValue(value, now + ttl));
+		} else {
+			values.remove(key);
+		}
+		return value;
+	}
+
+	/**
+	 * Loads the value of the key again and caches it in place of the current one,
+	 * for a lookup that missed data added since the value was loaded.
+	 *
+	 * @param region
+	 * @param key
+	 * @param loader
+	 * @return the value, null if the loader finds none
+	 */
+	public <T> T reload(String region, Object key, Supplier<T> loader) {
+		Map<Object, CachedValue> values = regions.get(region);
+		if (values != null) {
+			values.remove(key);
+		}
+		return get(region, key, loader);
+	}
+
+	/**
+	 * Removes every entry of the region. Within a transaction the entries are
+	 * removed once it commits, so that a lookup made before the commit cannot
+	 * cache the old data again.
+	 *
+	 * @param region
+	 */
+	public void invalidate(String region) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			regions.remove(region);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+			@Override
+			public void afterCommit() {
+				regions.remove(region);
+			}
+		});
+	}
+
+	public List<PartnerType> getPartnerTypes() {
+		return get(PARTNER_TYPES, ALL, () -> List.copyOf(partnerTypeRepository.findAll()));
+	}
+
+	/**
+	 * @param code
+	 * @return the partner type with the code, ignoring case
+	 */
+	public Optional<PartnerType> getPartnerType(String code) {
+		return getPartnerTypes().stream().filter(pt -> pt.getCode().equalsIgnoreCase(code)).findFirst();
+	}
+
+	public Optional<PolicyGroup> getPolicyGroupById(String policyGroupId) {
+		return Optional.ofNullable(get(POLICY_GROUPS_BY_ID, policyGroupId,
+				() -> policyGroupRepository.findById(policyGroupId).orElse(null)));
+	}
+
+	/**
+	 * @param policyGroupName
+	 * @return the policy group, null if there is none with the name
+	 */
+	public PolicyGroup getPolicyGroupByName(String policyGroupName) {
+		return get(POLICY_GROUPS_BY_NAME, policyGroupName, () -> policyGroupRepository.findByName(policyGroupName));
+	}
+
+	/**
+	 * To be called after a policy group is created or changed.
+	 */
+	public void invalidatePolicyGroups() {
+		invalidate(POLICY_GROUPS_BY_ID);
+		invalidate(POLICY_GROUPS_BY_NAME);
+	}
+
+	/**
+	 * @return the mandatory languages followed by the optional ones
+	 */
+	public List<String> getSupportedLanguageCodes() {
+		List<String> languageCodes = supportedLanguageCodes;
+		if (languageCodes == null) {
+			languageCodes = List.of((mandatoryLanguages + "," + optionalLanguages).split(","));
+			supportedLanguageCodes = languageCodes;
+		}
+		return languageCodes;
+	}
+
+	private static final class CachedValue {
+
+		private final Object value;
+
+		private final long expiresAt;
+
+		private CachedValue(Object value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
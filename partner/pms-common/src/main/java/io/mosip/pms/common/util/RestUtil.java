@@ -9,20 +9,29 @@ import java.security.cert.X509Certificate;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.net.ssl.SSLContext;
 
-import org.apache.http.Header;
-import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpClient;
-import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.TrustStrategy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -36,16 +45,11 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import com.google.gson.Gson;
-
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.mosip.kernel.core.logger.spi.Logger;
-import io.mosip.kernel.core.util.DateUtils;
-import io.mosip.kernel.core.util.StringUtils;
-import io.mosip.kernel.core.util.TokenHandlerUtil;
 import io.mosip.pms.common.constant.ApiAccessibleExceptionConstant;
-import io.mosip.pms.common.dto.Metadata;
-import io.mosip.pms.common.dto.SecretKeyRequest;
-import io.mosip.pms.common.dto.TokenRequestDTO;
 import io.mosip.pms.common.exception.ApiAccessibleException;
 
 @Component
@@ -56,8 +60,116 @@ public class RestUtil {
 	@Autowired
 	private Environment environment;
 
+	@Autowired
+	private ServiceTokenProvider serviceTokenProvider;
+
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	@Value("${mosip.pms.rest.client.pool.max-total:200}")
+	private int maxTotalConnections;
+
+	@Value("${mosip.pms.rest.client.pool.max-per-route:50}")
+	private int maxConnectionsPerRoute;
+
+	@Value("${mosip.pms.rest.client.connect-timeout:5000}")
+	private int connectTimeout;
+
+	@Value("${mosip.pms.rest.client.read-timeout:30000}")
+	private int readTimeout;
+
+	@Value("${mosip.pms.rest.client.connection-request-timeout:5000}")
+	private int connectionRequestTimeout;
+
+	@Value("${mosip.pms.rest.client.keep-alive:30000}")
+	private long keepAlive;
+
+	@Value("${mosip.pms.rest.client.idle-timeout:60000}")
+	private long idleTimeout;
+
+	private PoolingHttpClientConnectionManager connectionManager;
+
+	private CloseableHttpClient httpClient;
+
+	private RestTemplate restTemplate;
+
+	private RequestConfig requestConfig;
+
+	private final Map<String, DownstreamPolicy> downstreams = new ConcurrentHashMap<>();
+
 	private static final String AUTHORIZATION = "Authorization=";
 	private static final String BEARER = "Bearer ";
+	private static final String POOL_NAME = "pms-rest-client";
+
+	/**
+	 * Builds the pooled http client shared by all the downstream calls, so that
+	 * connections and TLS sessions are reused instead of being created per call.
+	 * Each call gets the timeouts of its downstream, see {@link DownstreamPolicy}.
+	 *
+	 * @throws KeyManagementException
+	 * @throws NoSuchAlgorithmException
+	 * @throws KeyStoreException
+	 */
+	@PostConstruct
+	public void init() throws KeyManagementException, NoSuchAlgorithmException, KeyStoreException {
+		TrustStrategy acceptingTrustStrategy = (X509Certificate[] chain, String authType) -> true;
+		SSLContext sslContext = org.apache.http.ssl.SSLContexts.custom().loadTrustMaterial(null, acceptingTrustStrategy)
+				.build();
+		Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", new SSLConnectionSocketFactory(sslContext)).build();
+		connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+		connectionManager.setMaxTotal(maxTotalConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+		requestConfig = RequestConfig.custom().setConnectTimeout(connectTimeout)
+				.setSocketTimeout(readTimeout).setConnectionRequestTimeout(connectionRequestTimeout).build();
+		httpClient = HttpClients.custom().setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(requestConfig).setKeepAliveStrategy(keepAliveStrategy())
+				.evictExpiredConnections().evictIdleConnections(idleTimeout, TimeUnit.MILLISECONDS).build();
+		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient) {
+
+			@Override
+			protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+				HttpClientContext context = HttpClientContext.create();
+				context.setRequestConfig(downstream(uri.toString()).getRequestConfig());
+				return context;
+			}
+		};
+		restTemplate = new RestTemplate(requestFactory);
+		if (meterRegistry == null) {
+			meterRegistry = new SimpleMeterRegistry();
+		}
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+	}
+
+	@PreDestroy
+	public void destroy() throws IOException {
+		if (httpClient != null) {
+			httpClient.close();
+		}
+	}
+
+	/**
+	 * @param url
+	 * @return the policy of the downstream the url belongs to
+	 */
+	public DownstreamPolicy downstream(String url) {
+		return downstreams.computeIfAbsent(DownstreamPolicy.nameOf(url),
+				name -> new DownstreamPolicy(name, environment, requestConfig, meterRegistry));
+	}
+
+	/**
+	 * Keeps the connection alive as advertised by the server, or for the
+	 * configured duration when the server does not say.
+	 *
+	 * @return
+	 */
+	private ConnectionKeepAliveStrategy keepAliveStrategy() {
+		return (response, context) -> {
+			long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			return duration > 0 ? duration : keepAlive;
+		};
+	}
 
 	/**
 	 *
@@ -97,12 +209,12 @@ public class RestUtil {
 				}
 			}
 
-			RestTemplate restTemplate;
-
+			RestTemplate restTemplate = getRestTemplate();
 			try {
-				restTemplate = getRestTemplate();
-				result = (T) restTemplate.postForObject(builder.toUriString(), setRequestHeader(requestType, mediaType),
-						responseClass);
+				String url = builder.toUriString();
+				HttpEntity<Object> entity = setRequestHeader(requestType, mediaType);
+				result = (T) downstream(url).execute(HttpMethod.POST,
+						() -> restTemplate.postForObject(url, entity, responseClass));
 			} catch (Exception e) {
 				logger.error("Error occurred while calling {}", builder.toUriString().toString(), e);
 				throw new ApiAccessibleException(
@@ -138,12 +250,14 @@ public class RestUtil {
 				}
 			}
 
-			RestTemplate restTemplate;
-
+			RestTemplate restTemplate = getRestTemplate();
 			try {
-				restTemplate = getRestTemplate();
-				restTemplate.put(builder.toUriString(), setRequestHeader(requestType, mediaType),
-						responseClass);
+				String url = builder.toUriString();
+				HttpEntity<Object> entity = setRequestHeader(requestType, mediaType);
+				downstream(url).execute(HttpMethod.PUT, () -> {
+					restTemplate.put(url, entity, responseClass);
+					return null;
+				});
 			} catch (Exception e) {
 				logger.error("Error occurred while calling {}", builder.toUriString().toString(), e);
 				throw new ApiAccessibleException(
@@ -190,13 +304,12 @@ public class RestUtil {
 
 			}
 			uriComponents = builder.build(false).encode();
-			RestTemplate restTemplate;
-
+			RestTemplate restTemplate = getRestTemplate();
 			try {
-				restTemplate = getRestTemplate();
-				result = (T) restTemplate
-						.exchange(uriComponents.toUri(), HttpMethod.GET, setRequestHeader(null, null), responseType)
-						.getBody();
+				URI uri = uriComponents.toUri();
+				HttpEntity<Object> entity = setRequestHeader(null, null);
+				result = (T) downstream(uri.toString()).execute(HttpMethod.GET,
+						() -> restTemplate.exchange(uri, HttpMethod.GET, entity, responseType).getBody());
 			} catch (Exception e) {
 				logger.error("Error occurred while calling {}", builder.toUriString().toString(), e);
 				throw new ApiAccessibleException(
@@ -223,11 +336,11 @@ public class RestUtil {
 		if (apiUrl != null) {
 			builder = UriComponentsBuilder.fromUriString(apiUrl);
 			URI urlWithPath = builder.build(pathsegments);
-			RestTemplate restTemplate;
+			RestTemplate restTemplate = getRestTemplate();
 			try {
-				restTemplate = getRestTemplate();
-				result = (T) restTemplate
-						.exchange(urlWithPath, HttpMethod.GET, setRequestHeader(null, null), responseType).getBody();
+				HttpEntity<Object> entity = setRequestHeader(null, null);
+				result = (T) downstream(urlWithPath.toString()).execute(HttpMethod.GET,
+						() -> restTemplate.exchange(urlWithPath, HttpMethod.GET, entity, responseType).getBody());
 			} catch (Exception e) {
 				logger.error("Error occurred while calling {}", urlWithPath, e);
 				throw new ApiAccessibleException(
@@ -241,20 +354,10 @@ public class RestUtil {
 
 	/**
 	 *
-	 * @return
-	 * @throws KeyManagementException
-	 * @throws NoSuchAlgorithmException
-	 * @throws KeyStoreException
+	 * @return the rest template of the pooled http client built at startup
 	 */
-	public RestTemplate getRestTemplate() throws KeyManagementException, NoSuchAlgorithmException, KeyStoreException {
-		TrustStrategy acceptingTrustStrategy = (X509Certificate[] chain, String authType) -> true;
-		SSLContext sslContext = org.apache.http.ssl.SSLContexts.custom().loadTrustMaterial(null, acceptingTrustStrategy)
-				.build();
-		SSLConnectionSocketFactory csf = new SSLConnectionSocketFactory(sslContext);
-		CloseableHttpClient httpClient = HttpClients.custom().setSSLSocketFactory(csf).build();
-		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory();
-		requestFactory.setHttpClient(httpClient);
-		return new RestTemplate(requestFactory);
+	public RestTemplate getRestTemplate() {
+		return restTemplate;
 	}
 
 	/**
@@ -267,7 +370,7 @@ public class RestUtil {
 	@SuppressWarnings("unchecked")
 	private HttpEntity<Object> setRequestHeader(Object requestType, MediaType mediaType) throws IOException {
 		MultiValueMap<String, String> headers = new LinkedMultiValueMap<String, String>();
-		final String token = getToken();
+		final String token = serviceTokenProvider.getToken();
 		headers.add("Cookie",token);
 		headers.add("Authorization", token.replace(AUTHORIZATION,BEARER ) );
 		if (mediaType != null) {
@@ -294,59 +397,4 @@ public class RestUtil {
 		} else
 			return new HttpEntity<Object>(headers);
 	}
-
-	/**
-	 *
-	 * @return
-	 * @throws IOException
-	 */
-	private String getToken() throws IOException {
-		String token = System.getProperty("token");
-		boolean isValid = false;
-
-		if (StringUtils.isNotEmpty(token)) {
-			isValid = TokenHandlerUtil.isValidBearerToken(token,
-					environment.getProperty("pms.cert.service.token.request.issuerUrl"),
-					environment.getProperty("pms.cert.service.token.request.clientId"));
-		}
-		if (!isValid) {
-			TokenRequestDTO<SecretKeyRequest> tokenRequestDTO = new TokenRequestDTO<SecretKeyRequest>();
-			tokenRequestDTO.setMetadata(new Metadata());
-
-			tokenRequestDTO.setRequesttime(DateUtils.getUTCCurrentDateTimeString());
-			tokenRequestDTO.setRequest(setSecretKeyRequestDTO());
-
-			Gson gson = new Gson();
-			HttpClient httpClient = HttpClientBuilder.create().build();
-			HttpPost post = new HttpPost(environment.getProperty("pms.cert.service.token.request.issuerUrl"));
-			try {
-				StringEntity postingString = new StringEntity(gson.toJson(tokenRequestDTO));
-				post.setEntity(postingString);
-				post.setHeader("Content-type", "application/json");
-				HttpResponse response = httpClient.execute(post);
-				Header[] cookie = response.getHeaders("Set-Cookie");
-				if (cookie.length == 0)
-					throw new IOException("cookie is empty. Could not generate new token.");
-				token = response.getHeaders("Set-Cookie")[0].getValue();
-				System.setProperty("token", token.substring(14, token.indexOf(';')));
-				return token.substring(0, token.indexOf(';'));
-			} catch (IOException e) {
-				logger.error("Error occurred in getToken()", e);
-				throw e;
-			}
-		}
-		return AUTHORIZATION + token;
-	}
-
-	/**
-	 *
-	 * @return
-	 */
-	private SecretKeyRequest setSecretKeyRequestDTO() {
-		SecretKeyRequest request = new SecretKeyRequest();
-		request.setAppId(environment.getProperty("mosip.pmp.auth.appId"));
-		request.setClientId(environment.getProperty("mosip.pmp.auth.clientId"));
-		request.setSecretKey(environment.getProperty("mosip.pmp.auth.secretKey"));
-		return request;
-	}
 }
@@ -0,0 +1,234 @@
+package io.mosip.pms.common.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.http.Header;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.util.EntityUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.pms.common.dto.Metadata;
+import io.mosip.pms.common.dto.SecretKeyRequest;
+import io.mosip.pms.common.dto.TokenRequestDTO;
+
+/**
+ * Holds the auth token used by pms for the calls to other services.
+ *
+ * The token and its expiry are cached in memory. Callers get the cached token
+ * without any validation or locking; once the token is close to its expiry a
+ * single background refresh is triggered. Callers block only when there is no
+ * usable token at all, and even then only one of them logs in, bounded by the
+ * connect and read timeouts of the login call. These default to the ones of
+ * the rest client and can be set under mosip.pms.service.token.
+ *
+ */
+@Component
+public class ServiceTokenProvider {
+
+	private static final Logger logger = PMSLogger.getLogger(ServiceTokenProvider.class);
+
+	private static final String AUTHORIZATION = "Authorization=";
+	private static final String EXPIRY_CLAIM = "exp";
+
+	@Autowired
+	private Environment environment;
+
+	@Value("${mosip.pms.service.token.refresh-before-expiry:60000}")
+	private long refreshBeforeExpiry;
+
+	@Value("${mosip.pms.service.token.default-lifetime:1800000}")
+	private long defaultLifetime;
+
+	@Value("${mosip.pms.service.token.connect-timeout:${mosip.pms.rest.client.connect-timeout:5000}}")
+	private int connectTimeout;
+
+	@Value("${mosip.pms.service.token.read-timeout:${mosip.pms.rest.client.read-timeout:30000}}")
+	private int readTimeout;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	private CloseableHttpClient httpClient;
+
+	private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "pms-service-token-refresh");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
+
+	private volatile CachedToken currentToken;
+
+	@PostConstruct
+	public void init() {
+		RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(connectTimeout)
+				.setSocketTimeout(readTimeout).setConnectionRequestTimeout(connectTimeout).build();
+		httpClient = HttpClientBuilder.create().setDefaultRequestConfig(requestConfig).build();
+	}
+
+	/**
+	 * Returns the auth token cookie to be sent to the other services.
+	 *
+	 * @return
+	 * @throws IOException
+	 */
+	public String getToken() throws IOException {
+		CachedToken token = currentToken;
+		long now = System.currentTimeMillis();
+		if (token == null || token.isExpired(now)) {
+			return refresh().value;
+		}
+		if (token.isRefreshDue(now, refreshBeforeExpiry)) {
+			refreshInBackground();
+		}
+		return token.value;
+	}
+
+	@PreDestroy
+	public void destroy() throws IOException {
+		refreshExecutor.shutdownNow();
+		httpClient.close();
+	}
+
+	/**
+	 * Logs in unless another caller already did while this one was waiting.
+	 *
+	 * @return
+	 * @throws IOException
+	 */
+	private synchronized CachedToken refresh() throws IOException {
+		CachedToken token = currentToken;
+		if (token != null && !token.isExpired(System.currentTimeMillis())) {
+			return token;
+		}
+		currentToken = requestToken();
+		return currentToken;
+	}
+
+	private void refreshInBackground() {
+		if (!refreshInProgress.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					CachedToken token = requestToken();
+					synchronized (this) {
+						currentToken = token;
+					}
+				} catch (IOException | RuntimeException e) {
+					logger.error("Error occurred while refreshing the service token", e);
+				} finally {
+					refreshInProgress.set(false);
+				}
+			});
+		} catch (RuntimeException e) {
+			refreshInProgress.set(false);
+			logger.error("Could not schedule the service token refresh", e);
+		}
+	}
+
+	/**
+	 *
+	 * @return
+	 * @throws IOException
+	 */
+	private CachedToken requestToken() throws IOException {
+		TokenRequestDTO<SecretKeyRequest> tokenRequestDTO = new TokenRequestDTO<SecretKeyRequest>();
+		tokenRequestDTO.setMetadata(new Metadata());
+		tokenRequestDTO.setRequesttime(DateUtils.getUTCCurrentDateTimeString());
+		tokenRequestDTO.setRequest(setSecretKeyRequestDTO());
+
+		Gson gson = new Gson();
+		HttpPost post = new HttpPost(environment.getProperty("pms.cert.service.token.request.issuerUrl"));
+		post.setEntity(new StringEntity(gson.toJson(tokenRequestDTO)));
+		post.setHeader("Content-type", "application/json");
+		try (CloseableHttpResponse response = httpClient.execute(post)) {
+			EntityUtils.consumeQuietly(response.getEntity());
+			Header[] cookie = response.getHeaders("Set-Cookie");
+			if (cookie.length == 0)
+				throw new IOException("cookie is empty. Could not generate new token.");
+			String cookieValue = cookie[0].getValue();
+			String jwt = cookieValue.substring(AUTHORIZATION.length(), cookieValue.indexOf(';'));
+			return new CachedToken(AUTHORIZATION + jwt, getExpiry(jwt));
+		} catch (IOException e) {
+			logger.error("Error occurred in getToken()", e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Reads the expiry of the token in millis. A token without a readable expiry
+	 * is used for the configured default lifetime.
+	 *
+	 * @param jwt
+	 * @return
+	 */
+	private long getExpiry(String jwt) {
+		try {
+			String[] parts = jwt.split("\\.");
+			JsonNode claims = mapper
+					.readTree(new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+			if (claims.hasNonNull(EXPIRY_CLAIM)) {
+				return claims.get(EXPIRY_CLAIM).asLong() * 1000;
+			}
+		} catch (IOException | RuntimeException e) {
+			logger.warn("Could not read the expiry of the service token", e);
+		}
+		return System.currentTimeMillis() + defaultLifetime;
+	}
+
+	/**
+	 *
+	 * @return
+	 */
+	private SecretKeyRequest setSecretKeyRequestDTO() {
+		SecretKeyRequest request = new SecretKeyRequest();
+		request.setAppId(environment.getProperty("mosip.pmp.auth.appId"));
+		request.setClientId(environment.getProperty("mosip.pmp.auth.clientId"));
+		request.setSecretKey(environment.getProperty("mosip.pmp.auth.secretKey"));
+		return request;
+	}
+
+	private static final class CachedToken {
+
+		private final String value;
+
+		private final long expiresAt;
+
+		private CachedToken(String value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+
+		private boolean isRefreshDue(long now, long refreshBeforeExpiry) {
+			return now >= expiresAt - refreshBeforeExpiry;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package io.mosip.pms.common.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import io.mosip.pms.common.constant.OrderEnum;
+import io.mosip.pms.common.constant.SearchErrorCode;
+import io.mosip.pms.common.exception.RequestException;
+
+/**
+ * Builds the comparators used by {@link SortUtils}. A comparator reads the
+ * field through a method handle resolved once, and is cached per class, field
+ * and direction.
+ *
+ * Strings, booleans, numbers and dates are compared by their natural order,
+ * other values by their string form. Null values come first in ascending order
+ * and last in descending order.
+ *
+ */
+public final class SortComparators {
+
+	private static final Set<Class<?>> NATURAL_ORDER_TYPES = Set.of(String.class, Boolean.class, Integer.class,
+			Double.class, Long.class, Float.class, Short.class, LocalDateTime.class, LocalDate.class, Date.class);
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final Map<Key, Comparator<Object>> COMPARATORS = new ConcurrentHashMap<>();
+
+	private SortComparators() {
+	}
+
+	/**
+	 * Returns the comparator of the class for the sort field and sort type.
+	 *
+	 * @param clazz
+	 * @param sortField name of a field of the class or its super class, ignoring
+	 *                  case
+	 * @param sortType  asc or desc, ignoring case
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Comparator<T> comparator(Class<?> clazz, String sortField, String sortType) {
+		if (StringUtils.isBlank(sortField)) {
+			throw new RequestException(SearchErrorCode.INVALID_SORT_INPUT.getErrorCode(),
+					SearchErrorCode.INVALID_SORT_INPUT.getErrorMessage());
+		}
+		boolean descending = isDescending(sortType);
+		return (Comparator<T>) COMPARATORS.computeIfAbsent(
+				new Key(clazz, sortField.toLowerCase(Locale.ROOT), descending),
+				key -> compile(SortUtils.findField(SortUtils.extractField(clazz), sortField), descending));
+	}
+
+	private static boolean isDescending(String sortType) {
+		if (OrderEnum.desc.name().equalsIgnoreCase(sortType)) {
+			return true;
+		}
+		if (OrderEnum.asc.name().equalsIgnoreCase(sortType)) {
+			return false;
+		}
+		throw new RequestException(SearchErrorCode.INVALID_SORT_TYPE.getErrorCode(),
+				String.format(SearchErrorCode.INVALID_SORT_TYPE.getErrorMessage(), sortType));
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Comparator<Object> compile(Field field, boolean descending) {
+		MethodHandle getter;
+		try {
+			getter = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+					.unreflectGetter(field).asType(GETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			throw new RequestException(SearchErrorCode.ERROR_OCCURED_WHILE_SORTING.getErrorCode(),
+					SearchErrorCode.ERROR_OCCURED_WHILE_SORTING.getErrorMessage());
+		}
+		Class<?> type = ClassUtils.primitiveToWrapper(field.getType());
+		Comparator<Object> valueComparator = NATURAL_ORDER_TYPES.contains(type) ? (Comparator) Comparator.naturalOrder()
+				: Comparator.comparing(Object::toString);
+		Comparator<Object> comparator = Comparator.comparing(value -> get(getter, value),
+				Comparator.nullsFirst(valueComparator));
+		return descending ? comparator.reversed() : comparator;
+	}
+
+	private static Object get(MethodHandle getter, Object target) {
+		try {
+			return (Object) getter.invokeExact(target);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RequestException(SearchErrorCode.ERROR_OCCURED_WHILE_SORTING.getErrorCode(),
+					SearchErrorCode.ERROR_OCCURED_WHILE_SORTING.getErrorMessage());
+		}
+	}
+
+	private static final class Key {
+
+		private final Class<?> clazz;
+
+		private final String sortField;
+
+		private final boolean descending;
+
+		private Key(Class<?> clazz, String sortField, boolean descending) {
+			this.clazz = clazz;
+			this.sortField = sortField;
+			this.descending = descending;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) other;
+			return clazz.equals(key.clazz) && sortField.equals(key.sortField) && descending == key.descending;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(clazz, sortField, descending);
+		}
+	}
+}
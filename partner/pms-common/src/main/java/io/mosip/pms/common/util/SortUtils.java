@@ -3,9 +3,9 @@ package io.mosip.pms.common.util;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -34,17 +34,17 @@ public class SortUtils {
 	 * @return sorted list
 	 */
 	public <T> List<T> sort(List<T> list, List<SearchSort> sortCriteria) {
-		List<Field> fields = null;
 		if (toBeSorted(list, sortCriteria)) {
-			T data = list.get(0);
-			fields = extractField(data);
-			List<FieldComparator<T>> comparatorlist = new ArrayList<>();
-			for (int i = 0; i < sortCriteria.size(); i++) {
-				SearchSort sort = sortCriteria.get(i);
-				comparatorlist.add(new FieldComparator<T>(findField(fields, sort.getSortField()), sort));
+			Class<?> clazz = list.get(0).getClass();
+			Comparator<T> comparator = null;
+			for (SearchSort sort : sortCriteria) {
+				Comparator<T> fieldComparator = SortComparators.comparator(clazz, sort.getSortField(),
+						sort.getSortType());
+				comparator = comparator == null ? fieldComparator : comparator.thenComparing(fieldComparator);
 			}
-			return list.parallelStream().sorted(new MultiFieldComparator<T>(comparatorlist))
-					.collect(Collectors.toList());
+			List<T> sortedList = new ArrayList<>(list);
+			sortedList.sort(comparator);
+			return sortedList;
 		}
 		return list;
 	}
@@ -64,16 +64,15 @@ public class SortUtils {
 	/**
 	 * Method to extract the fields
 	 * 
-	 * @param <T>   generic type
 	 * @param clazz input class
 	 * @return {@link List} of {@link Field} for the input along with super class
 	 *         {@link Field}
 	 */
-	private <T> List<Field> extractField(T clazz) {
+	static List<Field> extractField(Class<?> clazz) {
 		List<Field> fields = new ArrayList<>();
-		fields.addAll(Arrays.asList(clazz.getClass().getDeclaredFields()));
-		if (clazz.getClass().getSuperclass() != Object.class) {
-			fields.addAll(Arrays.asList(clazz.getClass().getSuperclass().getDeclaredFields()));
+		fields.addAll(Arrays.asList(clazz.getDeclaredFields()));
+		if (clazz.getSuperclass() != Object.class) {
+			fields.addAll(Arrays.asList(clazz.getSuperclass().getDeclaredFields()));
 		}
 		return fields;
 	}
@@ -86,7 +85,7 @@ public class SortUtils {
 
 	}
 
-	private Field findField(List<Field> fields, String name) {
+	static Field findField(List<Field> fields, String name) {
 		Optional<Field> field = fields.stream().filter(f -> f.getName().equalsIgnoreCase(name)).findFirst();
 		if (StringUtils.isBlank(name)) {
 			throw new RequestException(SearchErrorCode.INVALID_SORT_INPUT.getErrorCode(),
@@ -1,33 +1,58 @@
 package io.mosip.pms.common.util;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
-import org.apache.commons.io.IOUtils;
+import org.apache.velocity.Template;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.parser.ParseException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.kernel.core.logger.spi.Logger;
-import io.mosip.kernel.core.templatemanager.spi.TemplateManager;
 import io.mosip.pms.common.constant.ApiAccessibleExceptionConstant;
 import io.mosip.pms.common.exception.ApiAccessibleException;
 import io.mosip.pms.common.response.dto.NotificationDto;
 import io.mosip.pms.common.response.dto.TemplatesResponseDto;
 
+/**
+ * Fetches the notification templates from the masterdata template api and
+ * merges them with the notification data.
+ *
+ * Templates are cached by language and template type for the configured ttl,
+ * and each template text is parsed once and merged any number of times. The
+ * parsed templates are keyed by language, template type and a digest of the
+ * text, so a changed text is parsed again. A delete on the
+ * notificationtemplates actuator endpoint calls {@link #refreshTemplates()},
+ * dropping the cached templates so that the next notification fetches them
+ * again.
+ *
+ */
 @Component
+@Endpoint(id = "notificationtemplates")
 public class TemplateUtil {
 
+	private static final String TEMPLATES = "notificationTemplates";
+
+	private static final String COMPILED_TEMPLATES = "compiledNotificationTemplates";
+
 	private Logger log = PMSLogger.getLogger(TemplateUtil.class);
 
 	@Value("${resource.template.url}")
@@ -36,8 +61,14 @@ public class TemplateUtil {
 	@Value("${mosip.notification.timezone}")
 	private String notificationTimeZone; 
 
+	@Value("${mosip.pms.notification.template.cache.ttl:3600000}")
+	private long templateCacheTtl;
+
 	@Autowired
-	private TemplateManager templateManager;
+	private RuntimeInstance templateRuntime;
+
+	@Autowired
+	private ReferenceDataCache referenceDataCache;
 
 	@Autowired
 	RestUtil restUtil;
@@ -52,6 +83,21 @@ public class TemplateUtil {
 	 * @return
 	 */
 	public String getTemplate(String langCode, String templatetypecode) {
+		return referenceDataCache.get(TEMPLATES, Arrays.asList(langCode, templatetypecode), templateCacheTtl,
+				() -> fetchTemplate(langCode, templatetypecode));
+	}
+
+	/**
+	 * Drops the cached templates, to be called after a template is changed in
+	 * masterdata.
+	 */
+	@DeleteOperation
+	public void refreshTemplates() {
+		referenceDataCache.invalidate(TEMPLATES);
+		referenceDataCache.invalidate(COMPILED_TEMPLATES);
+	}
+
+	private String fetchTemplate(String langCode, String templatetypecode) {
 		Map<String, String> pathsegments = new HashMap<>();
 		pathsegments.put("langcode", langCode);
 		pathsegments.put("templatetypecode", templatetypecode);
@@ -75,14 +121,52 @@ public class TemplateUtil {
 		return templatesResponseDto.getTemplates().get(0).getFileText().replaceAll("(^\")|(\"$)", ""); 
 	}
 
-	public String templateMerge(String fileText, NotificationDto acknowledgementDTO) throws IOException {
+	/**
+	 * 
+	 * @param langCode
+	 * @param templatetypecode
+	 * @param fileText           the template text of the language and type
+	 * @param acknowledgementDTO
+	 * @return the merged template
+	 * @throws IOException
+	 */
+	public String templateMerge(String langCode, String templatetypecode, String fileText,
+			NotificationDto acknowledgementDTO) throws IOException {
 		log.info("In templateMerge method ofTemplateUtil");
-		String mergeTemplate = null;
-		Map<String, Object> map = mapSetting(acknowledgementDTO);
-		InputStream templateInputStream = new ByteArrayInputStream(fileText.getBytes(Charset.forName("UTF-8")));
-		InputStream resultedTemplate = templateManager.merge(templateInputStream, map);
-		mergeTemplate = IOUtils.toString(resultedTemplate, StandardCharsets.UTF_8.name());
-		return mergeTemplate;
+		Template template = referenceDataCache.get(COMPILED_TEMPLATES,
+				Arrays.asList(langCode, templatetypecode, digest(fileText)), templateCacheTtl,
+				() -> compile(fileText));
+		StringWriter mergeTemplate = new StringWriter();
+		template.merge(new VelocityContext(mapSetting(acknowledgementDTO)), mergeTemplate);
+		return mergeTemplate.toString();
+	}
+
+	/**
+	 * 
+	 * @param fileText
+	 * @return the parsed template, safe to be merged by several threads at once
+	 */
+	private Template compile(String fileText) {
+		try {
+			Template template = new Template();
+			template.setRuntimeServices(templateRuntime);
+			template.setData(templateRuntime.parse(new StringReader(fileText), TEMPLATES));
+			template.initDocument();
+			return template;
+		} catch (ParseException e) {
+			log.error("Error occured while parsing the template", e.getLocalizedMessage());
+			throw new ApiAccessibleException(ApiAccessibleExceptionConstant.UNABLE_TO_PROCESS.getErrorCode(),
+					ApiAccessibleExceptionConstant.UNABLE_TO_PROCESS.getErrorMessage());
+		}
+	}
+
+	private String digest(String fileText) {
+		try {
+			return Base64.getEncoder().encodeToString(
+					MessageDigest.getInstance("SHA-256").digest(fileText.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
 	}
 
 	private Map<String, Object> mapSetting(NotificationDto acknowledgementDto) {
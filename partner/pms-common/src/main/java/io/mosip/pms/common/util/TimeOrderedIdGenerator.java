@@ -0,0 +1,41 @@
+package io.mosip.pms.common.util;
+
+/**
+ * Generates ULIDs. Ids created in later milliseconds sort after earlier ones,
+ * so new rows are appended to the end of the primary key index.
+ *
+ */
+public final class TimeOrderedIdGenerator implements IdGenerator {
+
+	static final TimeOrderedIdGenerator INSTANCE = new TimeOrderedIdGenerator();
+
+	private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+	private static final int LENGTH = 26;
+
+	private TimeOrderedIdGenerator() {
+	}
+
+	@Override
+	public String generateId() {
+		return generateId(System.currentTimeMillis());
+	}
+
+	String generateId(long timestamp) {
+		byte[] random = new byte[10];
+		Entropy.nextBytes(random);
+		long high = ((timestamp & 0xFFFFFFFFFFFFL) << 16) | ((random[0] & 0xFFL) << 8) | (random[1] & 0xFFL);
+		long low = 0;
+		for (int i = 2; i < random.length; i++) {
+			low = (low << 8) | (random[i] & 0xFFL);
+		}
+		char[] id = new char[LENGTH];
+		// 128 bits in 26 characters of 5 bits, the first character holds the top 3 bits
+		for (int i = LENGTH - 1; i >= 0; i--) {
+			id[i] = ALPHABET[(int) (low & 0x1F)];
+			low = (low >>> 5) | ((high & 0x1F) << 59);
+			high >>>= 5;
+		}
+		return new String(id);
+	}
+}
@@ -5,10 +5,11 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Import;
 
+import io.mosip.pms.common.helper.WebSubOutboxDispatcher;
 import io.mosip.pms.common.helper.WebSubPublisher;
 
 @SpringBootApplication
-@Import(value = {WebSubPublisher.class})
+@Import(value = {WebSubPublisher.class, WebSubOutboxDispatcher.class})
 @ComponentScan({ "io.mosip.pms.policy.*", "${mosip.auth.adapter.impl.basepackage}","io.mosip.pms.common.*"})
 public class PmpPolicyApplication {
 
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -47,6 +48,7 @@ import io.mosip.pms.policy.dto.PolicyUpdateRequestDto;
 import io.mosip.pms.policy.dto.PolicyWithAuthPolicyDto;
 import io.mosip.pms.policy.dto.RequestWrapper;
 import io.mosip.pms.policy.dto.ResponseWrapper;
+import io.mosip.pms.policy.service.PolicyGroupTree;
 import io.mosip.pms.policy.service.PolicyManagementService;
 import io.mosip.pms.policy.util.AuditUtil;
 import io.swagger.annotations.Api;
@@ -213,11 +215,16 @@ public class PolicyManagementController {
 	@PreAuthorize("hasAnyRole(@authorizedRoles.getGetpoliciesgroupall())")
 	@GetMapping(value = "/group/all")
 	@Operation(summary = "Service to get all policy groups", description = "Service to all policy groups")
-	public ResponseWrapper<List<PolicyWithAuthPolicyDto>> getPolicyGroup()
+	public ResponseWrapper<List<PolicyWithAuthPolicyDto>> getPolicyGroup(WebRequest webRequest)
 			throws JsonParseException, JsonMappingException, IOException {
 		ResponseWrapper<List<PolicyWithAuthPolicyDto>> response = new ResponseWrapper<>();
 		logger.info("Calling PolicyManagementService from PolicyManagementController.");
-		response.setResponse(policyManagementService.getPolicyGroup());
+		PolicyGroupTree policyGroupTree = policyManagementService.getPolicyGroupTree();
+		if (webRequest.checkNotModified(policyGroupTree.getETag())) {
+			// 304 with no body
+			return null;
+		}
+		response.setResponse(policyGroupTree.getPolicyGroups());
 		logger.info("Returning response from PolicyManagementController.");
 		return response;
 	}
@@ -246,6 +253,18 @@ public class PolicyManagementController {
 		return responseWrapper;
 	}
 
+	@ResponseFilter
+	@PostMapping("/search/cursor")
+	@PreAuthorize("hasAnyRole(@authorizedRoles.getPostpoliciessearch())")
+	@Operation(summary = "Service to search policy by cursor", description = "Service to search policy page by page using the cursor returned with the previous page")
+	public ResponseWrapper<PageResponseDto<SearchAuthPolicy>> searchPolicyByCursor(
+			@RequestBody @Valid RequestWrapper<PolicySearchDto> request) {
+		ResponseWrapper<PageResponseDto<SearchAuthPolicy>> responseWrapper = new ResponseWrapper<>();
+		auditUtil.setAuditRequestDto(PolicyManageEnum.SEARCH_POLICY);
+		responseWrapper.setResponse(policyManagementService.searchPolicyByCursor(request.getRequest()));
+		return responseWrapper;
+	}
+
 	@PreAuthorize("hasAnyRole(@authorizedRoles.getGetpoliciesconfigkey())")
 	@GetMapping(value = "/config/{key}")
 	@Operation(summary = "Service to get value for a given config key", description = "Service to get value for a given config key")
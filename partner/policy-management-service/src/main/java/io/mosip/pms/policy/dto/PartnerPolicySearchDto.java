@@ -1,16 +1,24 @@
 package io.mosip.pms.policy.dto;
 
 import java.sql.Timestamp;
+import java.util.List;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Selected from the partner policy {@link #COLUMNS}, through the all arguments
+ * constructor, see SearchHelper#searchProjected.
+ */
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class PartnerPolicySearchDto {
 
+	public static final List<String> COLUMNS = List.of("policyApiKey", "crBy", "crDtimes", "delDtimes", "isActive",
+			"isDeleted", "policyId", "updBy", "updDtimes", "validFromDatetime", "validToDatetime");
+
 	private String policyApiKey;
 
 	private String crBy;
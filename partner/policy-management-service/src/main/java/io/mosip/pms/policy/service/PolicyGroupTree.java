@@ -0,0 +1,74 @@
+package io.mosip.pms.policy.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.mosip.pms.policy.dto.PolicyWithAuthPolicyDto;
+
+/**
+ * Every policy group with its policies, as cached by
+ * {@link PolicyManagementService#getPolicyGroupTree()}, and the ETag of its
+ * content. The groups and policies are shared and must not be modified.
+ *
+ */
+public final class PolicyGroupTree {
+
+	private static final ObjectMapper ETAG_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	private final List<PolicyWithAuthPolicyDto> policyGroups;
+
+	private final Map<String, PolicyWithAuthPolicyDto> policyGroupsById;
+
+	private final String eTag;
+
+	public PolicyGroupTree(List<PolicyWithAuthPolicyDto> policyGroups) {
+		this.policyGroups = List.copyOf(policyGroups);
+		Map<String, PolicyWithAuthPolicyDto> byId = new LinkedHashMap<>();
+		for (PolicyWithAuthPolicyDto policyGroup : policyGroups) {
+			byId.put(policyGroup.getPolicyGroup().getId(), policyGroup);
+		}
+		this.policyGroupsById = byId;
+		this.eTag = eTag(this.policyGroups);
+	}
+
+	public List<PolicyWithAuthPolicyDto> getPolicyGroups() {
+		return policyGroups;
+	}
+
+	/**
+	 * @param policyGroupId
+	 * @return the policy group with its policies, null if there is none with the
+	 *         id
+	 */
+	public PolicyWithAuthPolicyDto getPolicyGroup(String policyGroupId) {
+		return policyGroupsById.get(policyGroupId);
+	}
+
+	/**
+	 * @return hash of the json of the groups, changes whenever a group or policy
+	 *         does
+	 */
+	public String getETag() {
+		return eTag;
+	}
+
+	private static String eTag(List<PolicyWithAuthPolicyDto> policyGroups) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(ETAG_MAPPER.writeValueAsBytes(policyGroups));
+			StringBuilder eTag = new StringBuilder();
+			for (int i = 0; i < 16; i++) {
+				eTag.append(String.format("%02x", digest[i]));
+			}
+			return eTag.toString();
+		} catch (JsonProcessingException | NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
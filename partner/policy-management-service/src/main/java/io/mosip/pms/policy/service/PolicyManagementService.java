@@ -2,8 +2,6 @@ package io.mosip.pms.policy.service;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,9 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-import org.apache.commons.io.IOUtils;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
@@ -26,6 +22,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.data.domain.Page;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -61,6 +58,8 @@ import io.mosip.pms.common.repository.PolicyGroupRepository;
 import io.mosip.pms.common.util.MapperUtils;
 import io.mosip.pms.common.util.PMSLogger;
 import io.mosip.pms.common.util.PageUtils;
+import io.mosip.pms.common.util.PolicyObjectCache;
+import io.mosip.pms.common.util.ReferenceDataCache;
 import io.mosip.pms.common.validator.FilterColumnValidator;
 import io.mosip.pms.policy.dto.ColumnCodeValue;
 import io.mosip.pms.policy.dto.FilterResponseCodeDto;
@@ -83,6 +82,8 @@ import io.mosip.pms.policy.dto.ResponseWrapper;
 import io.mosip.pms.policy.errorMessages.ErrorMessages;
 import io.mosip.pms.policy.errorMessages.PolicyManagementServiceException;
 import io.mosip.pms.policy.util.AuditUtil;
+import io.mosip.pms.policy.util.PolicySchemaStore;
+import io.mosip.pms.policy.util.PolicySchemaStore.LoadedSchema;
 import io.mosip.pms.policy.util.PolicyUtil;
 import io.mosip.pms.policy.validator.exception.InvalidPolicySchemaException;
 import io.mosip.pms.policy.validator.exception.PolicyIOException;
@@ -106,6 +107,7 @@ import io.mosip.pms.policy.validator.spi.PolicyValidator;
  */
 
 @Service
+@Transactional
 public class PolicyManagementService {
 
 	private static final Logger logger = PMSLogger.getLogger(PolicyManagementService.class);
@@ -125,6 +127,12 @@ public class PolicyManagementService {
 	@Autowired
 	private WebSubPublisher webSubPublisher;
 
+	@Autowired
+	private PolicyObjectCache policyObjectCache;
+
+	@Autowired
+	private ReferenceDataCache referenceDataCache;
+
 	@Autowired
 	PartnerPolicyRepository partnerPolicyRepository;
 	
@@ -134,6 +142,9 @@ public class PolicyManagementService {
 	@Value("${pmp.allowed.policy.types}")
 	private String supportedPolicyTypes;
 
+	@Autowired
+	private PolicySchemaStore policySchemaStore;
+
 	@Autowired
 	SearchHelper searchHelper;
 
@@ -153,6 +164,11 @@ public class PolicyManagementService {
 	public static final String NOTACTIVE_STATUS = "de-active";
 	public static final String ALL = "all";	
 
+	private static final String POLICY_GROUP_TREE = "policyGroupTree";
+
+	private static final Map<String, String> POLICY_SEARCH_COLUMNS = Map.of("desc", "descr", "policies",
+			"policyFileId", "policyGroupId", "policyGroup.id", "policyGroupName", "policyGroup.name");
+
 	/** The mapper. */
 	@Autowired
 	private ObjectMapper mapper;
@@ -260,8 +276,9 @@ public class PolicyManagementService {
 	 */
 	private void validatePolicy(String policyType, JSONObject policies,PolicyManageEnum auditEnum) throws Exception {
 		try {
-			policyValidator.validatePolicies(getPolicySchema(policyType),
-					IOUtils.toString(policies.toString().getBytes(), "UTF-8"));
+			LoadedSchema schema = policySchemaStore.getLoadedSchema(policyType);
+			policyValidator.validatePolicies(policyType.toLowerCase() + ":" + schema.getVersion(), schema.getSchema(),
+					mapper.valueToTree(policies));
 		}catch(PolicyObjectValidationFailedException e) {
 			auditUtil.setAuditRequestDto(auditEnum);
 			logger.error("Error occured while validating the policy {} ", e.getLocalizedMessage(), e);
@@ -314,7 +331,8 @@ public class PolicyManagementService {
 	 * @param policy_group_name
 	 */
 	private PolicyGroup validatePolicyGroupName(String policy_group_name, boolean isExists,PolicyManageEnum auditEnum) {
-		PolicyGroup policy_group_by_name = policyGroupRepository.findByName(policy_group_name);
+		PolicyGroup policy_group_by_name = isExists ? policyGroupRepository.findByName(policy_group_name)
+				: referenceDataCache.getPolicyGroupByName(policy_group_name);
 		if (policy_group_by_name == null && !isExists) {
 			auditUtil.setAuditRequestDto(auditEnum, policy_group_name, "policyGroupName");
 			throw new PolicyManagementServiceException(ErrorMessages.POLICY_GROUP_NAME_NOT_EXISTS.getErrorCode(),
@@ -335,6 +353,8 @@ public class PolicyManagementService {
 	 */
 	private PolicyGroupCreateResponseDto savePolicyGroup(PolicyGroup policyGroup) {
 		policyGroupRepository.save(policyGroup);
+		referenceDataCache.invalidatePolicyGroups();
+		referenceDataCache.invalidate(POLICY_GROUP_TREE);
 		PolicyGroupCreateResponseDto responseDto = new PolicyGroupCreateResponseDto();
 		responseDto.setCr_by(policyGroup.getCrBy());
 		responseDto.setCr_dtimes(policyGroup.getCrDtimes());
@@ -385,6 +405,8 @@ public class PolicyManagementService {
 		authPolicy.setUpdBy(getUser());
 		authPolicy.setUpdDtimes(LocalDateTime.now());
 		authPolicyRepository.save(authPolicy);
+		policyObjectCache.evict(authPolicy.getId());
+		referenceDataCache.invalidate(POLICY_GROUP_TREE);
 		insertIntoAuthPolicyH(authPolicy);
 		notify(authPolicy.getId());		
 		auditUtil.setAuditRequestDto(PolicyManageEnum.PUBLISH_POLICY_SUCCESS, policyName, "policyId");
@@ -425,7 +447,7 @@ public class PolicyManagementService {
 		response.setUp_by(authPolicy.getUpdBy());
 		response.setUpd_dtimes(authPolicy.getUpdDtimes());
 		response.setVersion(authPolicy.getVersion());
-		response.setPolicies(getPolicyObject(authPolicy.getPolicyFileId()));
+		response.setPolicies(getPolicyObject(authPolicy));
 		return response;
 	}
 
@@ -455,7 +477,8 @@ public class PolicyManagementService {
 			authPolicy.setPolicyFileId(policyJson.toJSONString());
 			authPolicy.setUpdBy(getUser());
 			authPolicy.setUpdDtimes(LocalDateTime.now());			
-			notify(MapperUtils.mapPolicyToPublishDto(authPolicy,getPolicyObject(authPolicy.getPolicyFileId())));
+			policyObjectCache.evict(authPolicy.getId());
+			notify(MapperUtils.mapPolicyToPublishDto(authPolicy,getPolicyObject(authPolicy)));
 		} else {
 			authPolicy = new AuthPolicy();
 			authPolicy.setCrBy(getUser());
@@ -475,6 +498,7 @@ public class PolicyManagementService {
 		}
 
 		authPolicyRepository.save(authPolicy);
+		referenceDataCache.invalidate(POLICY_GROUP_TREE);
 		insertIntoAuthPolicyH(authPolicy);
 
 		PolicyCreateResponseDto responseDto = new PolicyCreateResponseDto();
@@ -556,11 +580,13 @@ public class PolicyManagementService {
 		authPolicy.setUpdBy(getUser());
 		authPolicy.setUpdDtimes(LocalDateTime.now());
 		authPolicyRepository.save(authPolicy);
+		policyObjectCache.evict(authPolicy.getId());
+		referenceDataCache.invalidate(POLICY_GROUP_TREE);
 		insertIntoAuthPolicyH(authPolicy);
 		ResponseWrapper<PolicyStatusUpdateResponseDto> response = new ResponseWrapper<>();
 		PolicyStatusUpdateResponseDto responseDto = new PolicyStatusUpdateResponseDto();
 		responseDto.setMessage("status updated successfully");
-		notify(MapperUtils.mapPolicyToPublishDto(authPolicy,getPolicyObject(authPolicy.getPolicyFileId())));
+		notify(MapperUtils.mapPolicyToPublishDto(authPolicy,getPolicyObject(authPolicy)));
 		response.setResponse(responseDto);
 		auditUtil.setAuditRequestDto(PolicyManageEnum.UPDATE_POLICY_STATUS_SUCCESS, policyId, "policyId");
 		return response;
@@ -578,11 +604,11 @@ public class PolicyManagementService {
 		Optional<PolicyGroup> policyGroup = Optional.empty();
 		Optional<AuthPolicy> authPolicy = Optional.empty();
 		if (hasToCheckWithName) {
-			policyGroup = Optional.of(policyGroupRepository.findByName(uniquePolicyGroupAttribute));
+			policyGroup = Optional.of(referenceDataCache.getPolicyGroupByName(uniquePolicyGroupAttribute));
 			authPolicy = Optional.of(authPolicyRepository.findByName(uniquePolicyAttribute));
 		}
 		if (!hasToCheckWithName) {
-			policyGroup = policyGroupRepository.findById(uniquePolicyGroupAttribute);
+			policyGroup = referenceDataCache.getPolicyGroupById(uniquePolicyGroupAttribute);
 			authPolicy = authPolicyRepository.findById(uniquePolicyAttribute);
 		}
 		if (policyGroup.isEmpty()) {
@@ -652,21 +678,6 @@ public class PolicyManagementService {
 		return authPolicy.get();
 	}
 
-	/**
-	 * 
-	 * @param policyGroupId
-	 * @return
-	 */
-	private PolicyGroup getPolicyGroup(String policyGroupId) {
-		Optional<PolicyGroup> policyGroup = policyGroupRepository.findById(policyGroupId);
-		if (policyGroup.isEmpty()) {
-			logger.error("Policy group not exists with id {} ", policyGroupId);
-			throw new PolicyManagementServiceException(ErrorMessages.POLICY_GROUP_ID_NOT_EXISTS.getErrorCode(),
-					ErrorMessages.POLICY_GROUP_ID_NOT_EXISTS.getErrorMessage());
-		}
-		return policyGroup.get();
-	}
-
 	/**
 	 * 
 	 * @param partnerId
@@ -695,6 +706,9 @@ public class PolicyManagementService {
 	}
 
 	/**
+	 * The policy group with its policies, read from the cached policy group tree.
+	 * The tree is loaded again when the group is not in it, as it may have been
+	 * created since the tree was loaded.
 	 * 
 	 * @param policyGroupId
 	 * @return
@@ -704,16 +718,18 @@ public class PolicyManagementService {
 	 */
 	public PolicyWithAuthPolicyDto getPolicyGroupPolicy(String policyGroupId)
 			throws JsonParseException, JsonMappingException, IOException {
-		PolicyGroup policyGroup = getPolicyGroup(policyGroupId);
-		List<AuthPolicy> policies = authPolicyRepository.findByPolicyGroupId(policyGroupId);
-		List<PolicyDto> policyGroupPolicies = new ArrayList<PolicyDto>();
-		for (AuthPolicy authPolicy : policies) {
-			policyGroupPolicies.add(mapPolicyToPolicyDto(authPolicy));
+		PolicyWithAuthPolicyDto policyGroup = getPolicyGroupTree().getPolicyGroup(policyGroupId);
+		if (policyGroup == null) {
+			PolicyGroupTree policyGroupTree = referenceDataCache.reload(POLICY_GROUP_TREE, ALL,
+					this::loadPolicyGroupTree);
+			policyGroup = policyGroupTree.getPolicyGroup(policyGroupId);
 		}
-		PolicyWithAuthPolicyDto response = new PolicyWithAuthPolicyDto();
-		response.setPolicyGroup(policyGroup);
-		response.setPolicies(policyGroupPolicies);		
-		return response;
+		if (policyGroup == null) {
+			logger.error("Policy group not exists with id {} ", policyGroupId);
+			throw new PolicyManagementServiceException(ErrorMessages.POLICY_GROUP_ID_NOT_EXISTS.getErrorCode(),
+					ErrorMessages.POLICY_GROUP_ID_NOT_EXISTS.getErrorMessage());
+		}
+		return policyGroup;
 	}
 
 	/**
@@ -724,32 +740,41 @@ public class PolicyManagementService {
 	 * @throws IOException
 	 */
 	public List<PolicyWithAuthPolicyDto> getPolicyGroup() throws JsonParseException, JsonMappingException, IOException {
-		List<PolicyGroup> policyGroups = policyGroupRepository.findAll();
+		return getPolicyGroupTree().getPolicyGroups();
+	}
+
+	/**
+	 * Every policy group with its policies, read with two queries and cached until
+	 * a policy or policy group is written.
+	 * 
+	 * @return
+	 */
+	public PolicyGroupTree getPolicyGroupTree() {
+		return referenceDataCache.get(POLICY_GROUP_TREE, ALL, this::loadPolicyGroupTree);
+	}
+
+	private PolicyGroupTree loadPolicyGroupTree() {
+		Map<String, List<PolicyDto>> policiesByGroup = new HashMap<>();
+		for (AuthPolicy authPolicy : authPolicyRepository.findAllWithPolicyGroup()) {
+			policiesByGroup.computeIfAbsent(authPolicy.getPolicyGroup().getId(), id -> new ArrayList<>())
+					.add(mapPolicyToPolicyDto(authPolicy));
+		}
 		List<PolicyWithAuthPolicyDto> response = new ArrayList<PolicyWithAuthPolicyDto>();
-		for (PolicyGroup policyGroup : policyGroups) {
+		for (PolicyGroup policyGroup : policyGroupRepository.findAll()) {
 			PolicyWithAuthPolicyDto policyGroupWthPolicy = new PolicyWithAuthPolicyDto();
-			List<AuthPolicy> policies = authPolicyRepository.findByPolicyGroupId(policyGroup.getId());
-			List<PolicyDto> policyGroupPolicies = new ArrayList<PolicyDto>();
-			for (AuthPolicy authPolicy : policies) {
-				policyGroupPolicies.add(mapPolicyToPolicyDto(authPolicy));
-			}
 			policyGroupWthPolicy.setPolicyGroup(policyGroup);
-			policyGroupWthPolicy.setPolicies(policyGroupPolicies);
+			policyGroupWthPolicy.setPolicies(policiesByGroup.getOrDefault(policyGroup.getId(), new ArrayList<>()));
 			response.add(policyGroupWthPolicy);
-		}		
-		return response;
+		}
+		return new PolicyGroupTree(response);
 	}
 
 	/**
 	 * 
 	 * @param authPolicy
 	 * @return
-	 * @throws JsonParseException
-	 * @throws JsonMappingException
-	 * @throws IOException
 	 */
-	private PolicyDto mapPolicyToPolicyDto(AuthPolicy authPolicy)
-			throws JsonParseException, JsonMappingException, IOException {
+	private PolicyDto mapPolicyToPolicyDto(AuthPolicy authPolicy) {
 		PolicyDto policyDto = new PolicyDto();
 		policyDto.setCr_by(authPolicy.getCrBy());
 		policyDto.setCr_dtimes(getLocalDateTime(authPolicy.getCrDtimes()));
@@ -764,15 +789,14 @@ public class PolicyManagementService {
 		policyDto.setUpd_dtimes(authPolicy.getUpdDtimes());
 		policyDto.setValidTill(authPolicy.getValidToDate());
 		policyDto.setVersion(authPolicy.getVersion());
-		policyDto.setPolicies(getPolicyObject(authPolicy.getPolicyFileId()));
+		policyDto.setPolicies(getPolicyObject(authPolicy));
 		return policyDto;
 	}
 
-	private JSONObject getPolicyObject(String policy) {
-		JSONParser parser = new JSONParser();
+	private JSONObject getPolicyObject(AuthPolicy authPolicy) {
 		String error = null;
 		try {
-			return ((JSONObject) parser.parse(policy));
+			return policyObjectCache.getPolicyObject(authPolicy);
 		} catch (ParseException e) {
 			logger.error("Error occured while getting the getPolicyObject {} ", e.getLocalizedMessage(), e);
 			auditUtil.setAuditRequestDto(PolicyManageEnum.GET_POLICY_FAILURE);
@@ -818,21 +842,6 @@ public class PolicyManagementService {
 		}
 	}
 
-	/**
-	 * 
-	 * @param version
-	 * @return
-	 * @throws IOException
-	 * @throws MalformedURLException
-	 * @throws JsonMappingException
-	 * @throws JsonParseException
-	 */
-	private String getPolicySchema(String policyType)
-			throws JsonParseException, JsonMappingException, MalformedURLException, IOException {
-		return mapper.readValue(new URL(environment.getProperty("pmp." + policyType.toLowerCase() + ".policy.schema")),
-				JsonNode.class).toString();
-	}
-
 	/**
 	 * 
 	 * @param partner
@@ -856,10 +865,11 @@ public class PolicyManagementService {
 	public PageResponseDto<PartnerPolicySearchDto> searchPartnerPolicy(SearchDto dto) {
 		List<PartnerPolicySearchDto> partnerPolicies = new ArrayList<>();
 		PageResponseDto<PartnerPolicySearchDto> pageDto = new PageResponseDto<>();
-		Page<PartnerPolicy> page = searchHelper.search(PartnerPolicy.class, dto);
+		Page<PartnerPolicySearchDto> page = searchHelper.searchProjected(PartnerPolicy.class,
+				PartnerPolicySearchDto.class, PartnerPolicySearchDto.COLUMNS, dto);
 		if (page.getContent() != null && !page.getContent().isEmpty()) {
-			partnerPolicies = MapperUtils.mapAll(page.getContent(), PartnerPolicySearchDto.class);
-			pageDto = pageUtils.sortPage(partnerPolicies, dto.getSort(), dto.getPagination(),page.getTotalElements());
+			partnerPolicies = page.getContent();
+			pageDto = pageUtils.pageResponse(page, partnerPolicies);
 		}
 		return pageDto;
 	}
@@ -867,10 +877,10 @@ public class PolicyManagementService {
 	public PageResponseDto<PolicyGroup> searchPolicyGroup(SearchDto dto) {
 		List<PolicyGroup> policies = new ArrayList<>();
 		PageResponseDto<PolicyGroup> pageDto = new PageResponseDto<>();
-		Page<PolicyGroup> page = searchHelper.search(PolicyGroup.class, dto);
+		Page<PolicyGroup> page = searchHelper.searchPaged(PolicyGroup.class, dto);
 		if (page.getContent() != null && !page.getContent().isEmpty()) {
 			policies = MapperUtils.mapAll(page.getContent(), PolicyGroup.class);
-			pageDto = pageUtils.sortPage(policies, dto.getSort(), dto.getPagination(), page.getTotalElements());
+			pageDto = pageUtils.pageResponse(page, policies);
 		}
 		auditUtil.setAuditRequestDto(PolicyManageEnum.SEARCH_POLICY_GROUP_SUCCESS);
 		return pageDto;
@@ -878,6 +888,20 @@ public class PolicyManagementService {
 
 
 	public PageResponseDto<SearchAuthPolicy> searchPolicy(PolicySearchDto dto) {
+		return searchPolicy(dto, false);
+	}
+
+	/**
+	 * Searches the policies page by page using the cursor of the previous page.
+	 * 
+	 * @param dto
+	 * @return
+	 */
+	public PageResponseDto<SearchAuthPolicy> searchPolicyByCursor(PolicySearchDto dto) {
+		return searchPolicy(dto, true);
+	}
+
+	private PageResponseDto<SearchAuthPolicy> searchPolicy(PolicySearchDto dto, boolean byCursor) {
 		List<SearchAuthPolicy> policies = new ArrayList<>();
 		PageResponseDto<SearchAuthPolicy> pageDto = new PageResponseDto<>();
 		if (!dto.getPolicyType().equalsIgnoreCase(ALL)) {
@@ -891,28 +915,24 @@ public class PolicyManagementService {
 			dto.setFilters(filters);
 		}		
 		
-		Optional<SearchFilter> policyGroupNameFilter = dto.getFilters().stream()
-				.filter(cn -> cn.getColumnName().equalsIgnoreCase("policyGroupName")).findFirst();
-		dto.getFilters().removeIf(f->f.getColumnName().equalsIgnoreCase("policyGroupName"));		
-		Optional<SearchFilter> policydescFilter = dto.getFilters().stream()
-				.filter(cn -> cn.getColumnName().equalsIgnoreCase("desc")).findFirst();		
-		dto.getFilters().removeIf(f->f.getColumnName().equalsIgnoreCase("desc"));
-		if(policydescFilter.isPresent()) {
-			policydescFilter.get().setColumnName("descr");
-			dto.getFilters().add(policydescFilter.get());
+		SearchHelper.mapColumns(dto, POLICY_SEARCH_COLUMNS);
+		Page<AuthPolicy> page = null;
+		PageResponseDto<AuthPolicy> cursorPage = null;
+		List<AuthPolicy> content;
+		if (byCursor) {
+			cursorPage = searchHelper.searchByCursor(AuthPolicy.class, dto, null);
+			content = cursorPage.getData();
+		} else {
+			page = searchHelper.searchPaged(AuthPolicy.class, dto);
+			content = page.getContent();
 		}
-		
-		Page<AuthPolicy> page = searchHelper.search(AuthPolicy.class, dto);
-		if (page.getContent() != null && !page.getContent().isEmpty()) {
-			if (policyGroupNameFilter.isPresent()) {
-				String value = policyGroupNameFilter.get().getValue();
-				policies = MapperUtils.mapAuthPolicySearch(page.getContent().stream()
-						.filter(f -> f.getPolicyGroup().getName().contains(value))
-						.collect(Collectors.toList()));
-			} else {
-				policies = MapperUtils.mapAuthPolicySearch(page.getContent());
-			}
-			pageDto = pageUtils.sortPage(policies, dto.getSort(), dto.getPagination(), page.getTotalElements());
+		if (content != null && !content.isEmpty()) {
+			policies = MapperUtils.mapAuthPolicySearch(content);
+		}
+		if (byCursor) {
+			pageDto = pageUtils.cursorPageResponse(cursorPage, policies);
+		} else {
+			pageDto = pageUtils.pageResponse(page, policies);
 		}
 		auditUtil.setAuditRequestDto(PolicyManageEnum.SEARCH_POLICY_SUCCESS);
 		return pageDto;
@@ -1021,7 +1041,7 @@ public class PolicyManagementService {
 	 * @return
 	 */
 	public List<PolicyDetailsDto> getActivePolicyDetailsByGroupName(String policyGroupName) {
-		PolicyGroup policy_group_by_name = policyGroupRepository.findByName(policyGroupName);
+		PolicyGroup policy_group_by_name = referenceDataCache.getPolicyGroupByName(policyGroupName);
 		if (policy_group_by_name == null) {
 			logger.error("Policy group not exists with name {}", policyGroupName);
 			throw new PolicyManagementServiceException(ErrorMessages.POLICY_GROUP_NAME_NOT_EXISTS.getErrorCode(),
@@ -0,0 +1,235 @@
+package io.mosip.pms.policy.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.pms.common.util.PMSLogger;
+
+/**
+ * Holds the policy schema of every allowed policy type in memory.
+ *
+ * Schemas are loaded at startup from the pmp.&lt;type&gt;.policy.schema urls and
+ * refreshed in the background with conditional requests, so an unchanged
+ * schema is not downloaded again and an unreachable server leaves the last
+ * loaded schema in use. The loaded versions are shown by the policyschemas
+ * actuator endpoint.
+ *
+ */
+@Component
+@Endpoint(id = "policyschemas")
+public class PolicySchemaStore {
+
+	private static final Logger logger = PMSLogger.getLogger(PolicySchemaStore.class);
+
+	@Autowired
+	private Environment environment;
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	@Value("${pmp.allowed.policy.types}")
+	private String supportedPolicyTypes;
+
+	@Value("${pmp.policy.schema.refresh-interval:300000}")
+	private long refreshInterval;
+
+	@Value("${pmp.policy.schema.timeout:10000}")
+	private int timeout;
+
+	private final Map<String, LoadedSchema> schemas = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService refresher;
+
+	@PostConstruct
+	public void init() {
+		refreshAll();
+		refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "pms-policy-schema-refresh");
+			thread.setDaemon(true);
+			return thread;
+		});
+		refresher.scheduleWithFixedDelay(this::refreshAll, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void destroy() {
+		refresher.shutdownNow();
+	}
+
+	/**
+	 * Returns the schema of the policy type, loading it if it could not be loaded
+	 * before.
+	 *
+	 * @param policyType
+	 * @return
+	 * @throws IOException
+	 */
+	public String getSchema(String policyType) throws IOException {
+		return getLoadedSchema(policyType).getSchema();
+	}
+
+	/**
+	 * Returns the loaded schema of the policy type with its version, loading it if
+	 * it could not be loaded before.
+	 *
+	 * @param policyType
+	 * @return
+	 * @throws IOException
+	 */
+	public LoadedSchema getLoadedSchema(String policyType) throws IOException {
+		LoadedSchema schema = schemas.get(policyType.toLowerCase());
+		if (schema == null) {
+			schema = load(policyType.toLowerCase(), null);
+		}
+		return schema;
+	}
+
+	@ReadOperation
+	public Map<String, Map<String, Object>> loadedSchemas() {
+		Map<String, Map<String, Object>> view = new LinkedHashMap<>();
+		schemas.forEach((policyType, schema) -> {
+			Map<String, Object> details = new LinkedHashMap<>();
+			details.put("url", schema.url);
+			details.put("version", schema.version);
+			details.put("etag", schema.etag);
+			details.put("lastModified", schema.lastModified);
+			details.put("loadedAt", schema.loadedAt);
+			details.put("lastCheckedAt", schema.lastCheckedAt);
+			view.put(policyType, details);
+		});
+		return view;
+	}
+
+	private void refreshAll() {
+		for (String policyType : supportedPolicyTypes.split(",")) {
+			String key = policyType.trim().toLowerCase();
+			try {
+				load(key, schemas.get(key));
+			} catch (IOException | RuntimeException e) {
+				logger.warn("Could not load the policy schema of type {} : {}", key, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Loads the schema of the policy type. When the current schema is given, the
+	 * request is conditional and the current schema is kept if not modified.
+	 *
+	 * @param policyType
+	 * @param current
+	 * @return
+	 * @throws IOException
+	 */
+	private LoadedSchema load(String policyType, LoadedSchema current) throws IOException {
+		URL url = new URL(environment.getProperty("pmp." + policyType + ".policy.schema"));
+		URLConnection connection = url.openConnection();
+		connection.setConnectTimeout(timeout);
+		connection.setReadTimeout(timeout);
+		if (current != null && current.url.equals(url.toString())) {
+			if (current.etag != null) {
+				connection.setRequestProperty(HttpHeaders.IF_NONE_MATCH, current.etag);
+			}
+			if (current.lastModified != null) {
+				connection.setRequestProperty(HttpHeaders.IF_MODIFIED_SINCE, current.lastModified);
+			}
+		}
+		try {
+			if (current != null && connection instanceof HttpURLConnection
+					&& ((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+				current.lastCheckedAt = LocalDateTime.now();
+				return current;
+			}
+			String schema;
+			try (InputStream stream = connection.getInputStream()) {
+				schema = mapper.readTree(stream).toString();
+			}
+			LoadedSchema loaded = new LoadedSchema(url.toString(), schema, connection.getHeaderField(HttpHeaders.ETAG),
+					connection.getHeaderField(HttpHeaders.LAST_MODIFIED));
+			if (current == null || !current.version.equals(loaded.version)) {
+				logger.info("Loaded policy schema of type {} version {}", policyType, loaded.version);
+			}
+			schemas.put(policyType, loaded);
+			return loaded;
+		} finally {
+			if (connection instanceof HttpURLConnection) {
+				((HttpURLConnection) connection).disconnect();
+			}
+		}
+	}
+
+	private static String version(String schema) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(schema.getBytes(StandardCharsets.UTF_8));
+			StringBuilder version = new StringBuilder();
+			for (int i = 0; i < 8; i++) {
+				version.append(String.format("%02x", digest[i]));
+			}
+			return version.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public static final class LoadedSchema {
+
+		private final String url;
+
+		private final String schema;
+
+		private final String version;
+
+		private final String etag;
+
+		private final String lastModified;
+
+		private final LocalDateTime loadedAt = LocalDateTime.now();
+
+		private volatile LocalDateTime lastCheckedAt = loadedAt;
+
+		public LoadedSchema(String url, String schema, String etag, String lastModified) {
+			this.url = url;
+			this.schema = schema;
+			this.version = version(schema);
+			this.etag = etag;
+			this.lastModified = lastModified;
+		}
+
+		public String getSchema() {
+			return schema;
+		}
+
+		/**
+		 * @return the hash of the schema text, computed once when it is loaded
+		 */
+		public String getVersion() {
+			return version;
+		}
+	}
+}
@@ -1,6 +1,6 @@
 package io.mosip.pms.policy.util;
 
-import java.security.SecureRandom;
+import io.mosip.pms.common.util.IdGenerator;
 
 /**
  * 
@@ -10,7 +10,6 @@ import java.security.SecureRandom;
 public class PolicyUtil {
 	
 	public static String generateId() {
-		SecureRandom random = new SecureRandom();
-		return random.nextInt(100000) + "";
+		return IdGenerator.timeOrdered().generateId();
 	}
 }
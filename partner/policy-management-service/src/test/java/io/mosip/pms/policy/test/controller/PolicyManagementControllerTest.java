@@ -38,6 +38,8 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -57,6 +59,7 @@ import io.mosip.pms.common.entity.PolicyGroup;
 import io.mosip.pms.policy.dto.RequestWrapper;
 import io.mosip.pms.common.validator.FilterColumnValidator;
 import io.mosip.pms.policy.errorMessages.PolicyManagementServiceException;
+import io.mosip.pms.policy.service.PolicyGroupTree;
 import io.mosip.pms.policy.service.PolicyManagementService;
 import io.mosip.pms.policy.test.PolicyServiceTest;
 import io.mosip.pms.policy.util.AuditUtil;
@@ -140,8 +143,21 @@ public class PolicyManagementControllerTest {
 	@Test
 	@WithMockUser(roles = {"POLICYMANAGER"})
 	public void getPolicyGroups() throws PolicyManagementServiceException, Exception{
+		PolicyGroupTree policyGroupTree = new PolicyGroupTree(new ArrayList<>());
+		Mockito.when(policyManagementService.getPolicyGroupTree()).thenReturn(policyGroupTree);
 		mockMvc.perform(MockMvcRequestBuilders.get("/policies/group/all")).
-		andExpect(MockMvcResultMatchers.status().isOk());
+		andExpect(MockMvcResultMatchers.status().isOk()).
+		andExpect(MockMvcResultMatchers.header().string("ETag", "\"" + policyGroupTree.getETag() + "\""));
+	}
+
+	@Test
+	@WithMockUser(roles = {"POLICYMANAGER"})
+	public void getPolicyGroupsNotModifiedTest() throws Exception{
+		PolicyGroupTree policyGroupTree = new PolicyGroupTree(new ArrayList<>());
+		Mockito.when(policyManagementService.getPolicyGroupTree()).thenReturn(policyGroupTree);
+		mockMvc.perform(MockMvcRequestBuilders.get("/policies/group/all").header("If-None-Match",
+				"\"" + policyGroupTree.getETag() + "\"")).
+		andExpect(MockMvcResultMatchers.status().isNotModified());
 	}
 		
 	@Test
@@ -710,8 +726,9 @@ public class PolicyManagementControllerTest {
 	@Test
 	public void testGetPolicyGroup() throws JsonParseException, JsonMappingException, IOException {
 		List<PolicyWithAuthPolicyDto> mockedResponseList = new ArrayList<>();
-		Mockito.when(policyManagementService.getPolicyGroup()).thenReturn(mockedResponseList);
-		ResponseWrapper<List<PolicyWithAuthPolicyDto>> response = policyManagementController.getPolicyGroup();
+		Mockito.when(policyManagementService.getPolicyGroupTree()).thenReturn(new PolicyGroupTree(mockedResponseList));
+		ResponseWrapper<List<PolicyWithAuthPolicyDto>> response = policyManagementController
+				.getPolicyGroup(new ServletWebRequest(new MockHttpServletRequest()));
 		assertNotNull(response);
 		assertNotNull(response.getResponse());
 		assertEquals(mockedResponseList, response.getResponse());
@@ -0,0 +1,128 @@
+package io.mosip.pms.policy.test.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import io.mosip.pms.common.dto.Pagination;
+import io.mosip.pms.common.dto.SearchDto;
+import io.mosip.pms.common.dto.SearchFilter;
+import io.mosip.pms.common.dto.SearchSort;
+import io.mosip.pms.common.entity.Partner;
+import io.mosip.pms.common.entity.PartnerPolicy;
+import io.mosip.pms.common.exception.RequestException;
+import io.mosip.pms.common.helper.SearchHelper;
+import io.mosip.pms.common.repository.PartnerPolicyRepository;
+import io.mosip.pms.common.repository.PartnerRepository;
+import io.mosip.pms.policy.dto.PartnerPolicySearchDto;
+
+/**
+ * Searches the partner policies in the database, selecting the columns of
+ * {@link PartnerPolicySearchDto}.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class PartnerPolicySearchTest {
+
+	private static final int ROWS = 3;
+
+	@Autowired
+	private SearchHelper searchHelper;
+
+	@Autowired
+	private PartnerRepository partnerRepository;
+
+	@Autowired
+	private PartnerPolicyRepository partnerPolicyRepository;
+
+	private Timestamp validTo;
+
+	@Before
+	public void setUp() {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now().withNano(0));
+		validTo = Timestamp.valueOf(LocalDateTime.now().plusDays(30).withNano(0));
+		Partner partner = new Partner();
+		partner.setId("projection-partner");
+		partner.setName("projection partner");
+		partner.setIsActive(true);
+		partner.setIsDeleted(false);
+		partner.setCrBy("test");
+		partner.setCrDtimes(now);
+		partnerRepository.save(partner);
+		for (int i = 0; i < ROWS; i++) {
+			PartnerPolicy partnerPolicy = new PartnerPolicy();
+			partnerPolicy.setPolicyApiKey("projection-key-" + i);
+			partnerPolicy.setPolicyId("projection-policy-" + (i % 2));
+			partnerPolicy.setPartner(partner);
+			partnerPolicy.setIsActive(true);
+			partnerPolicy.setIsDeleted(false);
+			partnerPolicy.setCrBy("test");
+			partnerPolicy.setCrDtimes(now);
+			partnerPolicy.setValidFromDatetime(now);
+			partnerPolicy.setValidToDatetime(validTo);
+			partnerPolicyRepository.save(partnerPolicy);
+		}
+	}
+
+	@After
+	public void tearDown() {
+		partnerPolicyRepository.deleteAll();
+		partnerRepository.deleteAll();
+	}
+
+	@Test
+	public void searchProjectedPartnerPoliciesTest() {
+		Page<PartnerPolicySearchDto> page = searchHelper.searchProjected(PartnerPolicy.class,
+				PartnerPolicySearchDto.class, PartnerPolicySearchDto.COLUMNS, searchDto("projection-policy-0"));
+		assertEquals(2, page.getTotalElements());
+		assertEquals("projection-key-2", page.getContent().get(0).getPolicyApiKey());
+		assertEquals("projection-key-0", page.getContent().get(1).getPolicyApiKey());
+		for (PartnerPolicySearchDto partnerPolicy : page.getContent()) {
+			assertEquals("projection-policy-0", partnerPolicy.getPolicyId());
+			assertEquals("test", partnerPolicy.getCrBy());
+			assertEquals(validTo, partnerPolicy.getValidToDatetime());
+			assertTrue(partnerPolicy.getIsActive());
+		}
+	}
+
+	@Test(expected = RequestException.class)
+	public void searchProjectedUnknownColumnTest() {
+		searchHelper.searchProjected(PartnerPolicy.class, PartnerPolicySearchDto.class, List.of("policyApiKey", "name"),
+				searchDto("projection-policy-0"));
+	}
+
+	private SearchDto searchDto(String policyId) {
+		SearchDto searchDto = new SearchDto();
+		SearchFilter filter = new SearchFilter();
+		filter.setColumnName("policyId");
+		filter.setType("equals");
+		filter.setValue(policyId);
+		List<SearchFilter> filters = new ArrayList<>();
+		filters.add(filter);
+		searchDto.setFilters(filters);
+		SearchSort sort = new SearchSort();
+		sort.setSortField("policyApiKey");
+		sort.setSortType("desc");
+		List<SearchSort> sorts = new ArrayList<>();
+		sorts.add(sort);
+		searchDto.setSort(sorts);
+		Pagination pagination = new Pagination();
+		pagination.setPageStart(0);
+		pagination.setPageFetch(10);
+		searchDto.setPagination(pagination);
+		return searchDto;
+	}
+}
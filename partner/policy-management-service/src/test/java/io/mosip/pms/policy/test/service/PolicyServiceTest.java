@@ -1,10 +1,12 @@
 package io.mosip.pms.policy.test.service;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.URL;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -36,11 +38,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.mosip.pms.common.dto.FilterData;
 import io.mosip.pms.common.dto.FilterDto;
 import io.mosip.pms.common.dto.FilterValueDto;
+import io.mosip.pms.common.dto.PageResponseDto;
 import io.mosip.pms.common.dto.Pagination;
 import io.mosip.pms.common.dto.PolicyFilterValueDto;
 import io.mosip.pms.common.dto.PolicySearchDto;
 import io.mosip.pms.common.dto.SearchDto;
 import io.mosip.pms.common.dto.SearchFilter;
+import io.mosip.pms.common.dto.SearchAuthPolicy;
 import io.mosip.pms.common.dto.SearchSort;
 import io.mosip.pms.common.entity.AuthPolicy;
 import io.mosip.pms.common.entity.Partner;
@@ -54,17 +58,22 @@ import io.mosip.pms.common.repository.AuthPolicyRepository;
 import io.mosip.pms.common.repository.PartnerPolicyRepository;
 import io.mosip.pms.common.repository.PolicyGroupRepository;
 import io.mosip.pms.common.util.PageUtils;
+import io.mosip.pms.common.util.ReferenceDataCache;
 import io.mosip.pms.common.validator.FilterColumnValidator;
+import io.mosip.pms.policy.dto.PartnerPolicySearchDto;
 import io.mosip.pms.policy.dto.PolicyAttributesDto;
 import io.mosip.pms.policy.dto.PolicyCreateRequestDto;
 import io.mosip.pms.policy.dto.PolicyGroupCreateRequestDto;
 import io.mosip.pms.policy.dto.PolicyGroupUpdateRequestDto;
 import io.mosip.pms.policy.dto.PolicyStatusUpdateRequestDto;
 import io.mosip.pms.policy.dto.PolicyUpdateRequestDto;
+import io.mosip.pms.policy.dto.PolicyWithAuthPolicyDto;
 import io.mosip.pms.policy.errorMessages.ErrorMessages;
 import io.mosip.pms.policy.errorMessages.PolicyManagementServiceException;
 import io.mosip.pms.policy.service.PolicyManagementService;
 import io.mosip.pms.policy.util.AuditUtil;
+import io.mosip.pms.policy.util.PolicySchemaStore;
+import io.mosip.pms.policy.util.PolicySchemaStore.LoadedSchema;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
@@ -105,6 +114,9 @@ public class PolicyServiceTest {
 	
 	@Mock
 	PageUtils pageUtils;
+
+	@Mock
+	PolicySchemaStore policySchemaStore;
 	
 	private String authPolicySchema = "{\r\n" + 
 			"	\"$schema\": \"http://json-schema.org/draft-04/schema#\",\r\n" + 
@@ -192,6 +204,12 @@ public class PolicyServiceTest {
 		ReflectionTestUtils.setField(service, "pageUtils", pageUtils);
 		ReflectionTestUtils.setField(service, "filterHelper", filterHelper);
 		ReflectionTestUtils.setField(service, "mapper", mapper);
+		Mockito.when(mapper.valueToTree(Mockito.any()))
+				.thenAnswer(invocation -> new ObjectMapper().valueToTree(invocation.getArgument(0)));
+		ReflectionTestUtils.setField(service, "policySchemaStore", policySchemaStore);
+		ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+		ReflectionTestUtils.setField(referenceDataCache, "policyGroupRepository", policyGroupRepository);
+		ReflectionTestUtils.setField(service, "referenceDataCache", referenceDataCache);
 
 		Mockito.doNothing().when(webSubPublisher).notify(Mockito.any(), Mockito.any(), Mockito.any());
 		Mockito.doNothing().when(audit).setAuditRequestDto(Mockito.any());
@@ -292,7 +310,7 @@ public class PolicyServiceTest {
 		request.setVersion("0.10");
 		ObjectMapper objectMapper = new ObjectMapper();
 		JsonNode actualObj = objectMapper.readTree(authPolicySchema);
-		Mockito.when(mapper.readValue(new URL("http://localhost:8999/schema"), JsonNode.class)).thenReturn(actualObj);
+		Mockito.when(policySchemaStore.getLoadedSchema(Mockito.anyString())).thenReturn(loadedSchema(actualObj.toString()));
 		Mockito.when(policyGroupRepository.findByName("Test_Policy_Group_001")).thenReturn(policyGroupData());
 		Mockito.when(authPolicyRepository.findByName("Test")).thenReturn(getAuthPolicy());
 		service.createPolicies(request);
@@ -305,7 +323,7 @@ public class PolicyServiceTest {
 		request.setPolicyType("Auth");		
 		ObjectMapper objectMapper = new ObjectMapper();
 		JsonNode actualObj = objectMapper.readTree(authPolicySchema);
-		Mockito.when(mapper.readValue(new URL("http://localhost:8999/schema"), JsonNode.class)).thenReturn(actualObj);
+		Mockito.when(policySchemaStore.getLoadedSchema(Mockito.anyString())).thenReturn(loadedSchema(actualObj.toString()));
 		Mockito.when(policyGroupRepository.findByName("Test_Policy_Group_001")).thenReturn(policyGroupData());
 		Mockito.when(authPolicyRepository.findByName("Test")).thenReturn(null);
 		service.createPolicies(request);
@@ -318,7 +336,7 @@ public class PolicyServiceTest {
 		request.setPolicies(createWrongAuthPolicyInput());
 		ObjectMapper objectMapper = new ObjectMapper();
 		JsonNode actualObj = objectMapper.readTree(authPolicySchema);
-		Mockito.when(mapper.readValue(new URL("http://localhost:8999/schema"), JsonNode.class)).thenReturn(actualObj);
+		Mockito.when(policySchemaStore.getLoadedSchema(Mockito.anyString())).thenReturn(loadedSchema(actualObj.toString()));
 		Mockito.when(policyGroupRepository.findByName("Test_Policy_Group_001")).thenReturn(policyGroupData());
 		Mockito.when(authPolicyRepository.findByName("Test")).thenReturn(null);
 		service.createPolicies(request);
@@ -346,7 +364,7 @@ public class PolicyServiceTest {
 	public void createPoliciesTest_S005() throws PolicyManagementServiceException, Exception {
 		PolicyCreateRequestDto request = createPoliciesRequest();
 		request.setPolicyType("Auth");		
-		Mockito.when(mapper.readValue(new URL("http://localhost:8999/schema"), String.class)).thenReturn(authPolicySchema);
+		Mockito.when(policySchemaStore.getLoadedSchema(Mockito.anyString())).thenReturn(loadedSchema(authPolicySchema));
 		PolicyGroup policyGroup = policyGroupData();
 		policyGroup.setIsActive(false);
 		Mockito.when(policyGroupRepository.findByName("Test_Policy_Group_001")).thenReturn(policyGroup);
@@ -358,7 +376,7 @@ public class PolicyServiceTest {
 	public void createPoliciesTest_S006() throws PolicyManagementServiceException, Exception {
 		PolicyCreateRequestDto request = createPoliciesRequest();
 		request.setPolicyType("Auth");		
-		Mockito.when(mapper.readValue(new URL("http://localhost:8999/schema"), String.class)).thenReturn(authPolicySchema);
+		Mockito.when(policySchemaStore.getLoadedSchema(Mockito.anyString())).thenReturn(loadedSchema(authPolicySchema));
 		PolicyGroup policyGroup = policyGroupData();
 		policyGroup.setIsActive(false);
 		Mockito.when(policyGroupRepository.findByName("Test_Policy_Group_001")).thenReturn(policyGroup);
@@ -373,7 +391,7 @@ public class PolicyServiceTest {
 		request.setVersion("0.10");
 		ObjectMapper objectMapper = new ObjectMapper();
 		JsonNode actualObj = objectMapper.readTree(authPolicySchema);
-		Mockito.when(mapper.readValue(new URL("http://localhost:8999/schema"), JsonNode.class)).thenReturn(actualObj);
+		Mockito.when(policySchemaStore.getLoadedSchema(Mockito.anyString())).thenReturn(loadedSchema(actualObj.toString()));
 		Mockito.when(policyGroupRepository.findByName("Test_Policy_Group_001")).thenReturn(policyGroupData());
 		Mockito.when(authPolicyRepository.findByName("Test")).thenReturn(getAuthPolicy());
 		Mockito.when(authPolicyRepository.findByPolicyGroupIdAndName("12345","Test")).thenReturn(getAuthPolicy());
@@ -384,6 +402,10 @@ public class PolicyServiceTest {
 		}
 	}
 	
+	private LoadedSchema loadedSchema(String schema) {
+		return new LoadedSchema("", schema, null, null);
+	}
+
 	private PolicyCreateRequestDto createPoliciesRequest() {
 		PolicyCreateRequestDto request= new PolicyCreateRequestDto();
 		request.setDesc("Test_001");
@@ -657,7 +679,7 @@ public class PolicyServiceTest {
 		Mockito.when(authPolicyRepository.findByPolicyGroupIdAndName("12345", "Test")).thenReturn(authPolicyName);
 		ObjectMapper objectMapper = new ObjectMapper();
 		JsonNode actualObj = objectMapper.readTree(authPolicySchema);
-		Mockito.when(mapper.readValue(new URL("http://localhost:8999/schema"), JsonNode.class)).thenReturn(actualObj);
+		Mockito.when(policySchemaStore.getLoadedSchema(Mockito.anyString())).thenReturn(loadedSchema(actualObj.toString()));
 		service.updatePolicies(request, "12345");
 	}
 	
@@ -689,7 +711,7 @@ public class PolicyServiceTest {
 		Mockito.when(authPolicyRepository.findByPolicyGroupIdAndName("12345", "Test_01")).thenReturn(authPolicyName);
 		ObjectMapper objectMapper = new ObjectMapper();
 		JsonNode actualObj = objectMapper.readTree(authPolicySchema);
-		Mockito.when(mapper.readValue(new URL("http://localhost:8999/schema"), JsonNode.class)).thenReturn(actualObj);
+		Mockito.when(policySchemaStore.getLoadedSchema(Mockito.anyString())).thenReturn(loadedSchema(actualObj.toString()));
 		service.updatePolicies(request, "12345");
 	}
 
@@ -909,13 +931,41 @@ public class PolicyServiceTest {
 	@Test
 	public void getPolicyGroupPolicyTest() throws JsonParseException, JsonMappingException, IOException {
 		List<PolicyGroup> policyGroups = new ArrayList<PolicyGroup>();
-		Optional<PolicyGroup> policy = Optional.of(new PolicyGroup());
-		policy.get().setId("12345");
-		policyGroups.add(policy.get());		
-		Optional<PolicyGroup> policyGroup = Optional.of(new PolicyGroup());
-		policyGroup.get().setId("12345");		
-		Mockito.when(policyGroupRepository.findById("12345")).thenReturn(policyGroup);
-		Mockito.when(authPolicyRepository.findByPolicyGroupId("12345")).thenReturn(getAuthPolicies());
+		PolicyGroup policyGroup = new PolicyGroup();
+		policyGroup.setId("12345");
+		policyGroups.add(policyGroup);
+		Mockito.when(policyGroupRepository.findAll()).thenReturn(policyGroups);
+		Mockito.when(authPolicyRepository.findAllWithPolicyGroup()).thenReturn(getAuthPolicies());
+		PolicyWithAuthPolicyDto response = service.getPolicyGroupPolicy("12345");
+		assertEquals("12345", response.getPolicyGroup().getId());
+		assertEquals(1, response.getPolicies().size());
+		Mockito.verify(authPolicyRepository, Mockito.never()).findByPolicyGroupId(Mockito.any());
+	}
+
+	@Test
+	public void getPolicyGroupPolicyReloadsTheTreeOnMissTest() throws JsonParseException, JsonMappingException, IOException {
+		ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+		ReflectionTestUtils.setField(referenceDataCache, "ttl", 60000L);
+		ReflectionTestUtils.setField(service, "referenceDataCache", referenceDataCache);
+		List<PolicyGroup> policyGroups = new ArrayList<PolicyGroup>();
+		PolicyGroup policyGroup = new PolicyGroup();
+		policyGroup.setId("12345");
+		policyGroups.add(policyGroup);
+		Mockito.when(policyGroupRepository.findAll()).thenReturn(policyGroups);
+		Mockito.when(authPolicyRepository.findAllWithPolicyGroup()).thenReturn(getAuthPolicies());
+		assertEquals(1, service.getPolicyGroupPolicy("12345").getPolicies().size());
+		PolicyGroup createdPolicyGroup = new PolicyGroup();
+		createdPolicyGroup.setId("67890");
+		policyGroups.add(createdPolicyGroup);
+		assertEquals(0, service.getPolicyGroupPolicy("67890").getPolicies().size());
+		service.getPolicyGroupPolicy("12345");
+		service.getPolicyGroupPolicy("67890");
+		Mockito.verify(policyGroupRepository, Mockito.times(2)).findAll();
+	}
+
+	@Test(expected = PolicyManagementServiceException.class)
+	public void getPolicyGroupPolicyOfUnknownGroupTest() throws JsonParseException, JsonMappingException, IOException {
+		Mockito.when(policyGroupRepository.findAll()).thenReturn(new ArrayList<>());
 		service.getPolicyGroupPolicy("12345");
 	}
 	
@@ -926,8 +976,27 @@ public class PolicyServiceTest {
 		policyGroup.get().setId("12345");		
 		policyGroups.add(policyGroup.get());
 		Mockito.when(policyGroupRepository.findAll()).thenReturn(policyGroups);
-		Mockito.when(authPolicyRepository.findByPolicyGroupId("12345")).thenReturn(getAuthPolicies());
-		service.getPolicyGroup();
+		Mockito.when(authPolicyRepository.findAllWithPolicyGroup()).thenReturn(getAuthPolicies());
+		List<PolicyWithAuthPolicyDto> response = service.getPolicyGroup();
+		assertEquals(1, response.size());
+		assertEquals(1, response.get(0).getPolicies().size());
+		Mockito.verify(authPolicyRepository, Mockito.never()).findByPolicyGroupId(Mockito.any());
+	}
+
+	@Test
+	public void getPolicyGroupTreeETagTest() {
+		List<PolicyGroup> policyGroups = new ArrayList<PolicyGroup>();
+		PolicyGroup policyGroup = new PolicyGroup();
+		policyGroup.setId("12345");
+		policyGroups.add(policyGroup);
+		Mockito.when(policyGroupRepository.findAll()).thenReturn(policyGroups);
+		List<AuthPolicy> policies = getAuthPolicies();
+		policies.get(0).setCrDtimes(Timestamp.valueOf(LocalDateTime.now()));
+		Mockito.when(authPolicyRepository.findAllWithPolicyGroup()).thenReturn(policies);
+		String eTag = service.getPolicyGroupTree().getETag();
+		assertEquals(eTag, service.getPolicyGroupTree().getETag());
+		policyGroup.setDesc("changed");
+		assertNotEquals(eTag, service.getPolicyGroupTree().getETag());
 	}
 	
 	@Test
@@ -1060,46 +1129,81 @@ public class PolicyServiceTest {
 	@Test
 	public void searchPolicyTest_01() {
 		AuthPolicy authPolicy = getAuthPolicy();
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(authPolicy))).when(searchHelper).search(Mockito.any(), Mockito.any());
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(authPolicy))).when(searchHelper).searchPaged(Mockito.any(), Mockito.any());
 		service.searchPolicy(policySearchDto);
 	}
 	
 	@SuppressWarnings("unchecked")
 	@Test
 	public void searchPolicyTest_02() {
-		Mockito.doReturn(new PageImpl<>(Collections.EMPTY_LIST)).when(searchHelper).search(Mockito.any(), Mockito.any());
+		Mockito.doReturn(new PageImpl<>(Collections.EMPTY_LIST)).when(searchHelper).searchPaged(Mockito.any(), Mockito.any());
 		service.searchPolicy(policySearchDto);
 	}
 	
 	@Test
 	public void searchPolicyTest_03() {
 		AuthPolicy authPolicy = getAuthPolicy();
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(authPolicy))).when(searchHelper).search(Mockito.any(), Mockito.any());
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(authPolicy))).when(searchHelper).searchPaged(Mockito.any(), Mockito.any());
 		policySearchDto.setPolicyType("all");
 		service.searchPolicy(policySearchDto);
 	}
 
+	@Test
+	public void searchPolicyByPolicyGroupNameTest() {
+		AuthPolicy authPolicy = getAuthPolicy();
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(authPolicy))).when(searchHelper).searchPaged(Mockito.any(), Mockito.any());
+		SearchFilter policyGroupNameFilter = new SearchFilter();
+		policyGroupNameFilter.setColumnName("policyGroupName");
+		policyGroupNameFilter.setType("contains");
+		policyGroupNameFilter.setValue("group");
+		SearchSort policyGroupNameSort = new SearchSort();
+		policyGroupNameSort.setSortField("policyGroupName");
+		policyGroupNameSort.setSortType("desc");
+		policySearchDto.setFilters(new ArrayList<>(Arrays.asList(policyGroupNameFilter)));
+		policySearchDto.setSort(new ArrayList<>(Arrays.asList(policyGroupNameSort)));
+		service.searchPolicy(policySearchDto);
+		assertEquals("policyGroup.name", policyGroupNameFilter.getColumnName());
+		assertEquals("policyGroup.name", policyGroupNameSort.getSortField());
+		Mockito.verify(searchHelper, Mockito.never()).search(Mockito.any(), Mockito.any());
+		Mockito.verify(pageUtils).pageResponse(Mockito.any(),
+				Mockito.<List<SearchAuthPolicy>>argThat(policies -> policies.size() == 1));
+	}
+
+	@Test
+	public void searchPolicyByCursorTest() {
+		AuthPolicy authPolicy = getAuthPolicy();
+		PageResponseDto<AuthPolicy> cursorPage = new PageResponseDto<>();
+		cursorPage.setData(Arrays.asList(authPolicy));
+		cursorPage.setNextCursor("next");
+		Mockito.doReturn(cursorPage).when(searchHelper).searchByCursor(Mockito.any(), Mockito.any(), Mockito.any());
+		service.searchPolicyByCursor(policySearchDto);
+	}
+
 	@Test
 	public void searchPolicyGroup_01() {
 		PolicyGroup policyGroup = new PolicyGroup();
 		policyGroup.setName("test");
 		policyGroup.setDesc("test");
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(policyGroup))).when(searchHelper).search(Mockito.any(), Mockito.any());
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(policyGroup))).when(searchHelper).searchPaged(Mockito.any(), Mockito.any());
 		service.searchPolicyGroup(policySearchDto);
 	}
 	
 	@SuppressWarnings("unchecked")
 	@Test
 	public void searchPolicyGroup_02() {
-		Mockito.doReturn(new PageImpl<>(Collections.EMPTY_LIST)).when(searchHelper).search(Mockito.any(), Mockito.any());
+		Mockito.doReturn(new PageImpl<>(Collections.EMPTY_LIST)).when(searchHelper).searchPaged(Mockito.any(), Mockito.any());
 		service.searchPolicyGroup(policySearchDto);
 	}
 	
 	@Test
 	public void searchPartnerPolicyTest_01() {
-		PartnerPolicy partnerPolicy = getPartnerPolicy();
-		Mockito.doReturn(new PageImpl<>(Arrays.asList(partnerPolicy))).when(searchHelper).search(Mockito.any(), Mockito.any());
+		PartnerPolicySearchDto partnerPolicy = new PartnerPolicySearchDto();
+		partnerPolicy.setPolicyApiKey("12345");
+		Mockito.doReturn(new PageImpl<>(Arrays.asList(partnerPolicy))).when(searchHelper)
+				.searchProjected(Mockito.eq(PartnerPolicy.class), Mockito.eq(PartnerPolicySearchDto.class),
+						Mockito.eq(PartnerPolicySearchDto.COLUMNS), Mockito.any());
 		service.searchPartnerPolicy(search);
+		Mockito.verify(pageUtils).pageResponse(Mockito.any(), Mockito.eq(Arrays.asList(partnerPolicy)));
 	}
 	
 	@Test
@@ -1166,14 +1270,6 @@ public class PolicyServiceTest {
 //	List<AuthPolicy> authPoliciesByGroupName = authPolicyRepository
 //			.findActivePoliciesByPolicyGroupId(policy_group_by_name.getId());
 
-	private PartnerPolicy getPartnerPolicy() {
-		PartnerPolicy partnerPolicy = new PartnerPolicy();
-		partnerPolicy.setPolicyApiKey("2345");
-		partnerPolicy.setIsActive(true);
-		partnerPolicy.setPolicyId("234");
-		return partnerPolicy;
-	}
-	
 	private List<AuthPolicy> getAuthPolicies(){
 		AuthPolicy policy = new AuthPolicy();
 		List<AuthPolicy> policies = new ArrayList<AuthPolicy>();
@@ -0,0 +1,153 @@
+package io.mosip.pms.policy.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import io.mosip.pms.policy.util.PolicySchemaStore;
+
+public class PolicySchemaStoreTest {
+
+	private static final String LAST_MODIFIED = "Thu, 01 Oct 2026 12:00:00 GMT";
+
+	private HttpServer schemaServer;
+
+	private List<Map<String, String>> requests;
+
+	private volatile String schema;
+
+	private volatile String etag;
+
+	private volatile boolean serverFails;
+
+	private PolicySchemaStore schemaStore;
+
+	@Before
+	public void setUp() throws IOException {
+		requests = new CopyOnWriteArrayList<>();
+		schema = "{\"type\":\"object\"}";
+		etag = "\"v1\"";
+		schemaServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		schemaServer.createContext("/schema", exchange -> {
+			String ifNoneMatch = exchange.getRequestHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+			String ifModifiedSince = exchange.getRequestHeaders().getFirst(HttpHeaders.IF_MODIFIED_SINCE);
+			requests.add(ifNoneMatch == null ? Map.of()
+					: Map.of(HttpHeaders.IF_NONE_MATCH, ifNoneMatch, HttpHeaders.IF_MODIFIED_SINCE, ifModifiedSince));
+			if (serverFails) {
+				exchange.sendResponseHeaders(500, -1);
+			} else if (etag.equals(ifNoneMatch)) {
+				exchange.sendResponseHeaders(304, -1);
+			} else {
+				byte[] body = schema.getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().add(HttpHeaders.ETAG, etag);
+				exchange.getResponseHeaders().add(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED);
+				exchange.sendResponseHeaders(200, body.length);
+				exchange.getResponseBody().write(body);
+			}
+			exchange.close();
+		});
+		schemaServer.start();
+
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty("pmp.auth.policy.schema",
+				"http://localhost:" + schemaServer.getAddress().getPort() + "/schema");
+		schemaStore = new PolicySchemaStore();
+		ReflectionTestUtils.setField(schemaStore, "environment", environment);
+		ReflectionTestUtils.setField(schemaStore, "mapper", new ObjectMapper());
+		ReflectionTestUtils.setField(schemaStore, "supportedPolicyTypes", "Auth");
+		// refreshed by the tests only
+		ReflectionTestUtils.setField(schemaStore, "refreshInterval", 3600000L);
+		ReflectionTestUtils.setField(schemaStore, "timeout", 1000);
+	}
+
+	@After
+	public void tearDown() {
+		schemaStore.destroy();
+		schemaServer.stop(0);
+	}
+
+	@Test
+	public void unchangedSchemaIsNotDownloadedAgainTest() throws IOException {
+		schemaStore.init();
+		assertEquals(schema, schemaStore.getSchema("auth"));
+		Object version = schemaStore.loadedSchemas().get("auth").get("version");
+		Object loadedAt = schemaStore.loadedSchemas().get("auth").get("loadedAt");
+		refresh();
+		assertEquals(List.of(Map.of(), Map.of(HttpHeaders.IF_NONE_MATCH, etag, HttpHeaders.IF_MODIFIED_SINCE,
+				LAST_MODIFIED)), requests);
+		assertEquals(schema, schemaStore.getSchema("Auth"));
+		Map<String, Object> loaded = schemaStore.loadedSchemas().get("auth");
+		assertEquals(version, loaded.get("version"));
+		assertEquals(loadedAt, loaded.get("loadedAt"));
+		assertEquals(etag, loaded.get("etag"));
+		assertEquals(LAST_MODIFIED, loaded.get("lastModified"));
+	}
+
+	@Test
+	public void changedSchemaIsLoadedTest() throws IOException {
+		schemaStore.init();
+		Object version = schemaStore.loadedSchemas().get("auth").get("version");
+		schema = "{\"type\":\"object\",\"required\":[\"authTokenType\"]}";
+		etag = "\"v2\"";
+		refresh();
+		assertEquals(schema, schemaStore.getSchema("auth"));
+		assertNotEquals(version, schemaStore.loadedSchemas().get("auth").get("version"));
+		assertEquals(etag, schemaStore.loadedSchemas().get("auth").get("etag"));
+	}
+
+	@Test
+	public void failedRefreshKeepsTheLastSchemaTest() throws IOException {
+		schemaStore.init();
+		String loaded = schema;
+		schema = "{\"type\":\"array\"}";
+		etag = "\"v2\"";
+		serverFails = true;
+		refresh();
+		assertEquals(2, requests.size());
+		assertEquals(loaded, schemaStore.getSchema("auth"));
+
+		schemaServer.stop(0);
+		refresh();
+		assertEquals(loaded, schemaStore.getSchema("auth"));
+		assertEquals(2, requests.size());
+	}
+
+	@Test
+	public void schemaNotLoadedAtStartupIsLoadedOnUseTest() throws IOException {
+		serverFails = true;
+		schemaStore.init();
+		assertNull(schemaStore.loadedSchemas().get("auth"));
+		try {
+			schemaStore.getSchema("auth");
+			fail();
+		} catch (IOException e) {
+			assertEquals(2, requests.size());
+		}
+		serverFails = false;
+		assertEquals(schema, schemaStore.getSchema("auth"));
+		assertEquals(schema, schemaStore.getSchema("auth"));
+		assertEquals(3, requests.size());
+	}
+
+	private void refresh() {
+		ReflectionTestUtils.invokeMethod(schemaStore, "refreshAll");
+	}
+}
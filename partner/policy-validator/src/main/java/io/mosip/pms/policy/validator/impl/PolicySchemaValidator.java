@@ -2,11 +2,11 @@ package io.mosip.pms.policy.validator.impl;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.StreamSupport;
 
-import org.json.JSONObject;
-
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -44,33 +44,94 @@ public class PolicySchemaValidator implements PolicyValidator{
 	public static final String PATH_SEPERATOR = "/";	
 	private static final String MISSING = "missing";
 	private static final String UNWANTED = "unwanted";
+	private static final int MAX_CACHED_SCHEMAS = 64;
+
+	private final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+
+	/** Compiled schemas keyed by the schema version, least recently used evicted first. */
+	private final Map<String, JsonSchema> schemaCache = new LinkedHashMap<String, JsonSchema>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, JsonSchema> eldest) {
+			return size() > MAX_CACHED_SCHEMAS;
+		}
+	};
 	
 	/**
 	 * 
 	 */
 	@Override
 	public boolean validatePolicies(String policySchema,String policies) throws InvalidPolicySchemaException, PolicyIOException, PolicyObjectValidationFailedException {
+		JsonNode policiesNode;
 		try {
-			JsonSchema jsonSchema=getJsonSchema(policySchema);			
-			JSONObject json = new JSONObject(policies);
-			
-			  JsonNode jsonIdObjectNode = JsonLoader.fromString(json.toString());
-				ProcessingReport report = jsonSchema.validate(jsonIdObjectNode, true);
-				if(!report.isSuccess()) {
-					List<ServiceError> errorList = getErrorsList(report);
-					if(!errorList.isEmpty()) {						
-						throw new PolicyObjectValidationFailedException(PolicyValidatorErrorConstant.POLICY_VALIDATION_FAILED, errorList);
-					}
+			policiesNode = JsonLoader.fromString(policies);
+		} catch (IOException e) {
+			ExceptionUtils.logRootCause(e);
+			throw new PolicyIOException(PolicyValidatorErrorConstant.SCHEMA_IO_EXCEPTION, e);
+		}
+		return validatePolicies(policySchema, policiesNode);
+	}
+
+	/**
+	 * The schema text is its own version.
+	 */
+	@Override
+	public boolean validatePolicies(String policySchema, JsonNode policies) throws InvalidPolicySchemaException, PolicyIOException, PolicyObjectValidationFailedException {
+		return validatePolicies(policySchema, policySchema, policies);
+	}
+
+	/**
+	 * 
+	 */
+	@Override
+	public boolean validatePolicies(String schemaVersion, String policySchema, JsonNode policies) throws InvalidPolicySchemaException, PolicyIOException, PolicyObjectValidationFailedException {
+		return validate(getJsonSchema(schemaVersion, policySchema), policies);
+	}
+
+	private boolean validate(JsonSchema jsonSchema, JsonNode policies) throws PolicyIOException, PolicyObjectValidationFailedException {
+		try {
+			ProcessingReport report = jsonSchema.validate(policies, true);
+			if(!report.isSuccess()) {
+				List<ServiceError> errorList = getErrorsList(report);
+				if(!errorList.isEmpty()) {						
+					throw new PolicyObjectValidationFailedException(PolicyValidatorErrorConstant.POLICY_VALIDATION_FAILED, errorList);
 				}
-			  return report.isSuccess(); 
-			}catch (IOException e) {
-				ExceptionUtils.logRootCause(e);
-				throw new PolicyIOException(PolicyValidatorErrorConstant.SCHEMA_IO_EXCEPTION, e);
-			}catch (ProcessingException e) {
-				ExceptionUtils.logRootCause(e);
-				throw new PolicyIOException(PolicyValidatorErrorConstant.POLICY_VALIDATION_FAILED, e);
-			} 
+			}
+			return report.isSuccess(); 
+		}catch (ProcessingException e) {
+			ExceptionUtils.logRootCause(e);
+			throw new PolicyIOException(PolicyValidatorErrorConstant.POLICY_VALIDATION_FAILED, e);
+		} 
+	}
 
+	/**
+	 * Returns the compiled schema, compiling it only the first time the schema
+	 * version is seen.
+	 * 
+	 * @param schemaVersion
+	 * @param policySchema
+	 * @return
+	 * @throws InvalidPolicySchemaException
+	 */
+	private JsonSchema getJsonSchema(String schemaVersion, String policySchema) throws InvalidPolicySchemaException  {
+		if (policySchema == null) {
+			throw new InvalidPolicySchemaException(PolicyValidatorErrorConstant.INVALID_POLICY_SCHEMA.getErrorCode(),
+					PolicyValidatorErrorConstant.INVALID_POLICY_SCHEMA.getMessage());  
+		}
+		String key = schemaVersion == null ? policySchema : schemaVersion;
+		JsonSchema jsonSchema;
+		synchronized (schemaCache) {
+			jsonSchema = schemaCache.get(key);
+		}
+		if (jsonSchema == null) {
+			jsonSchema = compileJsonSchema(policySchema);
+			synchronized (schemaCache) {
+				schemaCache.put(key, jsonSchema);
+			}
+		}
+		return jsonSchema;
 	}
 
 	/**
@@ -79,21 +140,15 @@ public class PolicySchemaValidator implements PolicyValidator{
 	 * @return
 	 * @throws InvalidPolicySchemaException
 	 */
-	private JsonSchema getJsonSchema(String policySchema) throws InvalidPolicySchemaException  {
+	private JsonSchema compileJsonSchema(String policySchema) throws InvalidPolicySchemaException  {
 		
 		try {
-			if (policySchema == null) {
-				throw new InvalidPolicySchemaException(PolicyValidatorErrorConstant.INVALID_POLICY_SCHEMA.getErrorCode(),
-						PolicyValidatorErrorConstant.INVALID_POLICY_SCHEMA.getMessage());  
-			}
-			JSONObject schema = new JSONObject(policySchema);			
-			JsonNode jsonIdSchemaNode = JsonLoader.fromString(schema.toString());			
+			JsonNode jsonIdSchemaNode = JsonLoader.fromString(policySchema);			
 			if (jsonIdSchemaNode.size() <= 0
 					|| !(jsonIdSchemaNode.hasNonNull("$schema") && jsonIdSchemaNode.hasNonNull("type"))) {
 				throw new InvalidPolicySchemaException(PolicyValidatorErrorConstant.SCHEMA_IO_EXCEPTION.getErrorCode(),
 						PolicyValidatorErrorConstant.SCHEMA_IO_EXCEPTION.getMessage()); 
 			}
-			final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();			
 			return  factory.getJsonSchema(jsonIdSchemaNode);
 		} catch (IOException | ProcessingException e) {
 			throw new InvalidPolicySchemaException(PolicyValidatorErrorConstant.SCHEMA_IO_EXCEPTION.getErrorCode(),
@@ -102,7 +157,7 @@ public class PolicySchemaValidator implements PolicyValidator{
 
 	
 	}
-	
+
 	/**
 	 * 
 	 * @param report
@@ -1,5 +1,7 @@
 package io.mosip.pms.policy.validator.spi;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import io.mosip.pms.policy.validator.exception.InvalidPolicySchemaException;
 import io.mosip.pms.policy.validator.exception.PolicyIOException;
 import io.mosip.pms.policy.validator.exception.PolicyObjectValidationFailedException;
@@ -7,5 +9,19 @@ import io.mosip.pms.policy.validator.exception.PolicyObjectValidationFailedExcep
 public interface PolicyValidator {
 
 	public boolean validatePolicies(String policySchema,String policies) throws InvalidPolicySchemaException, PolicyIOException, PolicyObjectValidationFailedException;
+
+	public boolean validatePolicies(String policySchema,JsonNode policies) throws InvalidPolicySchemaException, PolicyIOException, PolicyObjectValidationFailedException;
+
+	/**
+	 * Validates the policies against the schema, compiling the schema only the
+	 * first time its version is seen.
+	 * 
+	 * @param schemaVersion identifies the schema text, e.g. its policy type and
+	 *                      version
+	 * @param policySchema
+	 * @param policies
+	 * @return
+	 */
+	public boolean validatePolicies(String schemaVersion, String policySchema, JsonNode policies) throws InvalidPolicySchemaException, PolicyIOException, PolicyObjectValidationFailedException;
 	
 }
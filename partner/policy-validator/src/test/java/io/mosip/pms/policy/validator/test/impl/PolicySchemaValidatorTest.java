@@ -1,12 +1,17 @@
 package io.mosip.pms.policy.validator.test.impl;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileInputStream;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.util.Map;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.Before;
@@ -17,6 +22,7 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.pms.policy.validator.exception.InvalidPolicySchemaException;
@@ -89,4 +95,52 @@ public class PolicySchemaValidatorTest {
 
 	}
 
+	@Test
+	public void testValidatePoliciesFromJsonNode() throws IOException, InvalidPolicySchemaException, PolicyIOException, PolicyObjectValidationFailedException {
+		File policyFile = new File(classLoader.getResource("sample-qr-code-policy.json").getFile());
+		InputStream policyStream = new FileInputStream(policyFile);
+		String policyJson = IOUtils.toString(policyStream, "UTF-8");
+		assertTrue(policySchemaValidator.validatePolicies(schemaJson, policyJson));
+		assertTrue(policySchemaValidator.validatePolicies(schemaJson, new ObjectMapper().readTree(policyJson)));
+	}
+
+	@Test
+	public void testSchemaIsCompiledOncePerVersion() throws Exception {
+		JsonNode policy = readPolicy();
+		assertTrue(policySchemaValidator.validatePolicies("datashare:v1", schemaJson, policy));
+		// the compiled schema of the version is used without reading the text again
+		assertTrue(policySchemaValidator.validatePolicies("datashare:v1", "{}", policy));
+		try {
+			policySchemaValidator.validatePolicies("datashare:v2", "{}", policy);
+			fail();
+		} catch (InvalidPolicySchemaException e) {
+			// the schema of a new version is compiled
+		}
+	}
+
+	@Test
+	public void testLeastRecentlyUsedSchemaIsEvicted() throws Exception {
+		JsonNode policy = readPolicy();
+		for (int i = 0; i < 64; i++) {
+			policySchemaValidator.validatePolicies("datashare:v" + i, schemaJson, policy);
+		}
+		policySchemaValidator.validatePolicies("datashare:v0", schemaJson, policy);
+		policySchemaValidator.validatePolicies("datashare:v64", schemaJson, policy);
+		Map<?, ?> schemaCache = schemaCache();
+		assertEquals(64, schemaCache.size());
+		assertTrue(schemaCache.containsKey("datashare:v0"));
+		assertFalse(schemaCache.containsKey("datashare:v1"));
+		assertTrue(schemaCache.containsKey("datashare:v64"));
+	}
+
+	private JsonNode readPolicy() throws IOException {
+		File policyFile = new File(classLoader.getResource("sample-qr-code-policy.json").getFile());
+		return new ObjectMapper().readTree(policyFile);
+	}
+
+	private Map<?, ?> schemaCache() throws ReflectiveOperationException {
+		Field field = PolicySchemaValidator.class.getDeclaredField("schemaCache");
+		field.setAccessible(true);
+		return (Map<?, ?>) field.get(policySchemaValidator);
+	}
 }